@@ -3,6 +3,7 @@ module creek.service.api {
     requires transitive creek.service.extension;
     requires creek.base.annotation;
     requires creek.base.type;
+    requires jdk.jfr;
     requires com.github.spotbugs.annotations;
 
     exports org.creekservice.internal.service.api to
@@ -16,7 +17,11 @@ module creek.service.api {
     exports org.creekservice.internal.service.api.extension to
             creek.service.context,
             creek.system.test.executor;
+    exports org.creekservice.internal.service.api.metric to
+            creek.service.context;
     exports org.creekservice.internal.service.api.options to
             creek.service.context,
             creek.system.test.executor;
+    exports org.creekservice.internal.service.api.util to
+            creek.service.context;
 }
@@ -32,6 +32,7 @@ import org.creekservice.api.service.extension.component.ComponentDescriptorColle
 import org.creekservice.internal.service.api.component.ComponentDescriptors;
 import org.creekservice.internal.service.api.component.model.ComponentModel;
 import org.creekservice.internal.service.api.extension.Extensions;
+import org.creekservice.internal.service.api.metric.Metrics;
 import org.creekservice.internal.service.api.options.Options;
 
 /** Implementation of {@link CreekService} */
@@ -40,6 +41,7 @@ public final class Creek implements CreekService {
     private final Options options;
     private final Components components;
     private final Extensions extensions;
+    private final Metrics metrics = new Metrics();
 
     /**
      * @param components all known component descriptors
@@ -75,6 +77,12 @@ public final class Creek implements CreekService {
         return extensions;
     }
 
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "intentional exposure")
+    @Override
+    public Metrics metrics() {
+        return metrics;
+    }
+
     /** Implementation of {@link ComponentAccessor} */
     public static final class Components implements ComponentAccessor {
 
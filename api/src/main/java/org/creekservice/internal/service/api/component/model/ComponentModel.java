@@ -20,9 +20,9 @@ import static java.lang.System.lineSeparator;
 import static java.util.Objects.requireNonNull;
 import static org.creekservice.api.base.type.CodeLocation.codeLocation;
 
-import java.util.ConcurrentModificationException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.creekservice.api.base.annotation.VisibleForTesting;
 import org.creekservice.api.platform.metadata.ResourceDescriptor;
@@ -31,8 +31,14 @@ import org.creekservice.api.service.extension.component.model.ComponentModelCont
 import org.creekservice.api.service.extension.component.model.ResourceHandler;
 import org.creekservice.internal.service.api.extension.Extensions;
 import org.creekservice.internal.service.api.util.SubTypeAwareMap;
+import org.creekservice.internal.service.api.util.ThreadConfinement;
 
-/** Implementation of {@link ComponentModelContainer} */
+/**
+ * Implementation of {@link ComponentModelContainer}
+ *
+ * <p>Once {@link #freeze() frozen}, the model can be read from any thread, without locking.
+ * Adding resources remains confined to the owning thread.
+ */
 public final class ComponentModel implements ComponentModelContainer {
 
     private final long threadId;
@@ -40,6 +46,9 @@ public final class ComponentModel implements ComponentModelContainer {
     private final SubTypeAwareMap<ResourceDescriptor, ResourceExtension<?>> resourceExtensions =
             new SubTypeAwareMap<>();
 
+    /** Immutable copy of resource extensions, published on freeze: null until then. */
+    private volatile SubTypeAwareMap<ResourceDescriptor, ResourceExtension<?>> published;
+
     /**
      * @param extensions known extensions to Creek Service.
      */
@@ -54,7 +63,7 @@ public final class ComponentModel implements ComponentModelContainer {
     }
 
     @Override
-    public <T extends ResourceDescriptor> ComponentModelContainer addResource(
+    public synchronized <T extends ResourceDescriptor> ComponentModelContainer addResource(
             final Class<T> type, final ResourceHandler<? super T> handler) {
         throwIfNotOnCorrectThread();
 
@@ -77,30 +86,70 @@ public final class ComponentModel implements ComponentModelContainer {
                         extensions
                                 .currentlyInitialising()
                                 .orElseThrow(NotWithinInitializeException::new)));
+
+        if (published != null) {
+            published = copy(resourceExtensions);
+        }
         return this;
     }
 
     @Override
     public boolean hasType(final Class<? extends ResourceDescriptor> type) {
-        throwIfNotOnCorrectThread();
-
-        return resourceExtension(type).isPresent();
+        return read(types -> resourceExtension(types, type).isPresent());
     }
 
     @Override
     public <T extends ResourceDescriptor> ResourceHandler<T> resourceHandler(
             final Class<T> resourceType) {
+        return read(
+                types ->
+                        resourceExtension(types, resourceType)
+                                .map(ext -> ext.handler)
+                                .orElseThrow(
+                                        () ->
+                                                new UnsupportedResourceTypesException(
+                                                        resourceType, types.keySet())));
+    }
+
+    /**
+     * Freeze the model, making it readable from any thread.
+     *
+     * <p>Called once the Creek context is built. Resources added after this point, e.g. by
+     * extensions whose initialization was deferred, are published to other threads once added.
+     */
+    public synchronized void freeze() {
         throwIfNotOnCorrectThread();
-        return resourceExtension(resourceType)
-                .map(ext -> ext.handler)
-                .orElseThrow(
-                        () ->
-                                new UnsupportedResourceTypesException(
-                                        resourceType, resourceExtensions.keySet()));
+        published = copy(resourceExtensions);
+    }
+
+    /**
+     * Read from the published copy, if frozen, otherwise from the live map, under lock, after
+     * checking the calling thread.
+     */
+    private <R> R read(
+            final Function<SubTypeAwareMap<ResourceDescriptor, ResourceExtension<?>>, R> reader) {
+        final SubTypeAwareMap<ResourceDescriptor, ResourceExtension<?>> frozen = published;
+        if (frozen != null) {
+            return reader.apply(frozen);
+        }
+
+        throwIfNotOnCorrectThread();
+        synchronized (this) {
+            return reader.apply(resourceExtensions);
+        }
+    }
+
+    private static SubTypeAwareMap<ResourceDescriptor, ResourceExtension<?>> copy(
+            final SubTypeAwareMap<ResourceDescriptor, ResourceExtension<?>> source) {
+        final SubTypeAwareMap<ResourceDescriptor, ResourceExtension<?>> copy =
+                new SubTypeAwareMap<>();
+        copy.putAll(source);
+        return copy;
     }
 
     @SuppressWarnings("unchecked")
-    private <T extends ResourceDescriptor> Optional<ResourceExtension<T>> resourceExtension(
+    private static <T extends ResourceDescriptor> Optional<ResourceExtension<T>> resourceExtension(
+            final SubTypeAwareMap<ResourceDescriptor, ResourceExtension<?>> resourceExtensions,
             final Class<T> resourceType) {
         try {
             return resourceExtensions.getOrSub(resourceType).map(e -> (ResourceExtension<T>) e);
@@ -113,9 +162,7 @@ public final class ComponentModel implements ComponentModelContainer {
     }
 
     private void throwIfNotOnCorrectThread() {
-        if (Thread.currentThread().getId() != threadId) {
-            throw new ConcurrentModificationException("Class is not thread safe");
-        }
+        ThreadConfinement.throwIfNotOnThread(threadId);
     }
 
     private static final class ResourceExtension<T extends ResourceDescriptor> {
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.internal.service.api.extension;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** JFR event recording the closing of an extension. */
+@Name("org.creekservice.ExtensionClose")
+@Label("Creek Extension Close")
+@Category({"Creek", "Extension"})
+@Description("Closing of a Creek extension")
+final class ExtensionCloseEvent extends Event {
+
+    @Label("Provider")
+    @Description("The type of the provider of the extension")
+    Class<?> provider;
+
+    @Label("Extension")
+    @Description("The name of the extension")
+    String extension;
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.api.extension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Thrown once all extensions have been closed, or the close timeout has expired, if any extension
+ * failed to close or did not close in time.
+ *
+ * <p>The first failure is the cause. Any others are suppressed.
+ */
+public final class ExtensionCloseException extends RuntimeException {
+
+    /**
+     * @param failed the results of the extensions that did not close successfully.
+     */
+    public ExtensionCloseException(final List<ExtensionCloseResult> failed) {
+        super(
+                "Failed to close extensions: "
+                        + failed.stream()
+                                .map(r -> r.extension() + (r.timedOut() ? " (timed out)" : ""))
+                                .collect(Collectors.toList()),
+                failed.stream()
+                        .map(ExtensionCloseResult::failure)
+                        .flatMap(Optional::stream)
+                        .findFirst()
+                        .orElse(null));
+
+        failed.stream()
+                .map(ExtensionCloseResult::failure)
+                .flatMap(Optional::stream)
+                .skip(1)
+                .forEach(this::addSuppressed);
+    }
+}
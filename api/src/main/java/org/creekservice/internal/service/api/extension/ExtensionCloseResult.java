@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.api.extension;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.creekservice.api.service.extension.CreekExtensionProvider;
+
+/** The outcome of closing, or draining, a single extension. */
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+public final class ExtensionCloseResult {
+
+    private final Class<? extends CreekExtensionProvider<?>> provider;
+    private final String extension;
+    private final Duration duration;
+    private final Optional<Throwable> failure;
+    private final boolean timedOut;
+
+    static ExtensionCloseResult succeeded(
+            final Class<? extends CreekExtensionProvider<?>> provider,
+            final String extension,
+            final Duration duration) {
+        return new ExtensionCloseResult(provider, extension, duration, Optional.empty(), false);
+    }
+
+    static ExtensionCloseResult failed(
+            final Class<? extends CreekExtensionProvider<?>> provider,
+            final String extension,
+            final Duration duration,
+            final Throwable failure) {
+        return new ExtensionCloseResult(
+                provider, extension, duration, Optional.of(failure), false);
+    }
+
+    static ExtensionCloseResult timedOut(
+            final Class<? extends CreekExtensionProvider<?>> provider,
+            final String extension,
+            final Duration duration) {
+        return new ExtensionCloseResult(provider, extension, duration, Optional.empty(), true);
+    }
+
+    private ExtensionCloseResult(
+            final Class<? extends CreekExtensionProvider<?>> provider,
+            final String extension,
+            final Duration duration,
+            final Optional<Throwable> failure,
+            final boolean timedOut) {
+        this.provider = requireNonNull(provider, "provider");
+        this.extension = requireNonNull(extension, "extension");
+        this.duration = requireNonNull(duration, "duration");
+        this.failure = requireNonNull(failure, "failure");
+        this.timedOut = timedOut;
+    }
+
+    /**
+     * @return the type of the provider of the extension.
+     */
+    public Class<? extends CreekExtensionProvider<?>> provider() {
+        return provider;
+    }
+
+    /**
+     * @return the name of the extension.
+     */
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * @return the time taken to close, or drain, the extension, or the time waited before giving
+     *     up, if {@link #timedOut()}.
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    /**
+     * @return the exception thrown by the extension's close, or drain, method, if any.
+     */
+    public Optional<Throwable> failure() {
+        return failure;
+    }
+
+    /**
+     * @return {@code true} if the extension did not finish before the deadline.
+     */
+    public boolean timedOut() {
+        return timedOut;
+    }
+
+    /**
+     * @return {@code true} if the extension finished without error before the deadline.
+     */
+    public boolean successful() {
+        return failure.isEmpty() && !timedOut;
+    }
+
+    @Override
+    public String toString() {
+        return "ExtensionCloseResult{"
+                + "provider="
+                + provider.getName()
+                + ", extension="
+                + extension
+                + ", duration="
+                + duration
+                + ", failure="
+                + failure
+                + ", timedOut="
+                + timedOut
+                + '}';
+    }
+}
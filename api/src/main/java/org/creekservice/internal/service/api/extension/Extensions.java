@@ -19,35 +19,89 @@ package org.creekservice.internal.service.api.extension;
 import static java.util.Objects.requireNonNull;
 import static org.creekservice.api.base.type.CodeLocation.codeLocation;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.creekservice.api.base.annotation.VisibleForTesting;
 import org.creekservice.api.service.extension.CreekExtension;
+import org.creekservice.api.service.extension.CreekExtensionIndex;
 import org.creekservice.api.service.extension.CreekExtensionProvider;
+import org.creekservice.api.service.extension.CreekExtensionProviders;
+import org.creekservice.api.service.extension.LazyCreekExtensionProvider;
 import org.creekservice.api.service.extension.extension.ExtensionContainer;
 import org.creekservice.internal.service.api.Creek;
+import org.creekservice.internal.service.api.util.ThreadConfinement;
 
-/** Implementation of {@link ExtensionContainer} */
+/**
+ * Implementation of {@link ExtensionContainer}
+ *
+ * <p>Instances are confined to the thread that created them, and any worker threads used to
+ * initialize extensions in parallel.
+ *
+ * <p>Once {@link #freeze() frozen}, initialized extensions can be read from any thread, without
+ * locking, and extensions whose initialization was deferred can be initialized from any thread.
+ */
 public final class Extensions implements ExtensionContainer {
 
+    /** The default time allowed for all extensions to close. */
+    public static final Duration DEFAULT_CLOSE_TIMEOUT = Duration.ofSeconds(20);
+
     private final long threadId;
     private final Creek api;
-    private final Stack<CreekExtensionProvider<?>> initStack = new Stack<>();
+    private final ThreadLocal<Stack<CreekExtensionProvider<?>>> initStack =
+            ThreadLocal.withInitial(Stack::new);
 
     @SuppressWarnings("rawtypes")
     private final Map<Class<? extends CreekExtensionProvider>, ExtensionData<?>> applied =
             new HashMap<>();
 
+    @SuppressWarnings("rawtypes")
+    private final Map<Class<? extends CreekExtensionProvider>, InFlight> inFlight =
+            new HashMap<>();
+
+    private final Map<Thread, InFlight> awaiting = new HashMap<>();
+
     private final Map<Class<? extends CreekExtension>, ExtensionData<?>> extensions =
             new LinkedHashMap<>();
 
+    private final Map<Class<? extends CreekExtension>, LazyCreekExtensionProvider<?>> deferred =
+            new LinkedHashMap<>();
+
+    @SuppressWarnings("rawtypes")
+    private final Map<Class<? extends CreekExtensionProvider>, CompletableFuture<Void>>
+            registrations = new HashMap<>();
+
+    /** Immutable snapshot of initialized extensions, republished as each is registered. */
+    private volatile Snapshot snapshot = new Snapshot(List.of());
+
+    private volatile boolean frozen;
+
+    /** Provider type to the types of the providers it depends on, declared or observed. */
+    private final Map<Class<?>, Set<Class<?>>> dependencies = new HashMap<>();
+
+    private final List<Consumer<? super CreekExtension>> registrationListeners =
+            new ArrayList<>();
+
     /**
      * @param api the creek api
      */
@@ -62,11 +116,12 @@ public final class Extensions implements ExtensionContainer {
     }
 
     /**
-     * @return non-empty if an extension is currently being initialized.
+     * @return non-empty if an extension is currently being initialized on the current thread.
      */
     public Optional<CreekExtensionProvider<?>> currentlyInitialising() {
         throwIfNotOnCorrectThread();
-        return initStack.isEmpty() ? Optional.empty() : Optional.of(initStack.peek());
+        final Stack<CreekExtensionProvider<?>> stack = initStack.get();
+        return stack.isEmpty() ? Optional.empty() : Optional.of(stack.peek());
     }
 
     @Override
@@ -78,83 +133,572 @@ public final class Extensions implements ExtensionContainer {
     /**
      * Ensure the extension {@code provider} has been applied, applying if necessary.
      *
+     * <p>If the provider is currently being initialized on another thread, the call blocks until
+     * initialization completes.
+     *
+     * <p>Once {@link #freeze() frozen}, this method can be called from any thread, e.g. to
+     * initialize a deferred extension on first use from a task running on the context's executor.
+     *
      * @param provider the extension provider
      * @param <T> the type of the extension
      * @return the initialised extension
      */
     @SuppressWarnings("unchecked")
     public <T extends CreekExtension> T ensureExtension(final CreekExtensionProvider<T> provider) {
+        if (!frozen) {
+            throwIfNotOnCorrectThread();
+        }
+
+        final InFlight pending;
+        final InFlight initializing;
+        synchronized (this) {
+            recordUse(provider.getClass());
+
+            final ExtensionData<?> alreadyApplied = applied.get(provider.getClass());
+            if (alreadyApplied != null) {
+                return (T) alreadyApplied.extension;
+            }
+
+            pending = inFlight.get(provider.getClass());
+            initializing = pending == null ? new InFlight() : null;
+            if (initializing != null) {
+                inFlight.put(provider.getClass(), initializing);
+            }
+        }
+
+        if (pending != null) {
+            return (T) await(provider, pending).extension;
+        }
+
+        try {
+            final long begin = System.nanoTime();
+            if (provider instanceof LazyCreekExtensionProvider) {
+                registerLazy((LazyCreekExtensionProvider<T>) provider);
+            }
+            ensureDependencies(provider);
+            final T ext = initialize(provider);
+            final ExtensionData<T> data;
+            final List<Consumer<? super CreekExtension>> listeners;
+            synchronized (this) {
+                data = register(provider, ext, Duration.ofNanos(System.nanoTime() - begin));
+                listeners = List.copyOf(registrationListeners);
+            }
+            initializing.result.complete(data);
+            listeners.forEach(listener -> listener.accept(data.extension));
+            return data.extension;
+        } catch (final RuntimeException | Error e) {
+            initializing.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            synchronized (this) {
+                inFlight.remove(provider.getClass());
+            }
+        }
+    }
+
+    /**
+     * Ensure the extensions of all the supplied {@code providers} have been applied.
+     *
+     * <p>Providers are initialized in dependency order, as defined by {@link
+     * CreekExtensionProvider#dependsOn()}. Providers that do not depend on each other are
+     * initialized concurrently, using up to {@code parallelism} worker threads. The call blocks
+     * until all providers are initialized.
+     *
+     * <p>Any declared dependency not in {@code providers} is instantiated and initialized too.
+     *
+     * <p>The initialization of any {@link LazyCreekExtensionProvider lazy providers} is deferred:
+     * they are only registered. Each is initialized when its extension is first requested, or
+     * when a provider that declares a dependency on it is initialized, whichever comes first.
+     *
+     * @param providers the extension providers to apply.
+     * @param parallelism the maximum number of providers to initialize concurrently.
+     * @throws IllegalArgumentException on circular provider dependencies.
+     */
+    public void ensureExtensions(
+            final Collection<? extends CreekExtensionProvider<?>> providers,
+            final int parallelism) {
         throwIfNotOnCorrectThread();
-        final ExtensionData<?> alreadyApplied = applied.get(provider.getClass());
-        if (alreadyApplied != null) {
-            return (T) alreadyApplied.extension;
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
         }
 
-        final T ext = initialize(provider);
+        final ProviderGraph graph = ProviderGraph.build(providers, Extensions::instantiate);
+        final List<CreekExtensionProvider<?>> ordered = graph.ordered();
+        if (parallelism == 1 || ordered.size() <= 1) {
+            ordered.forEach(this::ensureAppliedOrDeferred);
+            return;
+        }
 
-        final ExtensionData<T> data =
-                new ExtensionData<>(
-                        ext, (Class<? extends CreekExtensionProvider<T>>) provider.getClass());
-        extensions.compute(
-                ext.getClass(),
-                (k, existing) -> {
-                    if (existing != null) {
-                        throw new ExtensionTypeClashException(ext, provider, existing.provider);
-                    }
-                    return data;
-                });
+        final ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        Math.min(parallelism, ordered.size()),
+                        ThreadConfinement.workerThreadFactory("creek-extension-init"));
+        try {
+            final Map<CreekExtensionProvider<?>, CompletableFuture<Void>> results =
+                    new LinkedHashMap<>();
+            ordered.forEach(
+                    provider -> {
+                        final CompletableFuture<?>[] deps =
+                                graph.dependencies(provider).stream()
+                                        .map(results::get)
+                                        .toArray(CompletableFuture[]::new);
 
-        applied.put(provider.getClass(), data);
-        return ext;
+                        results.put(
+                                provider,
+                                CompletableFuture.allOf(deps)
+                                        .thenRunAsync(
+                                                () -> ensureAppliedOrDeferred(provider),
+                                                executor));
+                    });
+
+            awaitAll(results.values());
+        } finally {
+            executor.shutdown();
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The iterator only covers initialized extensions, i.e. not those whose initialization is
+     * deferred.
+     */
     @SuppressWarnings("NullableProblems")
     @Override
     public Iterator<CreekExtension> iterator() {
-        throwIfNotOnCorrectThread();
-        return extensions.values().stream().<CreekExtension>map(data -> data.extension).iterator();
+        return readable().extensions.stream()
+                .<CreekExtension>map(data -> data.extension)
+                .iterator();
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the extension's initialization was deferred, it is initialized now. Once {@link
+     * #freeze() frozen}, any thread can trigger the initialization: concurrent callers wait for
+     * the first to complete it.
+     *
+     * <p>The extension resolved for each requested type is cached, so repeated lookups do not
+     * need to scan the installed extensions.
+     */
     @Override
     public <T extends CreekExtension> T get(final Class<T> extensionType) {
+        final Snapshot current = readable();
+        final ExtensionData<?> initialized = current.find(extensionType);
+        if (initialized != null) {
+            if (!frozen || ThreadConfinement.isOnThread(threadId)) {
+                synchronized (this) {
+                    recordUse(initialized.provider);
+                }
+            }
+            return extensionType.cast(initialized.extension);
+        }
+
+        return findDeferred(extensionType)
+                .map(provider -> extensionType.cast(ensureExtension(provider)))
+                .orElseThrow(
+                        () -> new UnknownExtensionException(extensionType, current.extensions));
+    }
+
+    /**
+     * Get the time taken to initialize each applied provider.
+     *
+     * <p>The time taken by a provider includes the time taken to initialize any other providers
+     * it ensured during its own initialization.
+     *
+     * @return map of provider type to initialization time, in the order providers were applied.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Class<? extends CreekExtensionProvider<?>>, Duration> initializationTimes() {
+        final Map<Class<? extends CreekExtensionProvider<?>>, Duration> times =
+                new LinkedHashMap<>();
+        readable()
+                .extensions
+                .forEach(
+                        data ->
+                                times.put(
+                                        (Class<? extends CreekExtensionProvider<?>>)
+                                                (Class<?>) data.provider,
+                                        data.initDuration));
+        return times;
+    }
+
+    /**
+     * Register a listener to be called with each initialized extension.
+     *
+     * <p>The listener is called immediately, on the calling thread, for each extension already
+     * initialized, and then for each extension initialized later, e.g. those whose initialization
+     * was deferred, on the thread that initialized it. Each extension is passed to the listener
+     * exactly once.
+     *
+     * <p>Once {@link #freeze() frozen}, this method can be called from any thread.
+     *
+     * @param listener the listener to call.
+     */
+    public void onRegistration(final Consumer<? super CreekExtension> listener) {
+        if (!frozen) {
+            throwIfNotOnCorrectThread();
+        }
+        requireNonNull(listener, "listener");
+
+        final List<ExtensionData<?>> existing;
+        synchronized (this) {
+            registrationListeners.add(listener);
+            existing = snapshot.extensions;
+        }
+        existing.forEach(data -> listener.accept(data.extension));
+    }
+
+    /**
+     * Freeze the container, making initialized extensions readable from any thread.
+     *
+     * <p>Called once the Creek context is built. Extensions initialized after this point, i.e.
+     * those whose initialization was deferred, are published to other threads once initialized.
+     */
+    public void freeze() {
         throwIfNotOnCorrectThread();
-        return (T)
-                extensions.values().stream()
-                        .filter(data -> extensionType.isAssignableFrom(data.extension.getClass()))
-                        .map(data -> data.extension)
-                        .findFirst()
-                        .orElseThrow(
-                                () ->
-                                        new UnknownExtensionException(
-                                                extensionType, extensions.values()));
-    }
-
-    /** Close all extensions. */
+        frozen = true;
+    }
+
+    /**
+     * Close all initialized extensions, waiting up to the {@link #DEFAULT_CLOSE_TIMEOUT default
+     * timeout}.
+     *
+     * @throws ExtensionCloseException if any extension failed to close, or did not close in time,
+     *     once all extensions have been closed or the timeout has expired.
+     * @see #close(Duration)
+     */
     public void close() {
-        throwIfNotOnCorrectThread();
+        final List<ExtensionCloseResult> failed =
+                close(DEFAULT_CLOSE_TIMEOUT).stream()
+                        .filter(result -> !result.successful())
+                        .collect(Collectors.toList());
+
+        if (!failed.isEmpty()) {
+            throw new ExtensionCloseException(failed);
+        }
+    }
+
+    /**
+     * Close all initialized extensions.
+     *
+     * <p>Extensions are closed in reverse dependency order: an extension is only closed once all
+     * extensions that depend on it are closed. Dependencies are those declared via {@link
+     * CreekExtensionProvider#dependsOn()} and those observed during initialization, i.e. via calls
+     * to {@link #ensureExtension} or {@link #get}. Extensions that do not depend on each other are
+     * closed concurrently.
+     *
+     * <p>A failure to close one extension does not stop others from being closed. Extensions
+     * still closing when the {@code timeout} expires are abandoned and reported as timed out.
+     *
+     * <p>Once {@link #freeze() frozen}, this method can be called from any thread, e.g. when
+     * terminating the service from an uncaught exception handler.
+     *
+     * <p>The order is derived from the dependencies alone, not the order extensions were
+     * initialized in, as extensions whose initialization was deferred may be initialized after
+     * extensions that depend on them are registered.
+     *
+     * @param timeout the maximum time to wait for all extensions to close.
+     * @return the result of closing each extension, with dependents before their dependencies.
+     */
+    public List<ExtensionCloseResult> close(final Duration timeout) {
+        return inCloseOrder(timeout, "creek-extension-close", Extensions::closeExtension);
+    }
+
+    /**
+     * Drain all initialized extensions.
+     *
+     * <p>Extensions are drained in the same order as they are {@link #close(Duration) closed}: an
+     * extension is only drained once all extensions that depend on it are drained, so that
+     * dependents can flush work into their dependencies before those are drained in turn.
+     * Extensions that do not depend on each other are drained concurrently.
+     *
+     * <p>A failure to drain one extension does not stop others from being drained. Extensions
+     * still draining when the {@code timeout} expires are abandoned and reported as timed out.
+     *
+     * <p>Once {@link #freeze() frozen}, this method can be called from any thread.
+     *
+     * @param timeout the maximum time to wait for all extensions to drain.
+     * @return the result of draining each extension, with dependents before their dependencies.
+     */
+    public List<ExtensionCloseResult> drain(final Duration timeout) {
+        return inCloseOrder(timeout, "creek-extension-drain", Extensions::drainExtension);
+    }
+
+    private List<ExtensionCloseResult> inCloseOrder(
+            final Duration timeout,
+            final String threadName,
+            final Function<ExtensionData<?>, ExtensionCloseResult> action) {
+        if (!frozen) {
+            throwIfNotOnCorrectThread();
+        }
+        requireNonNull(timeout, "timeout");
 
-        extensions.values().stream().map(ed -> ed.extension).forEach(CreekExtension::close);
+        final List<ExtensionData<?>> initialized = snapshot.extensions;
+        if (initialized.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<Class<?>, Set<Class<?>>> dependencies;
+        synchronized (this) {
+            dependencies = Map.copyOf(this.dependencies);
+        }
+
+        final long start = System.nanoTime();
+        final ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        initialized.size(),
+                        ThreadConfinement.workerThreadFactory(threadName));
+        try {
+            final CloseOrder order = new CloseOrder(initialized, dependencies, executor, action);
+            for (int i = initialized.size() - 1; i >= 0; i--) {
+                order.schedule(initialized.get(i));
+            }
+            final Map<ExtensionData<?>, CompletableFuture<ExtensionCloseResult>> results =
+                    order.results;
+
+            awaitClose(results.values(), timeout);
+
+            final Duration waited = Duration.ofNanos(System.nanoTime() - start);
+            return results.entrySet().stream()
+                    .map(
+                            e ->
+                                    e.getValue()
+                                            .getNow(
+                                                    ExtensionCloseResult.timedOut(
+                                                            e.getKey().provider,
+                                                            name(e.getKey()),
+                                                            waited)))
+                    .collect(Collectors.toUnmodifiableList());
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     private void throwIfNotOnCorrectThread() {
-        if (Thread.currentThread().getId() != threadId) {
-            throw new ConcurrentModificationException("Class is not thread safe");
+        ThreadConfinement.throwIfNotOnThread(threadId);
+    }
+
+    private Snapshot readable() {
+        if (!frozen) {
+            throwIfNotOnCorrectThread();
         }
+        return snapshot;
+    }
+
+    private synchronized Optional<LazyCreekExtensionProvider<?>> findDeferred(
+            final Class<?> extensionType) {
+        return deferred.entrySet().stream()
+                .filter(e -> extensionType.isAssignableFrom(e.getKey()))
+                .<LazyCreekExtensionProvider<?>>map(Map.Entry::getValue)
+                .findFirst();
     }
 
-    private <T extends CreekExtension> CreekExtensionProvider<T> createInstance(
+    /**
+     * Ensure the declared dependencies of the supplied {@code provider} are initialized, including
+     * any lazy dependencies whose initialization was deferred.
+     */
+    private void ensureDependencies(final CreekExtensionProvider<?> provider) {
+        for (final Class<? extends CreekExtensionProvider<?>> type : provider.dependsOn()) {
+            final Optional<CreekExtensionProvider<?>> lazy;
+            synchronized (this) {
+                if (applied.containsKey(type)) {
+                    continue;
+                }
+                lazy =
+                        deferred.values().stream()
+                                .filter(p -> p.getClass() == type)
+                                .<CreekExtensionProvider<?>>map(p -> p)
+                                .findFirst();
+            }
+
+            ensureExtension(lazy.orElseGet(() -> instantiate(type)));
+        }
+    }
+
+    private void ensureAppliedOrDeferred(final CreekExtensionProvider<?> provider) {
+        if (provider instanceof LazyCreekExtensionProvider) {
+            defer((LazyCreekExtensionProvider<?>) provider);
+        } else {
+            ensureExtension(provider);
+        }
+    }
+
+    private void defer(final LazyCreekExtensionProvider<?> provider) {
+        synchronized (this) {
+            if (applied.containsKey(provider.getClass())) {
+                return;
+            }
+        }
+
+        registerLazy(provider);
+
+        synchronized (this) {
+            if (applied.containsKey(provider.getClass())
+                    || deferred.values().stream()
+                            .anyMatch(p -> p.getClass() == provider.getClass())) {
+                return;
+            }
+
+            final Class<? extends CreekExtension> type = provider.extensionType();
+            final ExtensionData<?> existing = extensions.get(type);
+            if (existing != null) {
+                throw new ExtensionTypeClashException(type, provider, existing.provider);
+            }
+
+            final LazyCreekExtensionProvider<?> existingLazy = deferred.get(type);
+            if (existingLazy != null) {
+                throw new ExtensionTypeClashException(type, provider, existingLazy.getClass());
+            }
+
+            deferred.put(type, provider);
+        }
+    }
+
+    /**
+     * Call {@link LazyCreekExtensionProvider#register} once per provider type.
+     *
+     * <p>Concurrent callers for the same provider type wait for the first to complete.
+     */
+    private void registerLazy(final LazyCreekExtensionProvider<?> provider) {
+        final CompletableFuture<Void> existing;
+        final CompletableFuture<Void> registration;
+        synchronized (this) {
+            existing = registrations.get(provider.getClass());
+            registration = existing == null ? new CompletableFuture<>() : null;
+            if (registration != null) {
+                registrations.put(provider.getClass(), registration);
+            }
+        }
+
+        final Stack<CreekExtensionProvider<?>> stack = initStack.get();
+        if (existing != null) {
+            if (!existing.isDone()
+                    && stack.stream().anyMatch(p -> p.getClass() == provider.getClass())) {
+                throw new CircularInitializationException(provider);
+            }
+
+            try {
+                existing.join();
+                return;
+            } catch (final CompletionException e) {
+                throw unwrap(e);
+            }
+        }
+
+        try {
+            stack.push(provider);
+            provider.register(api);
+            registration.complete(null);
+        } catch (final RuntimeException | Error e) {
+            registration.completeExceptionally(e);
+            throw e;
+        } finally {
+            stack.pop();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends CreekExtension> CreekExtensionProvider<T> createInstance(
             final Class<? extends CreekExtensionProvider<T>> providerType) {
+        return (CreekExtensionProvider<T>) instantiate(providerType);
+    }
+
+    /**
+     * Create a new instance of a provider.
+     *
+     * <p>The provider is created using the factory in the {@link CreekExtensionIndex extension
+     * index}, if present, otherwise via its no-args constructor.
+     *
+     * @param providerType the type of provider to create.
+     * @return the new provider.
+     */
+    public static CreekExtensionProvider<?> instantiate(
+            final Class<? extends CreekExtensionProvider<?>> providerType) {
         try {
+            final Optional<CreekExtensionIndex.Entry> indexed =
+                    CreekExtensionProviders.indexed(providerType);
+            if (indexed.isPresent()) {
+                return indexed.get().create();
+            }
             return providerType.getDeclaredConstructor().newInstance();
         } catch (final Exception | LinkageError e) {
             throw new FailedToInstantiateProviderException(providerType, e);
         }
     }
 
+    /**
+     * Record that the provider currently being initialized on this thread, if any, uses the
+     * provider of the supplied type.
+     */
+    private void recordUse(final Class<?> providerType) {
+        final Stack<CreekExtensionProvider<?>> stack = initStack.get();
+        if (!stack.isEmpty() && stack.peek().getClass() != providerType) {
+            dependencies
+                    .computeIfAbsent(stack.peek().getClass(), k -> new HashSet<>())
+                    .add(providerType);
+        }
+    }
+
+    private static void awaitClose(
+            final Collection<CompletableFuture<ExtensionCloseResult>> results,
+            final Duration timeout) {
+        try {
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                    .get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            // Results not yet complete are reported as timed out.
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            // Not possible: actions capture failures in their result.
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static String name(final ExtensionData<?> data) {
+        return String.valueOf(data.extension.name());
+    }
+
+    private static ExtensionCloseResult closeExtension(final ExtensionData<?> data) {
+        final String name = name(data);
+        final ExtensionCloseEvent event = new ExtensionCloseEvent();
+        final long start = System.nanoTime();
+        event.begin();
+        try {
+            data.extension.close();
+            return ExtensionCloseResult.succeeded(
+                    data.provider, name, Duration.ofNanos(System.nanoTime() - start));
+        } catch (final RuntimeException | Error e) {
+            return ExtensionCloseResult.failed(
+                    data.provider, name, Duration.ofNanos(System.nanoTime() - start), e);
+        } finally {
+            if (event.shouldCommit()) {
+                event.provider = data.provider;
+                event.extension = data.extension.name();
+                event.commit();
+            }
+        }
+    }
+
+    private static ExtensionCloseResult drainExtension(final ExtensionData<?> data) {
+        final long start = System.nanoTime();
+        try {
+            data.extension.drain();
+            return ExtensionCloseResult.succeeded(
+                    data.provider, name(data), Duration.ofNanos(System.nanoTime() - start));
+        } catch (final RuntimeException | Error e) {
+            return ExtensionCloseResult.failed(
+                    data.provider, name(data), Duration.ofNanos(System.nanoTime() - start), e);
+        }
+    }
+
     private <T extends CreekExtension> T initialize(final CreekExtensionProvider<T> provider) {
+        final Stack<CreekExtensionProvider<?>> stack = initStack.get();
+        final ExtensionInitializeEvent event = new ExtensionInitializeEvent();
+        event.begin();
         try {
-            initStack.push(provider);
+            stack.push(provider);
             final T ext = provider.initialize(api);
             if (ext == null) {
                 throw new NullPointerException(
@@ -166,18 +710,205 @@ public final class Extensions implements ExtensionContainer {
             }
             return ext;
         } finally {
-            initStack.pop();
+            stack.pop();
+            if (event.shouldCommit()) {
+                event.provider = provider.getClass();
+                event.commit();
+            }
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private synchronized <T extends CreekExtension> ExtensionData<T> register(
+            final CreekExtensionProvider<T> provider, final T ext, final Duration initDuration) {
+        final ExtensionData<T> data =
+                new ExtensionData<>(
+                        ext,
+                        (Class<? extends CreekExtensionProvider<T>>) provider.getClass(),
+                        initDuration);
+        extensions.compute(
+                ext.getClass(),
+                (k, existing) -> {
+                    if (existing != null) {
+                        throw new ExtensionTypeClashException(
+                                ext.getClass(), provider, existing.provider);
+                    }
+                    return data;
+                });
+
+        applied.put(provider.getClass(), data);
+        dependencies
+                .computeIfAbsent(provider.getClass(), k -> new HashSet<>())
+                .addAll(provider.dependsOn());
+        deferred.values().removeIf(p -> p.getClass() == provider.getClass());
+        snapshot = new Snapshot(List.copyOf(extensions.values()));
+        return data;
+    }
+
+    private ExtensionData<?> await(
+            final CreekExtensionProvider<?> provider, final InFlight pending) {
+        final Thread current = Thread.currentThread();
+        synchronized (this) {
+            if (wouldDeadlock(pending)) {
+                throw new CircularInitializationException(provider);
+            }
+            awaiting.put(current, pending);
+        }
+
+        try {
+            return pending.result.join();
+        } catch (final CompletionException e) {
+            throw unwrap(e);
+        } finally {
+            synchronized (this) {
+                awaiting.remove(current);
+            }
+        }
+    }
+
+    /**
+     * Determine if waiting on {@code target} would deadlock.
+     *
+     * <p>It would, if the thread initializing the target is the current thread, or is itself
+     * transitively waiting on a provider being initialized by the current thread.
+     */
+    private boolean wouldDeadlock(final InFlight target) {
+        final Thread current = Thread.currentThread();
+        InFlight next = target;
+        while (next != null) {
+            if (next.thread == current) {
+                return true;
+            }
+            next = awaiting.get(next.thread);
+        }
+        return false;
+    }
+
+    private static void awaitAll(final Collection<CompletableFuture<Void>> results) {
+        // Wait for all to complete, successfully or otherwise:
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+
+        // Report the first failure in initialization order, as later failures may be caused by it:
+        for (final CompletableFuture<Void> result : results) {
+            try {
+                result.join();
+            } catch (final CompletionException e) {
+                throw unwrap(e);
+            }
+        }
+    }
+
+    private static RuntimeException unwrap(final CompletionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return e;
+    }
+
+    /** Immutable snapshot of initialized extensions, with a cache of lookups by type. */
+    private static final class Snapshot {
+
+        final List<ExtensionData<?>> extensions;
+
+        private final ClassValue<Optional<ExtensionData<?>>> byType =
+                new ClassValue<>() {
+                    @Override
+                    protected Optional<ExtensionData<?>> computeValue(final Class<?> type) {
+                        return extensions.stream()
+                                .filter(data -> type.isInstance(data.extension))
+                                .findFirst();
+                    }
+                };
+
+        Snapshot(final List<ExtensionData<?>> extensions) {
+            this.extensions = requireNonNull(extensions, "extensions");
+        }
+
+        /**
+         * @param type the type of extension to find.
+         * @return the first initialized extension of the supplied {@code type}, or {@code null}.
+         */
+        ExtensionData<?> find(final Class<?> type) {
+            return byType.get(type).orElse(null);
+        }
+    }
+
+    /**
+     * Schedules an action, e.g. closing, on each extension once the action has completed on all
+     * extensions that depend on it.
+     */
+    private static final class CloseOrder {
+
+        private final List<ExtensionData<?>> initialized;
+        private final Map<Class<?>, Set<Class<?>>> dependencies;
+        private final Executor executor;
+        private final Function<ExtensionData<?>, ExtensionCloseResult> action;
+        private final Set<ExtensionData<?>> visiting = new HashSet<>();
+        private final Map<ExtensionData<?>, CompletableFuture<ExtensionCloseResult>> results =
+                new LinkedHashMap<>();
+
+        CloseOrder(
+                final List<ExtensionData<?>> initialized,
+                final Map<Class<?>, Set<Class<?>>> dependencies,
+                final Executor executor,
+                final Function<ExtensionData<?>, ExtensionCloseResult> action) {
+            this.initialized = requireNonNull(initialized, "initialized");
+            this.dependencies = requireNonNull(dependencies, "dependencies");
+            this.executor = requireNonNull(executor, "executor");
+            this.action = requireNonNull(action, "action");
+        }
+
+        CompletableFuture<ExtensionCloseResult> schedule(final ExtensionData<?> data) {
+            final CompletableFuture<ExtensionCloseResult> existing = results.get(data);
+            if (existing != null) {
+                return existing;
+            }
+
+            // Skip dependents already being visited, rather than recursing forever on a cycle:
+            visiting.add(data);
+            final CompletableFuture<?>[] dependents =
+                    initialized.stream()
+                            .filter(other -> !visiting.contains(other))
+                            .filter(other -> dependsOn(other, data))
+                            .map(this::schedule)
+                            .toArray(CompletableFuture[]::new);
+            visiting.remove(data);
+
+            final CompletableFuture<ExtensionCloseResult> result =
+                    CompletableFuture.allOf(dependents)
+                            .thenApplyAsync(ignored -> action.apply(data), executor);
+            results.put(data, result);
+            return result;
+        }
+
+        private boolean dependsOn(final ExtensionData<?> dependent, final ExtensionData<?> data) {
+            return dependencies.getOrDefault(dependent.provider, Set.of()).contains(data.provider);
+        }
+    }
+
+    private static final class InFlight {
+        private final Thread thread = Thread.currentThread();
+        private final CompletableFuture<ExtensionData<?>> result = new CompletableFuture<>();
+    }
+
     private static final class ExtensionData<T extends CreekExtension> {
         private final T extension;
         private final Class<? extends CreekExtensionProvider<T>> provider;
+        private final Duration initDuration;
 
         private ExtensionData(
-                final T extension, final Class<? extends CreekExtensionProvider<T>> provider) {
+                final T extension,
+                final Class<? extends CreekExtensionProvider<T>> provider,
+                final Duration initDuration) {
             this.extension = requireNonNull(extension, "extension");
             this.provider = requireNonNull(provider, "provider");
+            this.initDuration = requireNonNull(initDuration, "initDuration");
         }
     }
 
@@ -193,13 +924,13 @@ public final class Extensions implements ExtensionContainer {
 
     private static class ExtensionTypeClashException extends IllegalArgumentException {
         ExtensionTypeClashException(
-                final CreekExtension type,
+                final Class<?> type,
                 final CreekExtensionProvider<?> currentProvider,
-                final Class<? extends CreekExtensionProvider<?>> existingProvider) {
+                final Class<?> existingProvider) {
             super(
                     "Multiple extension providers returned the same extension type. This is not"
                             + " supported. extension_type: "
-                            + type.getClass().getName()
+                            + type.getName()
                             + ", current_provider: "
                             + currentProvider.getClass().getName()
                             + " ("
@@ -213,6 +944,17 @@ public final class Extensions implements ExtensionContainer {
         }
     }
 
+    private static final class CircularInitializationException extends IllegalStateException {
+        CircularInitializationException(final CreekExtensionProvider<?> provider) {
+            super(
+                    "Circular dependency detected while initializing extension provider: "
+                            + provider.getClass().getName()
+                            + " ("
+                            + codeLocation(provider)
+                            + ")");
+        }
+    }
+
     private static class UnknownExtensionException extends IllegalArgumentException {
         UnknownExtensionException(
                 final Class<?> extensionType, final Collection<ExtensionData<?>> extensions) {
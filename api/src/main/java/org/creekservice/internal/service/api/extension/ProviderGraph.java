@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.api.extension;
+
+import static java.util.Objects.requireNonNull;
+import static org.creekservice.api.base.type.CodeLocation.codeLocation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.creekservice.api.service.extension.CreekExtensionProvider;
+
+/** The graph of declared dependencies between extension providers. */
+final class ProviderGraph {
+
+    private final List<CreekExtensionProvider<?>> ordered;
+    private final Map<Class<?>, List<CreekExtensionProvider<?>>> dependencies;
+
+    /**
+     * Build the graph.
+     *
+     * @param providers the providers to initialize.
+     * @param factory factory used to create any dependency not in {@code providers}.
+     * @return the graph.
+     * @throws IllegalArgumentException on circular dependencies.
+     */
+    static ProviderGraph build(
+            final Collection<? extends CreekExtensionProvider<?>> providers,
+            final Function<Class<? extends CreekExtensionProvider<?>>, CreekExtensionProvider<?>>
+                    factory) {
+
+        final Map<Class<?>, CreekExtensionProvider<?>> byType = new LinkedHashMap<>();
+        providers.forEach(p -> byType.putIfAbsent(p.getClass(), p));
+
+        final Map<Class<?>, List<CreekExtensionProvider<?>>> dependencies = new LinkedHashMap<>();
+        final List<CreekExtensionProvider<?>> pending = new ArrayList<>(byType.values());
+        while (!pending.isEmpty()) {
+            final CreekExtensionProvider<?> provider = pending.remove(0);
+            final List<CreekExtensionProvider<?>> deps = new ArrayList<>();
+            for (final Class<? extends CreekExtensionProvider<?>> depType : provider.dependsOn()) {
+                CreekExtensionProvider<?> dep = byType.get(depType);
+                if (dep == null) {
+                    dep = factory.apply(depType);
+                    byType.put(depType, dep);
+                    pending.add(dep);
+                }
+                deps.add(dep);
+            }
+            dependencies.put(provider.getClass(), deps);
+        }
+
+        final Set<Class<?>> visited = new HashSet<>();
+        final LinkedHashSet<CreekExtensionProvider<?>> path = new LinkedHashSet<>();
+        final List<CreekExtensionProvider<?>> ordered = new ArrayList<>(byType.size());
+        byType.values().forEach(p -> visit(p, dependencies, visited, path, ordered));
+        return new ProviderGraph(ordered, dependencies);
+    }
+
+    private ProviderGraph(
+            final List<CreekExtensionProvider<?>> ordered,
+            final Map<Class<?>, List<CreekExtensionProvider<?>>> dependencies) {
+        this.ordered = List.copyOf(requireNonNull(ordered, "ordered"));
+        this.dependencies = Map.copyOf(requireNonNull(dependencies, "dependencies"));
+    }
+
+    /**
+     * @return all providers, ordered such that dependencies come before their dependents.
+     */
+    List<CreekExtensionProvider<?>> ordered() {
+        return ordered;
+    }
+
+    /**
+     * @param provider the provider.
+     * @return the providers the supplied {@code provider} depends on.
+     */
+    List<CreekExtensionProvider<?>> dependencies(final CreekExtensionProvider<?> provider) {
+        return dependencies.getOrDefault(provider.getClass(), List.of());
+    }
+
+    private static void visit(
+            final CreekExtensionProvider<?> provider,
+            final Map<Class<?>, List<CreekExtensionProvider<?>>> dependencies,
+            final Set<Class<?>> visited,
+            final LinkedHashSet<CreekExtensionProvider<?>> path,
+            final List<CreekExtensionProvider<?>> ordered) {
+        if (visited.contains(provider.getClass())) {
+            return;
+        }
+
+        if (!path.add(provider)) {
+            throw new CircularProviderDependencyException(path, provider);
+        }
+
+        dependencies
+                .get(provider.getClass())
+                .forEach(dep -> visit(dep, dependencies, visited, path, ordered));
+
+        path.remove(provider);
+        visited.add(provider.getClass());
+        ordered.add(provider);
+    }
+
+    private static final class CircularProviderDependencyException
+            extends IllegalArgumentException {
+        CircularProviderDependencyException(
+                final Collection<CreekExtensionProvider<?>> path,
+                final CreekExtensionProvider<?> provider) {
+            super(
+                    "Circular dependency between extension providers: "
+                            + path.stream()
+                                    .dropWhile(p -> p != provider)
+                                    .map(p -> p.getClass().getName())
+                                    .collect(Collectors.joining(" -> ", "", " -> "))
+                            + provider.getClass().getName()
+                            + " ("
+                            + codeLocation(provider)
+                            + ")");
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.api.metric;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.creekservice.api.service.extension.metric.Counter;
+import org.creekservice.api.service.extension.metric.MetricRegistry;
+import org.creekservice.api.service.extension.metric.MetricsSnapshot;
+import org.creekservice.api.service.extension.metric.Timer;
+import org.creekservice.api.service.extension.metric.TimerSnapshot;
+
+/**
+ * Implementation of {@link MetricRegistry}.
+ *
+ * <p>Counters and timers are built on {@link LongAdder} and {@link LongAccumulator}, which stripe
+ * updates across cells under contention, so recording is lock-free and, once the cells are
+ * allocated, allocation-free.
+ */
+public final class Metrics implements MetricRegistry {
+
+    private final Map<String, Object> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public Counter counter(final String name) {
+        return get(name, StripedCounter.class, StripedCounter::new);
+    }
+
+    @Override
+    public Timer timer(final String name) {
+        return get(name, StripedTimer.class, StripedTimer::new);
+    }
+
+    @Override
+    public void gauge(final String name, final LongSupplier value) {
+        final Gauge gauge = new Gauge(value);
+        final Object existing = metrics.putIfAbsent(validate(name), gauge);
+        if (existing != null) {
+            throw new IllegalArgumentException(
+                    "Metric already registered as a "
+                            + typeName(existing.getClass())
+                            + ": "
+                            + name);
+        }
+    }
+
+    @Override
+    public MetricsSnapshot snapshot() {
+        final Map<String, Long> counters = new HashMap<>();
+        final Map<String, Long> gauges = new HashMap<>();
+        final Map<String, TimerSnapshot> timers = new HashMap<>();
+
+        metrics.forEach(
+                (name, metric) -> {
+                    if (metric instanceof StripedCounter) {
+                        counters.put(name, ((StripedCounter) metric).count());
+                    } else if (metric instanceof StripedTimer) {
+                        timers.put(name, ((StripedTimer) metric).snapshot());
+                    } else {
+                        try {
+                            gauges.put(name, ((Gauge) metric).value.getAsLong());
+                        } catch (final RuntimeException e) {
+                            // Omit failing gauge
+                        }
+                    }
+                });
+
+        return MetricsSnapshot.of(counters, gauges, timers);
+    }
+
+    private <T> T get(final String name, final Class<T> type, final Supplier<T> factory) {
+        final Object metric = metrics.computeIfAbsent(validate(name), k -> factory.get());
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException(
+                    "Metric already registered as a "
+                            + typeName(metric.getClass())
+                            + ", not a "
+                            + typeName(type)
+                            + ": "
+                            + name);
+        }
+        return type.cast(metric);
+    }
+
+    private static String validate(final String name) {
+        if (requireNonNull(name, "name").isBlank()) {
+            throw new IllegalArgumentException("name can not be blank");
+        }
+        return name;
+    }
+
+    private static String typeName(final Class<?> type) {
+        if (type == StripedCounter.class) {
+            return "counter";
+        }
+        if (type == StripedTimer.class) {
+            return "timer";
+        }
+        return "gauge";
+    }
+
+    private static final class StripedCounter implements Counter {
+
+        private final LongAdder count = new LongAdder();
+
+        @Override
+        public void increment() {
+            count.increment();
+        }
+
+        @Override
+        public void add(final long delta) {
+            if (delta < 0) {
+                throw new IllegalArgumentException("delta can not be negative: " + delta);
+            }
+            count.add(delta);
+        }
+
+        @Override
+        public long count() {
+            return count.sum();
+        }
+    }
+
+    private static final class StripedTimer implements Timer {
+
+        private final LongAdder[] buckets = new LongAdder[TimerSnapshot.BUCKETS];
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        StripedTimer() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        @Override
+        public void recordNanos(final long nanos) {
+            final long value = Math.max(0, nanos);
+            buckets[TimerSnapshot.bucketIndex(value)].increment();
+            total.add(value);
+            max.accumulate(value);
+        }
+
+        @Override
+        public TimerSnapshot snapshot() {
+            final long[] counts = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+            }
+            return TimerSnapshot.of(counts, total.sum(), max.get());
+        }
+    }
+
+    private static final class Gauge {
+
+        private final LongSupplier value;
+
+        Gauge(final LongSupplier value) {
+            this.value = requireNonNull(value, "value");
+        }
+    }
+}
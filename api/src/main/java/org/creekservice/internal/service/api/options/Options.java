@@ -16,17 +16,31 @@
 
 package org.creekservice.internal.service.api.options;
 
-import java.util.ConcurrentModificationException;
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.creekservice.api.base.annotation.VisibleForTesting;
 import org.creekservice.api.service.extension.CreekExtensionOptions;
 import org.creekservice.api.service.extension.option.OptionContainer;
 import org.creekservice.internal.service.api.util.SubTypeAwareMap;
+import org.creekservice.internal.service.api.util.ThreadConfinement;
 
-/** Implementation of {@link OptionContainer} */
+/**
+ * Implementation of {@link OptionContainer}
+ *
+ * <p>Once {@link #freeze() frozen}, options can be read from any thread, without locking, and no
+ * more options can be added.
+ *
+ * <p>Freezing resolves every type an option can be looked up by, i.e. each option type and its
+ * option super types, into an immutable table. Lookups of frozen options are therefore a single
+ * map read, and lookups of types with no matching option need not scan the registered options.
+ */
 public final class Options implements OptionContainer {
 
     private final long threadId;
@@ -34,6 +48,9 @@ public final class Options implements OptionContainer {
     private final SubTypeAwareMap<CreekExtensionOptions, CreekExtensionOptions> options =
             new SubTypeAwareMap<>();
 
+    /** Immutable resolved options, published on freeze: null until then. */
+    private volatile Frozen published;
+
     /** Constructor */
     public Options() {
         this(Thread.currentThread().getId());
@@ -45,8 +62,13 @@ public final class Options implements OptionContainer {
     }
 
     @Override
-    public void add(final CreekExtensionOptions option) {
+    public synchronized void add(final CreekExtensionOptions option) {
         throwIfNotOnCorrectThread();
+        if (published != null) {
+            throw new IllegalStateException(
+                    "Options can not be added once the context is built. type: "
+                            + option.getClass().getName());
+        }
 
         options.compute(
                 option.getClass(),
@@ -62,32 +84,144 @@ public final class Options implements OptionContainer {
         unused.add(option.getClass());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Once frozen, options returned are no longer tracked as used.
+     */
     @Override
     public <T extends CreekExtensionOptions> Optional<T> get(final Class<T> type) {
-        throwIfNotOnCorrectThread();
+        final Frozen frozen = published;
+        if (frozen != null) {
+            return frozen.get(type);
+        }
 
-        try {
-            final Optional<T> option = options.getOrSuper(type).map(type::cast);
+        throwIfNotOnCorrectThread();
+        synchronized (this) {
+            final Optional<T> option = find(options, type);
             option.map(CreekExtensionOptions::getClass).ifPresent(unused::remove);
             return option;
-        } catch (final Exception e) {
-            throw new IllegalArgumentException(
-                    "Requested option type is ambiguous: " + type.getName(), e);
         }
     }
 
     /**
+     * Once frozen, the options unused at the point of freezing are returned, and this method can
+     * be called from any thread.
+     *
      * @return extension options supplied by the user, but not used by any extension, i.e.
      *     superfluous options.
      */
     public Set<CreekExtensionOptions> unused() {
+        final Frozen frozen = published;
+        if (frozen != null) {
+            return frozen.unused;
+        }
+
+        throwIfNotOnCorrectThread();
+        synchronized (this) {
+            return unusedOptions();
+        }
+    }
+
+    /**
+     * Freeze the options, making them readable from any thread.
+     *
+     * <p>Called once the Creek context is built.
+     */
+    public synchronized void freeze() {
         throwIfNotOnCorrectThread();
+        published = new Frozen(options, unusedOptions());
+    }
+
+    private Set<CreekExtensionOptions> unusedOptions() {
         return unused.stream().map(options::get).collect(Collectors.toUnmodifiableSet());
     }
 
+    private static <T extends CreekExtensionOptions> Optional<T> find(
+            final SubTypeAwareMap<CreekExtensionOptions, CreekExtensionOptions> options,
+            final Class<T> type) {
+        try {
+            return options.getOrSuper(type).map(type::cast);
+        } catch (final Exception e) {
+            throw new IllegalArgumentException(
+                    "Requested option type is ambiguous: " + type.getName(), e);
+        }
+    }
+
     private void throwIfNotOnCorrectThread() {
-        if (Thread.currentThread().getId() != threadId) {
-            throw new ConcurrentModificationException("Class is not thread safe");
+        ThreadConfinement.throwIfNotOnThread(threadId);
+    }
+
+    /** Immutable table of the result of looking up each type that matches an option. */
+    private static final class Frozen {
+
+        private final Map<Class<?>, Resolved> resolved;
+        private final Set<CreekExtensionOptions> unused;
+
+        Frozen(
+                final SubTypeAwareMap<CreekExtensionOptions, CreekExtensionOptions> options,
+                final Set<CreekExtensionOptions> unused) {
+            final Map<Class<?>, Resolved> table = new HashMap<>();
+            options.keySet().stream()
+                    .flatMap(Frozen::optionTypes)
+                    .forEach(type -> table.computeIfAbsent(type, k -> resolve(options, type)));
+            this.resolved = Map.copyOf(table);
+            this.unused = requireNonNull(unused, "unused");
+        }
+
+        <T extends CreekExtensionOptions> Optional<T> get(final Class<T> type) {
+            final Resolved result = resolved.get(type);
+            return result == null ? Optional.empty() : result.get(type);
+        }
+
+        private static Resolved resolve(
+                final SubTypeAwareMap<CreekExtensionOptions, CreekExtensionOptions> options,
+                final Class<? extends CreekExtensionOptions> type) {
+            try {
+                return new Resolved(find(options, type), null);
+            } catch (final IllegalArgumentException e) {
+                return new Resolved(Optional.empty(), e);
+            }
+        }
+
+        /**
+         * @return the supplied {@code type} and all its super types that are option types.
+         */
+        @SuppressWarnings("unchecked")
+        private static Stream<Class<? extends CreekExtensionOptions>> optionTypes(
+                final Class<?> type) {
+            if (type == null || !CreekExtensionOptions.class.isAssignableFrom(type)) {
+                return Stream.empty();
+            }
+
+            return Stream.concat(
+                    Stream.of((Class<? extends CreekExtensionOptions>) type),
+                    Stream.concat(Stream.of(type.getSuperclass()), Stream.of(type.getInterfaces()))
+                            .flatMap(Frozen::optionTypes));
+        }
+    }
+
+    /** The result of looking up an option type. */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    private static final class Resolved {
+
+        private final Optional<CreekExtensionOptions> option;
+        private final IllegalArgumentException ambiguity;
+
+        Resolved(
+                final Optional<? extends CreekExtensionOptions> option,
+                final IllegalArgumentException ambiguity) {
+            this.option = option.map(CreekExtensionOptions.class::cast);
+            this.ambiguity = ambiguity;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T extends CreekExtensionOptions> Optional<T> get(final Class<T> type) {
+            if (ambiguity != null) {
+                throw new IllegalArgumentException(ambiguity.getMessage(), ambiguity.getCause());
+            }
+            // Safe: option was resolved for this type:
+            return (Optional<T>) option;
         }
     }
 }
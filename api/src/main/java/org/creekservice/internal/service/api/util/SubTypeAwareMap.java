@@ -17,10 +17,12 @@
 package org.creekservice.internal.service.api.util;
 
 import java.util.AbstractMap;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -28,6 +30,10 @@ import java.util.stream.Collectors;
  * Specialised map impl that provides a {@link #getOrSub} and {@link #getOrSuper} method that
  * supports lookups by subtype.
  *
+ * <p>The result of a lookup that does not exactly match a key, including no match or an ambiguous
+ * match, is cached per looked up type until the next mutation of the map, making repeated lookups
+ * O(1). The map's entry set is unmodifiable, so that all mutations go through this class.
+ *
  * @param <K> key type
  * @param <V> value type
  */
@@ -35,18 +41,33 @@ public final class SubTypeAwareMap<K, V> extends AbstractMap<Class<? extends K>,
         implements Map<Class<? extends K>, V> {
 
     private final Map<Class<? extends K>, V> types = new HashMap<>();
+    private final Map<Class<?>, Resolution<K>> subCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Resolution<K>> superCache = new ConcurrentHashMap<>();
 
     @SuppressWarnings("NullableProblems")
     @Override
     public Set<Entry<Class<? extends K>, V>> entrySet() {
-        return types.entrySet();
+        return Collections.unmodifiableMap(types).entrySet();
     }
 
     @Override
     public V put(final Class<? extends K> key, final V value) {
+        invalidate();
         return types.put(key, value);
     }
 
+    @Override
+    public V remove(final Object key) {
+        invalidate();
+        return types.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        invalidate();
+        types.clear();
+    }
+
     /**
      * Get the value associated with the supplied {@code key}, or the closest subtype.
      *
@@ -63,7 +84,7 @@ public final class SubTypeAwareMap<K, V> extends AbstractMap<Class<? extends K>,
      *     subtype if present, otherwise {@link Optional#empty()}.
      */
     public Optional<V> getOrSub(final Class<? extends K> key) {
-        return find(key, e -> e.getKey().isAssignableFrom(key));
+        return find(key, subCache, e -> e.getKey().isAssignableFrom(key));
     }
 
     /**
@@ -74,16 +95,23 @@ public final class SubTypeAwareMap<K, V> extends AbstractMap<Class<? extends K>,
      *     supertype if present, otherwise {@link Optional#empty()}.
      */
     public Optional<V> getOrSuper(final Class<? extends K> key) {
-        return find(key, e -> key.isAssignableFrom(e.getKey()));
+        return find(key, superCache, e -> key.isAssignableFrom(e.getKey()));
     }
 
     private Optional<V> find(
-            final Class<? extends K> key, final Predicate<Entry<Class<? extends K>, V>> filter) {
+            final Class<? extends K> key,
+            final Map<Class<?>, Resolution<K>> cache,
+            final Predicate<Entry<Class<? extends K>, V>> filter) {
         final V exact = types.get(key);
         if (exact != null) {
             return Optional.of(exact);
         }
 
+        return cache.computeIfAbsent(key, k -> resolve(key, filter)).value(types);
+    }
+
+    private Resolution<K> resolve(
+            final Class<? extends K> key, final Predicate<Entry<Class<? extends K>, V>> filter) {
         final Map<Class<? extends K>, V> found =
                 types.entrySet().stream()
                         .filter(filter)
@@ -93,11 +121,11 @@ public final class SubTypeAwareMap<K, V> extends AbstractMap<Class<? extends K>,
 
         switch (reduced.size()) {
             case 1:
-                return Optional.of(reduced.values().iterator().next());
+                return Resolution.found(reduced.keySet().iterator().next());
             case 0:
-                return Optional.empty();
+                return Resolution.notFound();
             default:
-                throw new IllegalArgumentException(
+                return Resolution.ambiguous(
                         "Ambiguous entry. Multiple entries match supplied key: "
                                 + key.getName()
                                 + ". Could be any of "
@@ -108,6 +136,11 @@ public final class SubTypeAwareMap<K, V> extends AbstractMap<Class<? extends K>,
         }
     }
 
+    private void invalidate() {
+        subCache.clear();
+        superCache.clear();
+    }
+
     private Map<Class<? extends K>, V> removeSuperTypes(final Map<Class<? extends K>, V> types) {
         return types.entrySet().stream()
                 .filter(
@@ -117,4 +150,37 @@ public final class SubTypeAwareMap<K, V> extends AbstractMap<Class<? extends K>,
                                         .noneMatch(t -> e.getKey().isAssignableFrom(t)))
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
+
+    /** The cached result of a lookup that did not exactly match a key. */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    private static final class Resolution<K> {
+
+        private final Optional<Class<? extends K>> key;
+        private final Optional<String> ambiguity;
+
+        static <K> Resolution<K> found(final Class<? extends K> key) {
+            return new Resolution<>(Optional.of(key), Optional.empty());
+        }
+
+        static <K> Resolution<K> notFound() {
+            return new Resolution<>(Optional.empty(), Optional.empty());
+        }
+
+        static <K> Resolution<K> ambiguous(final String message) {
+            return new Resolution<>(Optional.empty(), Optional.of(message));
+        }
+
+        private Resolution(
+                final Optional<Class<? extends K>> key, final Optional<String> ambiguity) {
+            this.key = key;
+            this.ambiguity = ambiguity;
+        }
+
+        <V> Optional<V> value(final Map<Class<? extends K>, V> types) {
+            if (ambiguity.isPresent()) {
+                throw new IllegalArgumentException(ambiguity.get());
+            }
+            return key.map(types::get);
+        }
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.api.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Util for types that are confined to the thread that created them.
+ *
+ * <p>Such types may also be accessed from worker threads created via {@link #workerThreadFactory},
+ * as such threads act on behalf of the thread that created the factory.
+ */
+public final class ThreadConfinement {
+
+    private ThreadConfinement() {}
+
+    /**
+     * Throw if the current thread is not the thread with the supplied {@code threadId}, or a
+     * worker acting on its behalf.
+     *
+     * @param threadId the id of the owning thread.
+     * @throws ConcurrentModificationException if on the wrong thread.
+     */
+    public static void throwIfNotOnThread(final long threadId) {
+        if (!isOnThread(threadId)) {
+            throw new ConcurrentModificationException("Class is not thread safe");
+        }
+    }
+
+    /**
+     * @param threadId the id of the owning thread.
+     * @return {@code true} if the current thread is the thread with the supplied {@code threadId},
+     *     or a worker acting on its behalf.
+     */
+    public static boolean isOnThread(final long threadId) {
+        final Thread current = Thread.currentThread();
+        if (current.getId() == threadId) {
+            return true;
+        }
+
+        return current instanceof WorkerThread && ((WorkerThread) current).ownerId == threadId;
+    }
+
+    /**
+     * Create a factory of daemon worker threads that act on behalf of the current thread.
+     *
+     * @param namePrefix the prefix for the names of created threads.
+     * @return the thread factory.
+     */
+    public static ThreadFactory workerThreadFactory(final String namePrefix) {
+        requireNonNull(namePrefix, "namePrefix");
+        final long ownerId = Thread.currentThread().getId();
+        final AtomicInteger count = new AtomicInteger();
+        return task -> new WorkerThread(task, namePrefix + "-" + count.incrementAndGet(), ownerId);
+    }
+
+    private static final class WorkerThread extends Thread {
+
+        private final long ownerId;
+
+        WorkerThread(final Runnable task, final String name, final long ownerId) {
+            super(task, name);
+            this.ownerId = ownerId;
+            setDaemon(true);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import static java.util.regex.Pattern.compile;
 import static java.util.regex.Pattern.quote;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.matchesRegex;
 import static org.hamcrest.Matchers.startsWith;
@@ -37,6 +38,8 @@ import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -289,6 +292,52 @@ class ComponentModelTest {
                                 Pattern.DOTALL)));
     }
 
+    @Test
+    void shouldReadFromOtherThreadOnceFrozen() {
+        // Given:
+        model.addResource(BaseResource.class, handler1);
+        model.freeze();
+
+        // When:
+        final ResourceHandler<? super TestResource> result =
+                CompletableFuture.supplyAsync(() -> model.resourceHandler(TestResource.class))
+                        .join();
+
+        // Then:
+        assertThat(result, is(handler1));
+        assertThat(
+                CompletableFuture.supplyAsync(() -> model.hasType(TestResource.class)).join(),
+                is(true));
+    }
+
+    @Test
+    void shouldPublishResourcesAddedOnceFrozen() {
+        // Given:
+        model.freeze();
+
+        // When:
+        model.addResource(BaseResource.class, handler1);
+
+        // Then:
+        assertThat(
+                CompletableFuture.supplyAsync(() -> model.hasType(TestResource.class)).join(),
+                is(true));
+    }
+
+    @Test
+    void shouldThrowIfAddingResourceFromOtherThreadOnceFrozen() {
+        // Given:
+        model.freeze();
+
+        // When:
+        final CompletableFuture<?> result =
+                CompletableFuture.runAsync(() -> model.addResource(BaseResource.class, handler1));
+
+        // Then:
+        final Exception e = assertThrows(CompletionException.class, result::join);
+        assertThat(e.getCause(), is(instanceOf(ConcurrentModificationException.class)));
+    }
+
     @SuppressWarnings("rawtypes")
     @Test
     void shouldThrowOnRawHandlerTypeRef() {
@@ -343,7 +392,8 @@ class ComponentModelTest {
                         "hasType", (Consumer<ComponentModel>) m -> m.hasType(TestResource.class)),
                 Arguments.of(
                         "resourceHandler",
-                        (Consumer<ComponentModel>) m -> m.resourceHandler(TestResource.class)));
+                        (Consumer<ComponentModel>) m -> m.resourceHandler(TestResource.class)),
+                Arguments.of("freeze", (Consumer<ComponentModel>) ComponentModel::freeze));
     }
 
     private static List<String> testedMethodNames() {
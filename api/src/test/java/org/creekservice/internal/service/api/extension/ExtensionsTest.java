@@ -28,7 +28,12 @@ import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.params.ParameterizedInvocationConstants.INDEX_PLACEHOLDER;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
@@ -36,26 +41,39 @@ import static org.mockito.quality.Strictness.LENIENT;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.creekservice.api.service.extension.CreekExtension;
 import org.creekservice.api.service.extension.CreekExtensionProvider;
 import org.creekservice.api.service.extension.CreekService;
+import org.creekservice.api.service.extension.LazyCreekExtensionProvider;
 import org.creekservice.internal.service.api.Creek;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -63,6 +81,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class ExtensionsTest {
 
     @Mock private Creek api;
+    @TempDir private Path tempDir;
     private Extensions extensions;
 
     @BeforeEach
@@ -219,83 +238,951 @@ class ExtensionsTest {
                 items, contains(instanceOf(TestExtension.class), instanceOf(DiffExtension.class)));
     }
 
+    @Test
+    void shouldGetSameInstanceOnRepeatedLookups() {
+        // Given:
+        extensions.ensureExtension(TestExtensionProvider.class);
+        final TestExtension first = extensions.get(TestExtension.class);
+
+        // When:
+        final TestExtension second = extensions.get(TestExtension.class);
+
+        // Then:
+        assertThat(second, is(sameInstance(first)));
+    }
+
+    @Test
+    void shouldFindExtensionInitializedAfterFailedLookup() {
+        // Given:
+        assertThrows(Exception.class, () -> extensions.get(TestExtension.class));
+
+        // When:
+        extensions.ensureExtension(TestExtensionProvider.class);
+
+        // Then:
+        assertThat(extensions.get(TestExtension.class), is(notNullValue()));
+    }
+
     @Test
     void shouldThrowOnUnknownExtension() {
         // Given:
-        extensions.ensureExtension(TestExtensionProvider.class);
+        extensions.ensureExtension(TestExtensionProvider.class);
+
+        // When:
+        final Exception e =
+                assertThrows(Exception.class, () -> extensions.get(UnknownExtension.class));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                startsWith(
+                        "No extension of requested type is registered: "
+                                + UnknownExtension.class
+                                + ", installed_extensions: [org.creekservice.test]"));
+    }
+
+    @Test
+    void shouldGetExtensionByType() {
+        // Given:
+        extensions.ensureExtension(TestExtensionProvider.class);
+        extensions.ensureExtension(DiffExtensionProvider.class);
+
+        // Then:
+        assertThat(extensions.get(TestExtension.class), is(instanceOf(TestExtension.class)));
+        assertThat(extensions.get(DiffExtension.class), is(instanceOf(DiffExtension.class)));
+    }
+
+    @Test
+    void shouldGetExtensionBySubType() {
+        // Given:
+        extensions.ensureExtension(TestExtensionProvider.class);
+
+        // Then:
+        assertThat(extensions.get(BaseExtension.class), is(instanceOf(BaseExtension.class)));
+    }
+
+    @Test
+    void shouldGetFirstExtensionThatMatches() {
+        // Given:
+        extensions.ensureExtension(TestExtensionProvider.class);
+        extensions.ensureExtension(DiffExtensionProvider.class);
+
+        // Then:
+        assertThat(extensions.get(BaseExtension.class), is(instanceOf(TestExtension.class)));
+    }
+
+    @Test
+    void shouldThrowIfProviderReturnsNull() {
+        // Given:
+        final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
+        when(p0.initialize(any())).thenReturn(null);
+
+        // When:
+        final Exception e =
+                assertThrows(RuntimeException.class, () -> extensions.ensureExtension(p0));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                startsWith(
+                        "Provider returned null extension: "
+                                + TestExtensionProvider.class.getName()));
+    }
+
+    @Test
+    void shouldCloseExtensionsOnClose() {
+        // Given:
+        final TestExtension ext = mock(TestExtension.class);
+        extensions.ensureExtension(new TestExtensionProvider(ext));
+
+        // When:
+        extensions.close();
+
+        // Then:
+        verify(ext).close();
+    }
+
+    @Test
+    void shouldCloseFromOtherThreadOnceFrozen() {
+        // Given:
+        final TestExtension ext = mock(TestExtension.class);
+        extensions.ensureExtension(new TestExtensionProvider(ext));
+        extensions.freeze();
+
+        // When:
+        CompletableFuture.runAsync(() -> extensions.close(Duration.ofSeconds(30))).join();
+
+        // Then:
+        verify(ext).close();
+    }
+
+    @Test
+    void shouldThrowOnInvalidParallelism() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> extensions.ensureExtensions(List.of(), 0));
+
+        // Then:
+        assertThat(e.getMessage(), is("parallelism must be positive: 0"));
+    }
+
+    @Test
+    void shouldEnsureAllExtensions() {
+        // When:
+        extensions.ensureExtensions(
+                List.of(new TestExtensionProvider(), new DiffExtensionProvider()), 2);
+
+        // Then:
+        assertThat(extensions.get(TestExtension.class), is(instanceOf(TestExtension.class)));
+        assertThat(extensions.get(DiffExtension.class), is(instanceOf(DiffExtension.class)));
+    }
+
+    @Test
+    void shouldRecordJfrEventOnInitialize() throws Exception {
+        // When:
+        final List<RecordedEvent> events =
+                record(
+                        "org.creekservice.ExtensionInitialize",
+                        () -> extensions.ensureExtension(TestExtensionProvider.class));
+
+        // Then:
+        assertThat(events, hasSize(1));
+        assertThat(
+                events.get(0).getClass("provider").getName(),
+                is(TestExtensionProvider.class.getName()));
+    }
+
+    @Test
+    void shouldRecordJfrEventOnClose() throws Exception {
+        // Given:
+        extensions.ensureExtension(TestExtensionProvider.class);
+
+        // When:
+        final List<RecordedEvent> events =
+                record("org.creekservice.ExtensionClose", extensions::close);
+
+        // Then:
+        assertThat(events, hasSize(1));
+        assertThat(
+                events.get(0).getClass("provider").getName(),
+                is(TestExtensionProvider.class.getName()));
+        assertThat(events.get(0).getString("extension"), is("org.creekservice.test"));
+    }
+
+    @Test
+    void shouldOnlyRegisterLazyProvidersOnEnsureExtensions() {
+        // Given:
+        final LazyTestProvider lazy = lazyProvider();
+
+        // When:
+        extensions.ensureExtensions(List.of(lazy), 1);
+
+        // Then:
+        verify(lazy).register(api);
+        verify(lazy, never()).initialize(any());
+        assertThat(extensions.stream().count(), is(0L));
+    }
+
+    @Test
+    void shouldRegisterLazyProviderWhileInitializing() {
+        // Given:
+        final LazyTestProvider lazy = lazyProvider();
+        final List<Optional<CreekExtensionProvider<?>>> initializing = new ArrayList<>();
+        doAnswer(inv -> initializing.add(extensions.currentlyInitialising()))
+                .when(lazy)
+                .register(any());
+
+        // When:
+        extensions.ensureExtensions(List.of(lazy), 1);
+
+        // Then:
+        assertThat(initializing, is(List.of(Optional.of(lazy))));
+    }
+
+    @Test
+    void shouldInitializeLazyProviderOnFirstGet() {
+        // Given:
+        final LazyTestProvider lazy = lazyProvider();
+        extensions.ensureExtensions(List.of(lazy), 1);
+
+        // When:
+        final TestExtension first = extensions.get(TestExtension.class);
+        final BaseExtension second = extensions.get(BaseExtension.class);
+
+        // Then:
+        assertThat(second, is(sameInstance(first)));
+        verify(lazy, times(1)).initialize(api);
+        verify(lazy, times(1)).register(api);
+    }
+
+    @Test
+    void shouldRegisterLazyProviderBeforeInitializingOnEnsure() {
+        // Given:
+        final LazyTestProvider lazy = lazyProvider();
+
+        // When:
+        extensions.ensureExtension(lazy);
+
+        // Then:
+        final InOrder inOrder = inOrder(lazy);
+        inOrder.verify(lazy).register(api);
+        inOrder.verify(lazy).initialize(api);
+    }
+
+    @Test
+    void shouldNotRegisterLazyProviderTwice() {
+        // Given:
+        final LazyTestProvider lazy = lazyProvider();
+        extensions.ensureExtensions(List.of(lazy), 1);
+
+        // When:
+        extensions.ensureExtension(lazy);
+        extensions.ensureExtensions(List.of(lazy), 1);
+
+        // Then:
+        verify(lazy, times(1)).register(api);
+        verify(lazy, times(1)).initialize(api);
+    }
+
+    @Test
+    void shouldCloseDependentsBeforeDeclaredDependencies() {
+        // Given:
+        final TestExtension ext0 = mock(TestExtension.class);
+        final DiffExtension ext1 = mock(DiffExtension.class);
+        final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
+        final DiffExtensionProvider p1 = mock(DiffExtensionProvider.class);
+        when(p0.dependsOn()).thenReturn(List.of(DiffExtensionProvider.class));
+        when(p0.initialize(any())).thenReturn(ext0);
+        when(p1.initialize(any())).thenReturn(ext1);
+        extensions.ensureExtensions(List.of(p0, p1), 1);
+
+        // When:
+        extensions.close();
+
+        // Then:
+        final InOrder inOrder = inOrder(ext0, ext1);
+        inOrder.verify(ext0).close();
+        inOrder.verify(ext1).close();
+    }
+
+    @Test
+    void shouldCloseDependentsBeforeDependenciesEnsuredDuringInitialize() {
+        // Given:
+        final TestExtension ext0 = mock(TestExtension.class);
+        final DiffExtension ext1 = mock(DiffExtension.class);
+        final DiffExtensionProvider p1 = mock(DiffExtensionProvider.class);
+        when(p1.initialize(any())).thenReturn(ext1);
+        final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
+        when(p0.initialize(any()))
+                .thenAnswer(
+                        inv -> {
+                            extensions.ensureExtension(p1);
+                            return ext0;
+                        });
+        extensions.ensureExtension(p0);
+
+        // When:
+        extensions.close();
+
+        // Then:
+        final InOrder inOrder = inOrder(ext0, ext1);
+        inOrder.verify(ext0).close();
+        inOrder.verify(ext1).close();
+    }
+
+    @Test
+    void shouldCloseDependentsBeforeDependenciesLookedUpDuringInitialize() {
+        // Given:
+        final TestExtension ext0 = mock(TestExtension.class);
+        final DiffExtension ext1 = mock(DiffExtension.class);
+        final DiffExtensionProvider p1 = mock(DiffExtensionProvider.class);
+        when(p1.initialize(any())).thenReturn(ext1);
+        extensions.ensureExtension(p1);
+        final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
+        when(p0.initialize(any()))
+                .thenAnswer(
+                        inv -> {
+                            extensions.get(DiffExtension.class);
+                            return ext0;
+                        });
+        extensions.ensureExtension(p0);
+
+        // When:
+        extensions.close();
+
+        // Then:
+        final InOrder inOrder = inOrder(ext0, ext1);
+        inOrder.verify(ext0).close();
+        inOrder.verify(ext1).close();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    void shouldCloseLazyDependentInitializedLastBeforeEagerDependency() {
+        // Given:
+        final TestExtension ext0 = mock(TestExtension.class);
+        final DiffExtension ext1 = mock(DiffExtension.class);
+        final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
+        when(p0.initialize(any())).thenReturn(ext0);
+        final LazyDiffProvider lazy = mock(LazyDiffProvider.class);
+        when(lazy.extensionType()).thenReturn(DiffExtension.class);
+        when(lazy.dependsOn()).thenReturn((List) List.of(p0.getClass()));
+        when(lazy.initialize(any())).thenReturn(ext1);
+        extensions.ensureExtensions(List.of(lazy, p0), 1);
+        extensions.freeze();
+        extensions.get(DiffExtension.class);
+
+        // When:
+        extensions.close();
+
+        // Then:
+        final InOrder inOrder = inOrder(ext0, ext1);
+        inOrder.verify(ext1).close();
+        inOrder.verify(ext0).close();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    void shouldCloseEagerDependentBeforeLazyDependency() {
+        // Given:
+        final TestExtension ext0 = mock(TestExtension.class);
+        final DiffExtension ext1 = mock(DiffExtension.class);
+        final LazyDiffProvider lazy = mock(LazyDiffProvider.class);
+        when(lazy.extensionType()).thenReturn(DiffExtension.class);
+        when(lazy.initialize(any())).thenReturn(ext1);
+        final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
+        when(p0.dependsOn()).thenReturn((List) List.of(lazy.getClass()));
+        when(p0.initialize(any())).thenReturn(ext0);
+        extensions.ensureExtensions(List.of(p0, lazy), 2);
+
+        // When:
+        extensions.close();
+
+        // Then:
+        final InOrder inOrder = inOrder(ext0, ext1);
+        inOrder.verify(ext0).close();
+        inOrder.verify(ext1).close();
+    }
+
+    @Test
+    void shouldCloseIndependentExtensionsConcurrently() {
+        // Given:
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        final TestExtension ext0 = mock(TestExtension.class);
+        final DiffExtension ext1 = mock(DiffExtension.class);
+        doAnswer(inv -> barrier.await(30, TimeUnit.SECONDS)).when(ext0).close();
+        doAnswer(inv -> barrier.await(30, TimeUnit.SECONDS)).when(ext1).close();
+        extensions.ensureExtension(new TestExtensionProvider(ext0));
+        final DiffExtensionProvider p1 = mock(DiffExtensionProvider.class);
+        when(p1.initialize(any())).thenReturn(ext1);
+        extensions.ensureExtension(p1);
+
+        // When:
+        final List<ExtensionCloseResult> results = extensions.close(Duration.ofSeconds(30));
+
+        // Then: both closes must have been in-flight together to pass the barrier:
+        assertThat(results.stream().allMatch(ExtensionCloseResult::successful), is(true));
+    }
+
+    @Test
+    void shouldCloseOtherExtensionsIfOneFails() {
+        // Given:
+        final TestExtension ext0 = mock(TestExtension.class);
+        final DiffExtension ext1 = mock(DiffExtension.class);
+        final RuntimeException failure = new RuntimeException("boom");
+        doThrow(failure).when(ext0).close();
+        extensions.ensureExtension(new TestExtensionProvider(ext0));
+        final DiffExtensionProvider p1 = mock(DiffExtensionProvider.class);
+        when(p1.initialize(any())).thenReturn(ext1);
+        extensions.ensureExtension(p1);
+
+        // When:
+        final List<ExtensionCloseResult> results = extensions.close(Duration.ofSeconds(30));
+
+        // Then:
+        verify(ext1).close();
+        assertThat(results, hasSize(2));
+        assertThat(results.get(0).provider(), is(DiffExtensionProvider.class));
+        assertThat(results.get(0).successful(), is(true));
+        assertThat(results.get(1).provider(), is(TestExtensionProvider.class));
+        assertThat(results.get(1).failure(), is(Optional.of(failure)));
+    }
+
+    @Test
+    void shouldThrowFromCloseOnceAllClosedIfAnyFailed() {
+        // Given:
+        final TestExtension ext0 = mock(TestExtension.class);
+        when(ext0.name()).thenReturn("ext0");
+        final RuntimeException failure = new RuntimeException("boom");
+        doThrow(failure).when(ext0).close();
+        extensions.ensureExtension(new TestExtensionProvider(ext0));
+
+        // When:
+        final Exception e = assertThrows(ExtensionCloseException.class, extensions::close);
+
+        // Then:
+        assertThat(e.getMessage(), is("Failed to close extensions: [ext0]"));
+        assertThat(e.getCause(), is(sameInstance(failure)));
+    }
+
+    @Test
+    void shouldAbandonExtensionsThatDoNotCloseInTime() {
+        // Given:
+        final CountDownLatch never = new CountDownLatch(1);
+        final TestExtension ext0 = mock(TestExtension.class);
+        final DiffExtension ext1 = mock(DiffExtension.class);
+        doAnswer(inv -> never.await(30, TimeUnit.SECONDS)).when(ext0).close();
+        extensions.ensureExtension(new TestExtensionProvider(ext0));
+        final DiffExtensionProvider p1 = mock(DiffExtensionProvider.class);
+        when(p1.initialize(any())).thenReturn(ext1);
+        extensions.ensureExtension(p1);
+
+        // When:
+        final List<ExtensionCloseResult> results = extensions.close(Duration.ofMillis(100));
+
+        // Then:
+        assertThat(results.get(0).successful(), is(true));
+        assertThat(results.get(1).timedOut(), is(true));
+        assertThat(results.get(1).duration().compareTo(Duration.ofMillis(100)) >= 0, is(true));
+    }
+
+    @Test
+    void shouldDrainDependentsBeforeDependencies() {
+        // Given:
+        final TestExtension ext0 = mock(TestExtension.class);
+        final DiffExtension ext1 = mock(DiffExtension.class);
+        final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
+        final DiffExtensionProvider p1 = mock(DiffExtensionProvider.class);
+        when(p0.dependsOn()).thenReturn(List.of(DiffExtensionProvider.class));
+        when(p0.initialize(any())).thenReturn(ext0);
+        when(p1.initialize(any())).thenReturn(ext1);
+        extensions.ensureExtensions(List.of(p1, p0), 1);
+
+        // When:
+        extensions.drain(Duration.ofSeconds(30));
+
+        // Then:
+        final InOrder inOrder = inOrder(ext0, ext1);
+        inOrder.verify(ext0).drain();
+        inOrder.verify(ext1).drain();
+        verify(ext0, never()).close();
+        verify(ext1, never()).close();
+    }
+
+    @Test
+    void shouldDrainOtherExtensionsIfOneFails() {
+        // Given:
+        final TestExtension ext0 = mock(TestExtension.class);
+        final DiffExtension ext1 = mock(DiffExtension.class);
+        final RuntimeException failure = new RuntimeException("boom");
+        doThrow(failure).when(ext0).drain();
+        extensions.ensureExtension(new TestExtensionProvider(ext0));
+        final DiffExtensionProvider p1 = mock(DiffExtensionProvider.class);
+        when(p1.initialize(any())).thenReturn(ext1);
+        extensions.ensureExtension(p1);
+
+        // When:
+        final List<ExtensionCloseResult> results = extensions.drain(Duration.ofSeconds(30));
+
+        // Then:
+        verify(ext1).drain();
+        assertThat(results, hasSize(2));
+        assertThat(results.get(0).successful(), is(true));
+        assertThat(results.get(1).failure(), is(Optional.of(failure)));
+    }
+
+    @Test
+    void shouldAbandonExtensionsThatDoNotDrainInTime() {
+        // Given:
+        final CountDownLatch never = new CountDownLatch(1);
+        final TestExtension ext0 = mock(TestExtension.class);
+        doAnswer(inv -> never.await(30, TimeUnit.SECONDS)).when(ext0).drain();
+        extensions.ensureExtension(new TestExtensionProvider(ext0));
+
+        // When:
+        final List<ExtensionCloseResult> results = extensions.drain(Duration.ofMillis(100));
+
+        // Then:
+        assertThat(results.get(0).timedOut(), is(true));
+    }
+
+    @Test
+    void shouldNotCloseUninitializedLazyExtensions() {
+        // Given:
+        final LazyTestProvider lazy = lazyProvider();
+        extensions.ensureExtensions(List.of(lazy), 1);
+
+        // When:
+        extensions.close();
+
+        // Then:
+        verify(lazy, never()).initialize(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldPassInitializedExtensionsToRegistrationListener() {
+        // Given:
+        final TestExtension ext = mock(TestExtension.class);
+        extensions.ensureExtension(new TestExtensionProvider(ext));
+        final Consumer<CreekExtension> listener = mock(Consumer.class);
+
+        // When:
+        extensions.onRegistration(listener);
+
+        // Then:
+        verify(listener).accept(ext);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldPassLazyExtensionsToRegistrationListenerOnceInitialized() {
+        // Given:
+        final LazyTestProvider lazy = lazyProvider();
+        extensions.ensureExtensions(List.of(lazy), 1);
+        final Consumer<CreekExtension> listener = mock(Consumer.class);
+        extensions.onRegistration(listener);
+        verify(listener, never()).accept(any());
+
+        // When:
+        final TestExtension ext = extensions.get(TestExtension.class);
+        extensions.get(TestExtension.class);
+
+        // Then:
+        verify(listener, times(1)).accept(ext);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    void shouldThrowIfLazyProviderExtensionTypeClashes() {
+        // Given:
+        extensions.ensureExtension(new TestExtensionProvider(new PrivateExtensionImpl()));
+        final LazyTestProvider lazy = lazyProvider();
+        when(lazy.extensionType()).thenReturn((Class) PrivateExtensionImpl.class);
 
         // When:
         final Exception e =
-                assertThrows(Exception.class, () -> extensions.get(UnknownExtension.class));
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> extensions.ensureExtensions(List.of(lazy), 1));
 
         // Then:
         assertThat(
                 e.getMessage(),
                 startsWith(
-                        "No extension of requested type is registered: "
-                                + UnknownExtension.class
-                                + ", installed_extensions: [org.creekservice.test]"));
+                        "Multiple extension providers returned the same extension type. This is"
+                                + " not supported. extension_type: "
+                                + PrivateExtensionImpl.class.getName()));
     }
 
     @Test
-    void shouldGetExtensionByType() {
+    void shouldThrowIfLazyProviderEnsuresItselfDuringRegistration() {
         // Given:
-        extensions.ensureExtension(TestExtensionProvider.class);
-        extensions.ensureExtension(DiffExtensionProvider.class);
+        final LazyTestProvider lazy = lazyProvider();
+        doAnswer(inv -> extensions.ensureExtension(lazy)).when(lazy).register(any());
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalStateException.class,
+                        () -> extensions.ensureExtensions(List.of(lazy), 1));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                startsWith("Circular dependency detected while initializing extension provider"));
+    }
+
+    @Test
+    void shouldRecordInitializationTimesInApplyOrder() {
+        // When:
+        extensions.ensureExtensions(
+                List.of(new TestExtensionProvider(), new DiffExtensionProvider()), 1);
+
+        // Then:
+        final Map<Class<? extends CreekExtensionProvider<?>>, Duration> times =
+                extensions.initializationTimes();
+        assertThat(
+                List.copyOf(times.keySet()),
+                is(List.of(TestExtensionProvider.class, DiffExtensionProvider.class)));
+        assertThat(times.values().stream().allMatch(d -> !d.isNegative()), is(true));
+    }
+
+    @Test
+    void shouldInitializeDeclaredDependenciesFirst() {
+        // Given:
+        final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
+        final DiffExtensionProvider p1 = mock(DiffExtensionProvider.class);
+        when(p0.dependsOn()).thenReturn(List.of(DiffExtensionProvider.class));
+        when(p0.initialize(any())).thenReturn(mock(TestExtension.class));
+        when(p1.initialize(any())).thenReturn(mock(DiffExtension.class));
+
+        // When:
+        extensions.ensureExtensions(List.of(p0, p1), 2);
+
+        // Then:
+        final InOrder inOrder = inOrder(p0, p1);
+        inOrder.verify(p1).initialize(api);
+        inOrder.verify(p0).initialize(api);
+    }
+
+    @Test
+    void shouldInitializeDeclaredDependencyNotInProviderList() {
+        // Given:
+        final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
+        when(p0.dependsOn()).thenReturn(List.of(DiffExtensionProvider.class));
+        when(p0.initialize(any())).thenReturn(mock(TestExtension.class));
+
+        // When:
+        extensions.ensureExtensions(List.of(p0), 2);
+
+        // Then:
+        assertThat(extensions.get(DiffExtension.class), is(instanceOf(DiffExtension.class)));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    void shouldInitializeLazyDeclaredDependencyBeforeDependent() {
+        // Given:
+        final LazyTestProvider lazy = lazyProvider();
+        final DiffExtensionProvider dependent = mock(DiffExtensionProvider.class);
+        when(dependent.dependsOn()).thenReturn((List) List.of(lazy.getClass()));
+        when(dependent.initialize(any())).thenReturn(mock(DiffExtension.class));
+
+        // When:
+        extensions.ensureExtensions(List.of(lazy, dependent), 2);
+
+        // Then:
+        final InOrder inOrder = inOrder(lazy, dependent);
+        inOrder.verify(lazy).initialize(api);
+        inOrder.verify(dependent).initialize(api);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    void shouldInitializeLazyDeclaredDependencyBeforeLazyDependentOnFirstUse() {
+        // Given:
+        final LazyTestProvider lazy = lazyProvider();
+        final LazyDiffProvider dependent = mock(LazyDiffProvider.class);
+        when(dependent.extensionType()).thenReturn(DiffExtension.class);
+        when(dependent.dependsOn()).thenReturn((List) List.of(lazy.getClass()));
+        when(dependent.initialize(any())).thenReturn(mock(DiffExtension.class));
+        extensions.ensureExtensions(List.of(lazy, dependent), 1);
+
+        // When:
+        extensions.get(DiffExtension.class);
+
+        // Then:
+        final InOrder inOrder = inOrder(lazy, dependent);
+        inOrder.verify(lazy).initialize(api);
+        inOrder.verify(dependent).initialize(api);
+    }
+
+    @Test
+    void shouldThrowOnCircularDeclaredDependencies() {
+        // Given:
+        final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
+        final DiffExtensionProvider p1 = mock(DiffExtensionProvider.class);
+        when(p0.dependsOn()).thenReturn(List.of(DiffExtensionProvider.class));
+        when(p1.dependsOn()).thenReturn(List.of(TestExtensionProvider.class));
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> extensions.ensureExtensions(List.of(p0, p1), 2));
 
         // Then:
+        assertThat(
+                e.getMessage(),
+                startsWith(
+                        "Circular dependency between extension providers: "
+                                + TestExtensionProvider.class.getName()
+                                + " -> "
+                                + DiffExtensionProvider.class.getName()
+                                + " -> "
+                                + TestExtensionProvider.class.getName()));
+        verify(p0, never()).initialize(any());
+        verify(p1, never()).initialize(any());
+    }
+
+    @Test
+    void shouldInitializeIndependentProvidersConcurrently() {
+        // Given:
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
+        final DiffExtensionProvider p1 = mock(DiffExtensionProvider.class);
+        when(p0.initialize(any()))
+                .thenAnswer(
+                        inv -> {
+                            barrier.await(30, TimeUnit.SECONDS);
+                            return mock(TestExtension.class);
+                        });
+        when(p1.initialize(any()))
+                .thenAnswer(
+                        inv -> {
+                            barrier.await(30, TimeUnit.SECONDS);
+                            return mock(DiffExtension.class);
+                        });
+
+        // When:
+        extensions.ensureExtensions(List.of(p0, p1), 2);
+
+        // Then: did not time out:
         assertThat(extensions.get(TestExtension.class), is(instanceOf(TestExtension.class)));
         assertThat(extensions.get(DiffExtension.class), is(instanceOf(DiffExtension.class)));
     }
 
     @Test
-    void shouldGetExtensionBySubType() {
+    void shouldTrackInitialisingProviderPerThread() {
         // Given:
-        extensions.ensureExtension(TestExtensionProvider.class);
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
+        final DiffExtensionProvider p1 = mock(DiffExtensionProvider.class);
+        when(p0.initialize(any()))
+                .thenAnswer(
+                        inv -> {
+                            barrier.await(30, TimeUnit.SECONDS);
+                            assertThat(extensions.currentlyInitialising(), is(Optional.of(p0)));
+                            return mock(TestExtension.class);
+                        });
+        when(p1.initialize(any()))
+                .thenAnswer(
+                        inv -> {
+                            barrier.await(30, TimeUnit.SECONDS);
+                            assertThat(extensions.currentlyInitialising(), is(Optional.of(p1)));
+                            return mock(DiffExtension.class);
+                        });
+
+        // When:
+        extensions.ensureExtensions(List.of(p0, p1), 2);
 
         // Then:
-        assertThat(extensions.get(BaseExtension.class), is(instanceOf(BaseExtension.class)));
+        assertThat(extensions.currentlyInitialising(), is(Optional.empty()));
     }
 
     @Test
-    void shouldGetFirstExtensionThatMatches() {
+    void shouldWaitForProviderBeingInitializedOnAnotherThread() {
         // Given:
-        extensions.ensureExtension(TestExtensionProvider.class);
-        extensions.ensureExtension(DiffExtensionProvider.class);
+        final CountDownLatch p1Started = new CountDownLatch(1);
+        final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
+        final DiffExtensionProvider p1 = mock(DiffExtensionProvider.class);
+        final DiffExtension e1 = mock(DiffExtension.class);
+        when(p0.initialize(any()))
+                .thenAnswer(
+                        inv -> {
+                            p1Started.await(30, TimeUnit.SECONDS);
+                            assertThat(extensions.ensureExtension(p1), is(sameInstance(e1)));
+                            return mock(TestExtension.class);
+                        });
+        when(p1.initialize(any()))
+                .thenAnswer(
+                        inv -> {
+                            p1Started.countDown();
+                            return e1;
+                        });
+
+        // When:
+        extensions.ensureExtensions(List.of(p0, p1), 2);
 
         // Then:
-        assertThat(extensions.get(BaseExtension.class), is(instanceOf(TestExtension.class)));
+        verify(p1, times(1)).initialize(any());
     }
 
     @Test
-    void shouldThrowIfProviderReturnsNull() {
+    void shouldThrowOnCircularEnsureOnSameThread() {
         // Given:
         final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
-        when(p0.initialize(any())).thenReturn(null);
+        when(p0.initialize(any())).thenAnswer(inv -> extensions.ensureExtension(p0));
 
         // When:
         final Exception e =
-                assertThrows(RuntimeException.class, () -> extensions.ensureExtension(p0));
+                assertThrows(IllegalStateException.class, () -> extensions.ensureExtension(p0));
 
         // Then:
         assertThat(
                 e.getMessage(),
                 startsWith(
-                        "Provider returned null extension: "
+                        "Circular dependency detected while initializing extension provider: "
                                 + TestExtensionProvider.class.getName()));
     }
 
     @Test
-    void shouldCloseExtensionsOnClose() {
+    void shouldThrowRatherThanDeadlockOnCircularEnsureAcrossThreads() {
+        // Given:
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
+        final DiffExtensionProvider p1 = mock(DiffExtensionProvider.class);
+        when(p0.initialize(any()))
+                .thenAnswer(
+                        inv -> {
+                            barrier.await(30, TimeUnit.SECONDS);
+                            extensions.ensureExtension(p1);
+                            return mock(TestExtension.class);
+                        });
+        when(p1.initialize(any()))
+                .thenAnswer(
+                        inv -> {
+                            barrier.await(30, TimeUnit.SECONDS);
+                            extensions.ensureExtension(p0);
+                            return mock(DiffExtension.class);
+                        });
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalStateException.class,
+                        () -> extensions.ensureExtensions(List.of(p0, p1), 2));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                startsWith("Circular dependency detected while initializing extension provider"));
+    }
+
+    @Test
+    void shouldThrowOnParallelInitializationFailure() {
+        // Given:
+        final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
+        final RuntimeException expected = new IllegalArgumentException("boom");
+        when(p0.initialize(any())).thenThrow(expected);
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        RuntimeException.class,
+                        () ->
+                                extensions.ensureExtensions(
+                                        List.of(p0, new DiffExtensionProvider()), 2));
+
+        // Then:
+        assertThat(e, is(sameInstance(expected)));
+    }
+
+    @Test
+    void shouldNotInitializeDependentsOfFailedProvider() {
+        // Given:
+        final TestExtensionProvider p0 = mock(TestExtensionProvider.class);
+        final DiffExtensionProvider p1 = mock(DiffExtensionProvider.class);
+        when(p0.dependsOn()).thenReturn(List.of(DiffExtensionProvider.class));
+        final RuntimeException expected = new IllegalArgumentException("boom");
+        when(p1.initialize(any())).thenThrow(expected);
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        RuntimeException.class,
+                        () -> extensions.ensureExtensions(List.of(p0, p1), 2));
+
+        // Then:
+        assertThat(e, is(sameInstance(expected)));
+        verify(p0, never()).initialize(any());
+    }
+
+    @Test
+    void shouldGetFromOtherThreadOnceFrozen() {
         // Given:
         final TestExtension ext = mock(TestExtension.class);
         extensions.ensureExtension(new TestExtensionProvider(ext));
+        extensions.freeze();
 
         // When:
-        extensions.close();
+        final TestExtension result =
+                CompletableFuture.supplyAsync(() -> extensions.get(TestExtension.class)).join();
 
         // Then:
-        verify(ext).close();
+        assertThat(result, is(sameInstance(ext)));
+    }
+
+    @Test
+    void shouldIterateFromOtherThreadOnceFrozen() {
+        // Given:
+        final TestExtension ext = mock(TestExtension.class);
+        extensions.ensureExtension(new TestExtensionProvider(ext));
+        extensions.freeze();
+
+        // When:
+        final List<CreekExtension> result =
+                CompletableFuture.supplyAsync(
+                                () -> extensions.stream().collect(Collectors.toList()))
+                        .join();
+
+        // Then:
+        assertThat(result, contains(ext));
+    }
+
+    @Test
+    void shouldPublishLazyExtensionsInitializedOnceFrozen() {
+        // Given:
+        final LazyTestProvider lazy = lazyProvider();
+        extensions.ensureExtensions(List.of(lazy), 1);
+        extensions.freeze();
+        final TestExtension ext = extensions.get(TestExtension.class);
+
+        // When:
+        final TestExtension result =
+                CompletableFuture.supplyAsync(() -> extensions.get(TestExtension.class)).join();
+
+        // Then:
+        assertThat(result, is(sameInstance(ext)));
+    }
+
+    @Test
+    void shouldInitializeLazyExtensionFromOtherThreadOnceFrozen() {
+        // Given:
+        final LazyTestProvider lazy = lazyProvider();
+        extensions.ensureExtensions(List.of(lazy), 1);
+        extensions.freeze();
+
+        // When:
+        final TestExtension result =
+                CompletableFuture.supplyAsync(() -> extensions.get(TestExtension.class)).join();
+
+        // Then:
+        assertThat(extensions.get(TestExtension.class), is(sameInstance(result)));
+        verify(lazy, times(1)).initialize(api);
     }
 
     @ParameterizedTest(name = "[" + INDEX_PLACEHOLDER + "] {0}")
@@ -323,6 +1210,22 @@ class ExtensionsTest {
     }
 
     @SuppressWarnings("unchecked")
+    private List<RecordedEvent> record(final String eventName, final Runnable action)
+            throws Exception {
+        final Path file = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+    }
+
     public static Stream<Arguments> publicMethods() {
         return Stream.of(
                 Arguments.of(
@@ -334,13 +1237,29 @@ class ExtensionsTest {
                 Arguments.of(
                         "ensureExtension(Provider)",
                         (Consumer<Extensions>) m -> m.ensureExtension(new TestExtensionProvider())),
+                Arguments.of(
+                        "ensureExtensions",
+                        (Consumer<Extensions>) m -> m.ensureExtensions(List.of(), 1)),
+                Arguments.of(
+                        "initializationTimes",
+                        (Consumer<Extensions>) Extensions::initializationTimes),
                 Arguments.of("iterator", (Consumer<Extensions>) Extensions::iterator),
                 Arguments.of("spliterator", (Consumer<Extensions>) Extensions::spliterator),
                 Arguments.of("stream", (Consumer<Extensions>) Extensions::stream),
                 Arguments.of(
                         "forEach", (Consumer<Extensions>) m -> m.forEach(mock(Consumer.class))),
                 Arguments.of("get", (Consumer<Extensions>) m -> m.get(TestExtension.class)),
-                Arguments.of("close", (Consumer<Extensions>) Extensions::close));
+                Arguments.of(
+                        "onRegistration",
+                        (Consumer<Extensions>) m -> m.onRegistration(mock(Consumer.class))),
+                Arguments.of("freeze", (Consumer<Extensions>) Extensions::freeze),
+                Arguments.of(
+                        "drain(Duration)",
+                        (Consumer<Extensions>) m -> m.drain(Duration.ofSeconds(1))),
+                Arguments.of("close", (Consumer<Extensions>) Extensions::close),
+                Arguments.of(
+                        "close(Duration)",
+                        (Consumer<Extensions>) m -> m.close(Duration.ofSeconds(1))));
     }
 
     private static List<String> testedMethodNames() {
@@ -428,4 +1347,15 @@ class ExtensionsTest {
     }
 
     private interface UnknownExtension extends CreekExtension {}
+
+    private interface LazyTestProvider extends LazyCreekExtensionProvider<TestExtension> {}
+
+    private interface LazyDiffProvider extends LazyCreekExtensionProvider<DiffExtension> {}
+
+    private static LazyTestProvider lazyProvider() {
+        final LazyTestProvider lazy = mock(LazyTestProvider.class);
+        when(lazy.extensionType()).thenReturn(TestExtension.class);
+        when(lazy.initialize(any())).thenReturn(mock(TestExtension.class));
+        return lazy;
+    }
 }
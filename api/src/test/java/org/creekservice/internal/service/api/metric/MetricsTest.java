@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.api.metric;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.creekservice.api.service.extension.metric.Counter;
+import org.creekservice.api.service.extension.metric.MetricsSnapshot;
+import org.creekservice.api.service.extension.metric.Timer;
+import org.creekservice.api.service.extension.metric.TimerSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MetricsTest {
+
+    private Metrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new Metrics();
+    }
+
+    @Test
+    void shouldReturnSameCounterForSameName() {
+        assertThat(metrics.counter("a"), is(sameInstance(metrics.counter("a"))));
+        assertThat(metrics.counter("a"), is(not(sameInstance(metrics.counter("b")))));
+    }
+
+    @Test
+    void shouldReturnSameTimerForSameName() {
+        assertThat(metrics.timer("a"), is(sameInstance(metrics.timer("a"))));
+        assertThat(metrics.timer("a"), is(not(sameInstance(metrics.timer("b")))));
+    }
+
+    @Test
+    void shouldThrowOnBlankName() {
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> metrics.counter(" "));
+
+        // Then:
+        assertThat(e.getMessage(), is("name can not be blank"));
+    }
+
+    @Test
+    void shouldThrowIfNameUsedByDifferentType() {
+        // Given:
+        metrics.counter("a");
+
+        // When:
+        final Exception e = assertThrows(IllegalArgumentException.class, () -> metrics.timer("a"));
+
+        // Then:
+        assertThat(e.getMessage(), is("Metric already registered as a counter, not a timer: a"));
+    }
+
+    @Test
+    void shouldThrowOnDuplicateGauge() {
+        // Given:
+        metrics.gauge("a", () -> 1);
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> metrics.gauge("a", () -> 2));
+
+        // Then:
+        assertThat(e.getMessage(), is("Metric already registered as a gauge: a"));
+    }
+
+    @Test
+    void shouldCount() {
+        // Given:
+        final Counter counter = metrics.counter("a");
+
+        // When:
+        counter.increment();
+        counter.add(10);
+
+        // Then:
+        assertThat(counter.count(), is(11L));
+    }
+
+    @Test
+    void shouldThrowOnNegativeCounterDelta() {
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> metrics.counter("a").add(-1));
+
+        // Then:
+        assertThat(e.getMessage(), is("delta can not be negative: -1"));
+    }
+
+    @Test
+    void shouldRecordDurations() {
+        // Given:
+        final Timer timer = metrics.timer("a");
+
+        // When:
+        timer.record(Duration.ofNanos(3));
+        timer.recordNanos(100);
+        timer.recordNanos(-5);
+
+        // Then:
+        final TimerSnapshot snapshot = timer.snapshot();
+        assertThat(snapshot.count(), is(3L));
+        assertThat(snapshot.total(), is(Duration.ofNanos(103)));
+        assertThat(snapshot.max(), is(Duration.ofNanos(100)));
+    }
+
+    @Test
+    void shouldTimeCall() {
+        // When:
+        final String result = metrics.timer("a").time(() -> "result");
+
+        // Then:
+        assertThat(result, is("result"));
+        assertThat(metrics.timer("a").snapshot().count(), is(1L));
+    }
+
+    @Test
+    void shouldSnapshotAllMetrics() {
+        // Given:
+        metrics.counter("c").add(2);
+        metrics.gauge("g", () -> 42);
+        metrics.timer("t").recordNanos(7);
+
+        // When:
+        final MetricsSnapshot snapshot = metrics.snapshot();
+
+        // Then:
+        assertThat(snapshot.counters(), is(Map.of("c", 2L)));
+        assertThat(snapshot.gauges(), is(Map.of("g", 42L)));
+        assertThat(snapshot.timers(), is(Map.of("t", metrics.timer("t").snapshot())));
+    }
+
+    @Test
+    void shouldOmitFailingGaugeFromSnapshot() {
+        // Given:
+        metrics.gauge(
+                "g",
+                () -> {
+                    throw new IllegalStateException("boom");
+                });
+
+        // When:
+        final MetricsSnapshot snapshot = metrics.snapshot();
+
+        // Then:
+        assertThat(snapshot.gauges(), is(Map.of()));
+    }
+
+    @Test
+    void shouldNotReflectLaterRecordingInSnapshot() {
+        // Given:
+        final MetricsSnapshot snapshot = metrics.snapshot();
+
+        // When:
+        metrics.counter("c").increment();
+
+        // Then:
+        assertThat(snapshot.counters(), is(not(hasKey("c"))));
+    }
+
+    @Test
+    void shouldRecordConcurrently() {
+        // Given:
+        final Counter counter = metrics.counter("c");
+        final Timer timer = metrics.timer("t");
+
+        // When:
+        final List<CompletableFuture<Void>> futures =
+                IntStream.range(0, 4)
+                        .mapToObj(
+                                i ->
+                                        CompletableFuture.runAsync(
+                                                () -> {
+                                                    for (int j = 0; j < 10_000; j++) {
+                                                        counter.increment();
+                                                        timer.recordNanos(j);
+                                                    }
+                                                }))
+                        .collect(Collectors.toList());
+        futures.forEach(CompletableFuture::join);
+
+        // Then:
+        assertThat(counter.count(), is(40_000L));
+        assertThat(timer.snapshot().count(), is(40_000L));
+    }
+}
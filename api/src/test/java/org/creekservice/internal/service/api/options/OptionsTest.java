@@ -31,6 +31,7 @@ import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -142,6 +143,92 @@ class OptionsTest {
         assertThat(e.getCause().getMessage(), startsWith("Ambiguous entry"));
     }
 
+    @Test
+    void shouldGetFromOtherThreadOnceFrozen() {
+        // Given:
+        options.add(userOptionsA);
+        options.freeze();
+
+        // When:
+        final Optional<BaseOptions> result =
+                CompletableFuture.supplyAsync(() -> options.get(BaseOptions.class)).join();
+
+        // Then:
+        assertThat(result, is(Optional.of(userOptionsA)));
+    }
+
+    @Test
+    void shouldThrowOnAddOnceFrozen() {
+        // Given:
+        options.freeze();
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalStateException.class, () -> options.add(userOptionsA));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                startsWith("Options can not be added once the context is built. type: "));
+    }
+
+    @Test
+    void shouldThrowOnAmbiguousGetOnceFrozen() {
+        // Given:
+        options.add(userOptionsA);
+        options.add(userOptionsB);
+        options.freeze();
+
+        // When:
+        final Exception e =
+                assertThrows(RuntimeException.class, () -> options.get(BaseOptions.class));
+
+        // Return:
+        assertThat(e.getMessage(), startsWith("Requested option type is ambiguous: "));
+    }
+
+    @Test
+    void shouldGetEmptyForUnknownTypeOnceFrozen() {
+        // Given:
+        options.add(userOptionsA);
+        options.freeze();
+
+        // When:
+        final Optional<TestOptionsB> result = options.get(TestOptionsB.class);
+
+        // Then:
+        assertThat(result, is(Optional.empty()));
+    }
+
+    @Test
+    void shouldGetUnusedFromOtherThreadOnceFrozen() {
+        // Given:
+        options.add(userOptionsA);
+        options.add(userOptionsB);
+        options.get(TestOptionsA.class);
+        options.freeze();
+
+        // When:
+        final Set<CreekExtensionOptions> result =
+                CompletableFuture.supplyAsync(() -> options.unused()).join();
+
+        // Then:
+        assertThat(result, is(Set.of(userOptionsB)));
+    }
+
+    @Test
+    void shouldNotChangeUnusedOnGetOnceFrozen() {
+        // Given:
+        options.add(userOptionsA);
+        options.freeze();
+
+        // When:
+        options.get(TestOptionsA.class);
+
+        // Then:
+        assertThat(options.unused(), is(Set.of(userOptionsA)));
+    }
+
     @ParameterizedTest(name = "[" + INDEX_PLACEHOLDER + "] {0}")
     @MethodSource("publicMethods")
     void shouldThrowIfWrongThread(final String ignored, final Consumer<Options> method) {
@@ -169,7 +256,8 @@ class OptionsTest {
         return Stream.of(
                 Arguments.of("add", (Consumer<Options>) o -> o.add(new TestOptionsA())),
                 Arguments.of("get", (Consumer<Options>) o -> o.get(TestOptionsA.class)),
-                Arguments.of("unused", (Consumer<Options>) Options::unused));
+                Arguments.of("unused", (Consumer<Options>) Options::unused),
+                Arguments.of("freeze", (Consumer<Options>) Options::freeze));
     }
 
     private static List<String> testedMethodNames() {
@@ -19,6 +19,7 @@ package org.creekservice.internal.service.api.util;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Optional;
@@ -144,6 +145,101 @@ class SubTypeAwareMapTest {
                             + "]"));
     }
 
+    @Test
+    void shouldInvalidateCachedLookupsOnPut() {
+        // Given:
+        map.put(KeyType.class, "base");
+        map.getOrSub(KeyTypeAA.class);
+        map.getOrSuper(KeyType.class);
+
+        // When:
+        map.put(KeyTypeA.class, "a");
+
+        // Then:
+        assertThat(map.getOrSub(KeyTypeAA.class), is(Optional.of("a")));
+        assertThat(map.getOrSuper(KeyTypeAA.class), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldInvalidateCachedNegativeLookupsOnPut() {
+        // Given:
+        map.getOrSub(KeyTypeA.class);
+        map.getOrSuper(KeyType.class);
+
+        // When:
+        map.put(KeyTypeA.class, "a");
+
+        // Then:
+        assertThat(map.getOrSub(KeyTypeAA.class), is(Optional.of("a")));
+        assertThat(map.getOrSuper(KeyType.class), is(Optional.of("a")));
+    }
+
+    @Test
+    void shouldInvalidateCachedLookupsOnRemove() {
+        // Given:
+        map.put(KeyType.class, "base");
+        map.put(KeyTypeA.class, "a");
+        map.getOrSub(KeyTypeAA.class);
+
+        // When:
+        map.remove(KeyTypeA.class);
+
+        // Then:
+        assertThat(map.getOrSub(KeyTypeAA.class), is(Optional.of("base")));
+    }
+
+    @Test
+    void shouldInvalidateCachedLookupsOnClear() {
+        // Given:
+        map.put(KeyType.class, "base");
+        map.getOrSub(KeyTypeAA.class);
+
+        // When:
+        map.clear();
+
+        // Then:
+        assertThat(map.getOrSub(KeyTypeAA.class), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldReturnLatestValueForCachedLookup() {
+        // Given:
+        map.put(KeyType.class, "base");
+        map.getOrSub(KeyTypeA.class);
+
+        // When:
+        map.put(KeyType.class, "updated");
+
+        // Then:
+        assertThat(map.getOrSub(KeyTypeA.class), is(Optional.of("updated")));
+    }
+
+    @Test
+    void shouldThrowOnEachAmbiguousLookup() {
+        // Given:
+        map.put(KeyTypeA.class, "a");
+        map.put(KeyTypeB.class, "b");
+        assertThrows(RuntimeException.class, () -> map.getOrSuper(KeyType.class));
+
+        // When:
+        final Exception e =
+                assertThrows(RuntimeException.class, () -> map.getOrSuper(KeyType.class));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("Ambiguous entry."));
+    }
+
+    @Test
+    void shouldNotAllowMutationViaEntrySet() {
+        // Given:
+        map.put(KeyTypeA.class, "a");
+
+        // Then:
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> map.entrySet().iterator().next().setValue("b"));
+    }
+
     private interface KeyType {}
 
     private interface KeyTypeA extends KeyType {}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
+import org.creekservice.api.service.extension.CreekExtension;
+import org.creekservice.api.service.extension.CreekExtensionProvider;
+import org.creekservice.api.service.extension.CreekService;
+import org.creekservice.api.service.extension.component.model.ResourceHandler;
+import org.creekservice.internal.service.api.Creek;
+import org.creekservice.internal.service.api.component.model.ComponentModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks {@link ComponentModel#resourceHandler} with {@code size} registered types. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ComponentModelBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int size;
+
+    private ComponentModel model;
+    private Class<? extends ResourceDescriptor> exact;
+
+    @Setup
+    public void setUp() {
+        final List<Class<? extends ResourceDescriptor>> types = SyntheticTypes.resourceTypes(size);
+        final Creek api = new Creek(List.of());
+        api.extensions().ensureExtension(new Provider(types));
+        model = api.components().model();
+        exact = types.get(types.size() / 2);
+    }
+
+    @Benchmark
+    public ResourceHandler<?> resourceHandlerExact() {
+        return model.resourceHandler(exact);
+    }
+
+    @Benchmark
+    public ResourceHandler<?> resourceHandlerSubtype() {
+        return model.resourceHandler(Child.class);
+    }
+
+    private interface Parent extends ResourceDescriptor {}
+
+    private interface Child extends Parent {}
+
+    private static final class Provider implements CreekExtensionProvider<Extension> {
+
+        private final List<Class<? extends ResourceDescriptor>> types;
+
+        Provider(final List<Class<? extends ResourceDescriptor>> types) {
+            this.types = List.copyOf(types);
+        }
+
+        @Override
+        public Extension initialize(final CreekService api) {
+            types.forEach(type -> api.components().model().addResource(type, new Handler()));
+            api.components().model().addResource(Parent.class, new Handler());
+            return new Extension();
+        }
+    }
+
+    private static final class Extension implements CreekExtension {
+        @Override
+        public String name() {
+            return "benchmark";
+        }
+    }
+
+    private static final class Handler implements ResourceHandler<ResourceDescriptor> {
+        @Override
+        public void validate(final Collection<? extends ResourceDescriptor> resourceGroup) {}
+
+        @Override
+        public void prepare(final Collection<? extends ResourceDescriptor> resources) {}
+    }
+}
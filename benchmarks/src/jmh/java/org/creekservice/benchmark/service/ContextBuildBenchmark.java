@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.platform.metadata.ComponentInput;
+import org.creekservice.api.platform.metadata.ComponentOutput;
+import org.creekservice.api.platform.metadata.ServiceDescriptor;
+import org.creekservice.api.service.context.CreekContext;
+import org.creekservice.api.service.context.CreekServices;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks building a full context, via {@link CreekServices#builder}, for a service with
+ * {@code resources} inputs and {@code resources} outputs, all handled by {@link
+ * SyntheticExtensionProvider}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ContextBuildBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int resources;
+
+    private ServiceDescriptor service;
+
+    @Setup
+    public void setUp() {
+        service = new SyntheticService(resources);
+    }
+
+    @Benchmark
+    public CreekContext build() {
+        try (CreekContext ctx = CreekServices.builder(service).build()) {
+            return ctx;
+        }
+    }
+
+    private static final class SyntheticService implements ServiceDescriptor {
+
+        private final List<ComponentInput> inputs;
+        private final List<ComponentOutput> outputs;
+
+        SyntheticService(final int count) {
+            final List<ComponentInput> inputs = new ArrayList<>(count);
+            final List<ComponentOutput> outputs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                inputs.add(new SyntheticExtensionProvider.Input("synthetic:input-" + i));
+                outputs.add(new SyntheticExtensionProvider.Output("synthetic:output-" + i));
+            }
+            this.inputs = List.copyOf(inputs);
+            this.outputs = List.copyOf(outputs);
+        }
+
+        @Override
+        public String name() {
+            return "synthetic-service";
+        }
+
+        @Override
+        public String dockerImage() {
+            return "synthetic-service";
+        }
+
+        @Override
+        public Collection<ComponentInput> inputs() {
+            return inputs;
+        }
+
+        @Override
+        public Collection<ComponentOutput> outputs() {
+            return outputs;
+        }
+    }
+}
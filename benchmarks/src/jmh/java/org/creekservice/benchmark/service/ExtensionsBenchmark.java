@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.service.extension.CreekExtension;
+import org.creekservice.api.service.extension.CreekExtensionProvider;
+import org.creekservice.api.service.extension.CreekService;
+import org.creekservice.internal.service.api.Creek;
+import org.creekservice.internal.service.api.extension.Extensions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks {@link Extensions#get} with several installed extensions. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ExtensionsBenchmark {
+
+    private Extensions extensions;
+
+    @Setup
+    public void setUp() {
+        extensions = new Creek(List.of()).extensions();
+        extensions.ensureExtension(new ProviderA());
+        extensions.ensureExtension(new ProviderB());
+        extensions.ensureExtension(new ProviderC());
+        extensions.ensureExtension(new ProviderD());
+    }
+
+    @Benchmark
+    public CreekExtension getFirst() {
+        return extensions.get(ExtensionA.class);
+    }
+
+    @Benchmark
+    public CreekExtension getLast() {
+        return extensions.get(ExtensionD.class);
+    }
+
+    @Benchmark
+    public CreekExtension getBySuperType() {
+        return extensions.get(MarkerD.class);
+    }
+
+    private interface MarkerD extends CreekExtension {}
+
+    private abstract static class NamedExtension implements CreekExtension {
+        @Override
+        public String name() {
+            return getClass().getSimpleName();
+        }
+    }
+
+    private static final class ExtensionA extends NamedExtension {}
+
+    private static final class ExtensionB extends NamedExtension {}
+
+    private static final class ExtensionC extends NamedExtension {}
+
+    private static final class ExtensionD extends NamedExtension implements MarkerD {}
+
+    private static final class ProviderA implements CreekExtensionProvider<ExtensionA> {
+        @Override
+        public ExtensionA initialize(final CreekService api) {
+            return new ExtensionA();
+        }
+    }
+
+    private static final class ProviderB implements CreekExtensionProvider<ExtensionB> {
+        @Override
+        public ExtensionB initialize(final CreekService api) {
+            return new ExtensionB();
+        }
+    }
+
+    private static final class ProviderC implements CreekExtensionProvider<ExtensionC> {
+        @Override
+        public ExtensionC initialize(final CreekService api) {
+            return new ExtensionC();
+        }
+    }
+
+    private static final class ProviderD implements CreekExtensionProvider<ExtensionD> {
+        @Override
+        public ExtensionD initialize(final CreekService api) {
+            return new ExtensionD();
+        }
+    }
+}
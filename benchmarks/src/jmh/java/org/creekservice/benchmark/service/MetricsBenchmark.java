@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.service;
+
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.service.extension.metric.Counter;
+import org.creekservice.api.service.extension.metric.Timer;
+import org.creekservice.internal.service.api.metric.Metrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks recording to shared {@link Metrics} from multiple threads. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(4)
+public class MetricsBenchmark {
+
+    private Metrics metrics;
+    private Counter counter;
+    private Timer timer;
+
+    @Setup
+    public void setUp() {
+        metrics = new Metrics();
+        counter = metrics.counter("benchmark.counter");
+        timer = metrics.timer("benchmark.timer");
+    }
+
+    @Benchmark
+    public void increment() {
+        counter.increment();
+    }
+
+    @Benchmark
+    public void record() {
+        timer.recordNanos(1_234);
+    }
+
+    @Benchmark
+    public Counter lookupAndIncrement() {
+        final Counter c = metrics.counter("benchmark.counter");
+        c.increment();
+        return c;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.service;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.service.extension.CreekExtensionOptions;
+import org.creekservice.internal.service.api.options.Options;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link Options#get} with {@code size} registered option types, before and after the
+ * options are {@link Options#freeze() frozen}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class OptionsBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean frozen;
+
+    private Options options;
+    private Class<? extends CreekExtensionOptions> exact;
+
+    @Setup
+    public void setUp() {
+        options = new Options();
+        SyntheticTypes.options(size).forEach(options::add);
+        options.add(new ChildOptions());
+        exact = ChildOptions.class;
+        if (frozen) {
+            options.freeze();
+        }
+    }
+
+    @Benchmark
+    public Optional<? extends CreekExtensionOptions> getExact() {
+        return options.get(exact);
+    }
+
+    @Benchmark
+    public Optional<? extends CreekExtensionOptions> getBySuperType() {
+        return options.get(ParentOptions.class);
+    }
+
+    @Benchmark
+    public Optional<? extends CreekExtensionOptions> getMiss() {
+        return options.get(UnknownOptions.class);
+    }
+
+    private interface ParentOptions extends CreekExtensionOptions {}
+
+    private interface UnknownOptions extends CreekExtensionOptions {}
+
+    private static final class ChildOptions implements ParentOptions {}
+}
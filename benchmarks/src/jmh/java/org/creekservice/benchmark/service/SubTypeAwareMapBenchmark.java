@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
+import org.creekservice.internal.service.api.util.SubTypeAwareMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link SubTypeAwareMap} lookups.
+ *
+ * <p>The map holds {@code size} unrelated types, plus {@link Parent}. Exact lookups hit one of
+ * the unrelated types; subtype and supertype lookups resolve to {@link Parent}; misses match
+ * nothing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SubTypeAwareMapBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int size;
+
+    private SubTypeAwareMap<ResourceDescriptor, String> map;
+    private Class<? extends ResourceDescriptor> exact;
+
+    @Setup
+    public void setUp() {
+        map = new SubTypeAwareMap<>();
+        final List<Class<? extends ResourceDescriptor>> types = SyntheticTypes.resourceTypes(size);
+        types.forEach(type -> map.put(type, type.getName()));
+        map.put(Parent.class, "parent");
+        exact = types.get(types.size() / 2);
+    }
+
+    @Benchmark
+    public Optional<String> getOrSubExact() {
+        return map.getOrSub(exact);
+    }
+
+    @Benchmark
+    public Optional<String> getOrSubSubtype() {
+        return map.getOrSub(Child.class);
+    }
+
+    @Benchmark
+    public Optional<String> getOrSubMiss() {
+        return map.getOrSub(Unrelated.class);
+    }
+
+    @Benchmark
+    public Optional<String> getOrSuperExact() {
+        return map.getOrSuper(exact);
+    }
+
+    @Benchmark
+    public Optional<String> getOrSuperSupertype() {
+        return map.getOrSuper(GrandParent.class);
+    }
+
+    @Benchmark
+    public Optional<String> getOrSuperMiss() {
+        return map.getOrSuper(Unrelated.class);
+    }
+
+    private interface GrandParent extends ResourceDescriptor {}
+
+    private interface Parent extends GrandParent {}
+
+    private interface Child extends Parent {}
+
+    private interface Unrelated extends ResourceDescriptor {}
+}
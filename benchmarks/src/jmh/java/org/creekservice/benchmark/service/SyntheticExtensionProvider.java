@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.service;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URI;
+import java.util.Collection;
+import org.creekservice.api.platform.metadata.ComponentInput;
+import org.creekservice.api.platform.metadata.ComponentOutput;
+import org.creekservice.api.platform.metadata.OwnedResource;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
+import org.creekservice.api.platform.metadata.UnownedResource;
+import org.creekservice.api.service.extension.CreekExtension;
+import org.creekservice.api.service.extension.CreekExtensionProvider;
+import org.creekservice.api.service.extension.CreekService;
+import org.creekservice.api.service.extension.component.model.ResourceHandler;
+
+/**
+ * Extension provider, loaded via {@link java.util.ServiceLoader}, that handles synthetic inputs
+ * and outputs without doing any work.
+ */
+public final class SyntheticExtensionProvider
+        implements CreekExtensionProvider<SyntheticExtensionProvider.Extension> {
+
+    public SyntheticExtensionProvider() {}
+
+    @Override
+    public Extension initialize(final CreekService api) {
+        api.components()
+                .model()
+                .addResource(Input.class, new NoOpHandler<>())
+                .addResource(Output.class, new NoOpHandler<>());
+        return new Extension();
+    }
+
+    public static final class Extension implements CreekExtension {
+
+        private Extension() {}
+
+        @Override
+        public String name() {
+            return "synthetic";
+        }
+    }
+
+    /** Synthetic unowned input, which is validated and prepared. */
+    public static final class Input implements ComponentInput, UnownedResource {
+
+        private final URI id;
+
+        Input(final String id) {
+            this.id = URI.create(requireNonNull(id, "id"));
+        }
+
+        @Override
+        public URI id() {
+            return id;
+        }
+    }
+
+    /** Synthetic owned output, which is validated, ensured and prepared. */
+    public static final class Output implements ComponentOutput, OwnedResource {
+
+        private final URI id;
+
+        Output(final String id) {
+            this.id = URI.create(requireNonNull(id, "id"));
+        }
+
+        @Override
+        public URI id() {
+            return id;
+        }
+    }
+
+    private static final class NoOpHandler<T extends ResourceDescriptor>
+            implements ResourceHandler<T> {
+
+        @Override
+        public void validate(final Collection<? extends T> resourceGroup) {}
+
+        @Override
+        public void ensure(final Collection<? extends T> creatableResources) {}
+
+        @Override
+        public void prepare(final Collection<? extends T> resources) {}
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
+import org.creekservice.api.service.extension.CreekExtensionOptions;
+
+/**
+ * Generates any number of distinct types for benchmarks, by defining hidden classes from a
+ * template.
+ */
+final class SyntheticTypes {
+
+    private SyntheticTypes() {}
+
+    /** Template for synthetic resource types. */
+    interface SyntheticResource extends ResourceDescriptor {}
+
+    /** Template for synthetic option types. */
+    static final class SyntheticOptions implements CreekExtensionOptions {}
+
+    /**
+     * @param count the number of types to define.
+     * @return {@code count} distinct subtypes of {@link ResourceDescriptor}.
+     */
+    @SuppressWarnings("unchecked")
+    static List<Class<? extends ResourceDescriptor>> resourceTypes(final int count) {
+        final List<Class<? extends ResourceDescriptor>> types = new ArrayList<>(count);
+        define(SyntheticResource.class, count)
+                .forEach(type -> types.add((Class<? extends ResourceDescriptor>) type));
+        return types;
+    }
+
+    /**
+     * @param count the number of instances to create.
+     * @return {@code count} options, each of a distinct type.
+     */
+    static List<CreekExtensionOptions> options(final int count) {
+        final List<CreekExtensionOptions> options = new ArrayList<>(count);
+        for (final Class<?> type : define(SyntheticOptions.class, count)) {
+            try {
+                options.add((CreekExtensionOptions) type.getDeclaredConstructor().newInstance());
+            } catch (final ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return options;
+    }
+
+    private static List<Class<?>> define(final Class<?> template, final int count) {
+        final byte[] bytes = readBytes(template);
+        final List<Class<?>> types = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                types.add(MethodHandles.lookup().defineHiddenClass(bytes, true).lookupClass());
+            }
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        return types;
+    }
+
+    private static byte[] readBytes(final Class<?> type) {
+        final String name = type.getName();
+        final String resource = name.substring(name.lastIndexOf('.') + 1) + ".class";
+        try (InputStream in = type.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Class file not found: " + resource);
+            }
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -22,9 +22,11 @@ module creek.service.context {
     requires transitive creek.service.api;
     requires creek.observability.logging;
     requires creek.platform.resource;
+    requires jdk.jfr;
     requires com.github.spotbugs.annotations;
 
     exports org.creekservice.api.service.context;
+    exports org.creekservice.api.service.context.temporal;
 
     uses CreekExtensionProvider;
 }
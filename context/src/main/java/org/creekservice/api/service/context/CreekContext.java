@@ -16,10 +16,21 @@
 
 package org.creekservice.api.service.context;
 
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import org.creekservice.api.base.type.temporal.Clock;
 import org.creekservice.api.service.extension.CreekExtension;
+import org.creekservice.api.service.extension.health.Health;
+import org.creekservice.api.service.extension.metric.MetricRegistry;
 
-/** One-stop shop for access to Creek functionality. */
+/**
+ * One-stop shop for access to Creek functionality.
+ *
+ * <p>A built context is thread-safe: extensions can be accessed from any thread, e.g. stream
+ * processing or request handling threads, including extensions whose initialization was deferred
+ * until first use. The context should be closed from the thread that built it.
+ */
 public interface CreekContext extends AutoCloseable {
 
     /**
@@ -43,6 +54,94 @@ public interface CreekContext extends AutoCloseable {
      */
     <T extends CreekExtension> T extension(Class<T> extensionType);
 
-    /** Close all resources held by Creek. */
+    /**
+     * Get a breakdown of the time taken to build this context.
+     *
+     * <p>The same report is logged once the context is built.
+     *
+     * <p>Contexts that do not time their startup return an {@link StartupReport#empty() empty}
+     * report.
+     *
+     * @return the startup report.
+     */
+    default StartupReport startupReport() {
+        return StartupReport.empty();
+    }
+
+    /**
+     * Get the executor managed by the context, for running blocking tasks.
+     *
+     * <p>Where the JVM supports them, each task runs on its own virtual thread, allowing
+     * thousands of concurrent blocking operations without tuning a thread pool. Otherwise,
+     * tasks run on a shared pool of daemon platform threads.
+     *
+     * <p>Services should prefer this executor to creating their own thread pools. Running tasks
+     * are interrupted when the context is closed.
+     *
+     * <p>Contexts that do not manage an executor return the {@link ForkJoinPool#commonPool()
+     * common pool}, which is not shut down when the context is closed.
+     *
+     * @return the executor.
+     */
+    default Executor executor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Create a new scope for running a group of related tasks on the {@link #executor()}.
+     *
+     * @return the new scope, which the caller is responsible for closing.
+     */
+    TaskScope newTaskScope();
+
+    /**
+     * Get the scheduler managed by the context, for running one-shot and periodic tasks.
+     *
+     * <p>Services should prefer this scheduler to creating their own scheduled thread pools.
+     *
+     * @return the scheduler.
+     */
+    Scheduler scheduler();
+
+    /**
+     * Get the registry of metrics shared by Creek, extensions and the service.
+     *
+     * <p>This is the same registry extensions access via {@link
+     * org.creekservice.api.service.extension.CreekService#metrics()}.
+     *
+     * <p>Implementations that do not collect metrics return a {@link MetricRegistry#noOp()
+     * no-op} registry.
+     *
+     * @return the metric registry.
+     */
+    default MetricRegistry metrics() {
+        return MetricRegistry.noOp();
+    }
+
+    /**
+     * Get the aggregated health of the context and its extensions.
+     *
+     * <p>Extensions push changes in their health, so this call is cheap: a single volatile read.
+     * It is suitable for calling from liveness and readiness probes.
+     *
+     * <p>Once the context starts closing, it reports itself as degraded, i.e. not ready.
+     *
+     * <p>Contexts that do not monitor health always report the context as up, with no
+     * extensions.
+     *
+     * @return the current health report.
+     */
+    default HealthReport health() {
+        return HealthReport.of(Health.up(), Map.of());
+    }
+
+    /**
+     * Close all resources held by Creek.
+     *
+     * <p>Pending scheduled tasks and open task scopes are cancelled, extensions drained and
+     * closed, and then the {@link #executor()} shut down.
+     *
+     * <p>Calls after the first have no effect.
+     */
     void close();
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.context;
+
+/**
+ * The captured settings of a context builder whose resources have been validated and ensured,
+ * from which new contexts can be created.
+ *
+ * <p>Intended for test suites that create many contexts for the same service: extension provider
+ * discovery, the indexing of component resources, and resource validation and ensure happen once,
+ * when the snapshot is taken. Extension providers are still instantiated, and their extensions
+ * initialized and prepared, for each new context.
+ *
+ * <p>Obtain via {@link CreekServices.Builder#snapshot()}.
+ */
+public interface CreekContextSnapshot {
+
+    /**
+     * Create a new context from the snapshot.
+     *
+     * <p>Each context has its own extension provider instances and newly initialized extensions,
+     * and so is isolated from other contexts created from the same snapshot. Extensions are
+     * initialized with the same options as the snapshot, and prepared for the same resources.
+     *
+     * <p>This method is not thread-safe: contexts should be created from one thread at a time.
+     *
+     * @return the new context, which the caller is responsible for closing.
+     */
+    CreekContext newContext();
+}
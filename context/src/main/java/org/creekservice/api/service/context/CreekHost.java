@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.context;
+
+/**
+ * Hosts multiple services in the same JVM, sharing a single set of initialized Creek extensions.
+ *
+ * <p>Each hosted service gets its own {@link CreekContext}. The extensions behind the contexts are
+ * shared, and are closed once every hosted context is closed, or the host itself is closed.
+ */
+public interface CreekHost extends AutoCloseable {
+
+    /**
+     * Get the context of a hosted service.
+     *
+     * @param serviceName the name of the service.
+     * @return the service's context.
+     * @throws IllegalArgumentException if no service with the supplied name is hosted.
+     */
+    CreekContext context(String serviceName);
+
+    /**
+     * Get a breakdown of the time taken to build the host's shared context.
+     *
+     * @return the startup report.
+     */
+    StartupReport startupReport();
+
+    /** Close all hosted contexts, and the extensions they share. */
+    @Override
+    void close();
+}
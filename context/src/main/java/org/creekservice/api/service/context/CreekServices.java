@@ -16,6 +16,9 @@
 
 package org.creekservice.api.service.context;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import org.creekservice.api.base.type.temporal.Clock;
 import org.creekservice.api.platform.metadata.ServiceDescriptor;
@@ -23,6 +26,7 @@ import org.creekservice.api.service.extension.CreekExtensionOptions;
 import org.creekservice.api.service.extension.CreekExtensionProviders;
 import org.creekservice.internal.service.api.Creek;
 import org.creekservice.internal.service.context.ContextBuilder;
+import org.creekservice.internal.service.context.ContextHostBuilder;
 
 /** Defines the entry point for initialising Creek and getting hold of a {@link CreekContext}. */
 public final class CreekServices {
@@ -50,6 +54,23 @@ public final class CreekServices {
                 service, new Creek(List.of(service)), CreekExtensionProviders.load());
     }
 
+    /**
+     * Create a builder of a host for multiple services running in the same JVM.
+     *
+     * <p>Extension providers are loaded and initialized once, and shared by all hosted services.
+     * The resources of all services are validated, ensured and prepared together, so that each
+     * resource handler is called once per phase with the de-duplicated resources of all services.
+     *
+     * @param services the descriptors of the services to host.
+     * @return the host builder.
+     * @throws IllegalArgumentException if {@code services} is empty or contains duplicate names.
+     */
+    public static HostBuilder hostBuilder(final Collection<? extends ServiceDescriptor> services) {
+        final List<ServiceDescriptor> all = List.copyOf(services);
+        return new ContextHostBuilder(
+                all, new ContextBuilder(all, new Creek(all), CreekExtensionProviders.load()));
+    }
+
     /** Builder of {@link CreekContext} */
     public interface Builder {
 
@@ -60,6 +81,13 @@ public final class CreekServices {
          * environment variable. See {@link
          * org.creekservice.internal.service.context.temporal.SystemEnvClockLoader}.
          *
+         * <p>Hot paths that do not need high accuracy may benefit from a {@link
+         * org.creekservice.api.service.context.temporal.CachedClock}.
+         *
+         * <p>The caller retains ownership of the clock: it is not closed when the context is
+         * closed. A clock created from the environment variable is owned, and closed, by the
+         * context.
+         *
          * @param clock the clock impl to use.
          * @return self.
          */
@@ -73,9 +101,241 @@ public final class CreekServices {
          */
         Builder with(CreekExtensionOptions options);
 
+        /**
+         * Set the maximum number of extension providers to initialize concurrently.
+         *
+         * <p>By default, providers are initialized sequentially on the calling thread. Setting a
+         * value greater than {@code 1} opts in to concurrent initialization, where providers that
+         * do not depend on each other, as declared by {@link
+         * org.creekservice.api.service.extension.CreekExtensionProvider#dependsOn()}, are
+         * initialized concurrently on a bounded pool of worker threads. Only opt in if all
+         * providers in use can be safely initialized concurrently.
+         *
+         * <p>The default implementation ignores the setting and returns the builder unchanged.
+         *
+         * @param parallelism the maximum number of providers to initialize concurrently.
+         * @return self.
+         */
+        default Builder withExtensionParallelism(int parallelism) {
+            return this;
+        }
+
+        /**
+         * Set the maximum number of resource handlers to call concurrently.
+         *
+         * <p>By default, resource handlers are called sequentially on the calling thread. Setting
+         * a value greater than {@code 1} opts in to concurrent resource handling, where calls to
+         * handlers that report themselves as {@link
+         * org.creekservice.api.service.extension.component.model.ResourceHandler#isThreadSafe()
+         * thread-safe} are made concurrently on a bounded pool of worker threads.
+         *
+         * <p>Resource validation, creation and preparation still run as distinct phases: all
+         * calls of one phase complete before any call of the next phase starts.
+         *
+         * <p>The default implementation ignores the setting and returns the builder unchanged.
+         *
+         * @param parallelism the maximum number of handlers to call concurrently.
+         * @return self.
+         */
+        default Builder withResourceParallelism(int parallelism) {
+            return this;
+        }
+
+        /**
+         * Set the maximum time to wait for extensions to close when the context is closed.
+         *
+         * <p>Extensions are closed in reverse dependency order, with extensions that do not depend
+         * on each other closed concurrently. Any extension still closing once the timeout expires
+         * is abandoned, allowing the service to stop within its termination grace period.
+         *
+         * <p>Defaults to 20 seconds.
+         *
+         * <p>The default implementation ignores the setting and returns the builder unchanged.
+         *
+         * @param timeout the maximum time to wait.
+         * @return self.
+         */
+        default Builder withCloseTimeout(Duration timeout) {
+            return this;
+        }
+
+        /**
+         * Set the tick duration of the context's {@link CreekContext#scheduler() scheduler}.
+         *
+         * <p>Scheduled tasks fire within one tick of their deadline. A shorter tick gives more
+         * accurate timing, at the cost of the scheduler waking more often.
+         *
+         * <p>Defaults to 10 milliseconds.
+         *
+         * <p>The default implementation ignores the setting and returns the builder unchanged.
+         *
+         * @param tick the tick duration.
+         * @return self.
+         */
+        default Builder withSchedulerTick(Duration tick) {
+            return this;
+        }
+
+        /**
+         * Set how the service terminates when a thread throws an uncaught exception.
+         *
+         * <p>Defaults to {@link TerminationPolicy#drainAndExit()}.
+         *
+         * <p>The default implementation ignores the setting and returns the builder unchanged.
+         *
+         * @param policy the termination policy.
+         * @return self.
+         */
+        default Builder withTerminationPolicy(TerminationPolicy policy) {
+            return this;
+        }
+
+        /**
+         * Enable a local store of the resources previously ensured, allowing Creek to skip
+         * ensuring resources that have not changed since the last time the service started.
+         *
+         * <p>The store records a fingerprint of each ensured resource descriptor, per resource
+         * handler. On start-up, resources whose fingerprint matches an entry younger than {@code
+         * ttl} are not passed to the handler's {@code ensure} method. This avoids a burst of admin
+         * calls from every replica during a rolling deploy.
+         *
+         * <p>The fingerprint is derived from the descriptor's type and {@code toString}.
+         * Descriptors whose {@code toString} does not capture their full configuration will only
+         * be re-ensured once their entry expires.
+         *
+         * <p>Disabled by default.
+         *
+         * <p>The default implementation ignores the setting and returns the builder unchanged.
+         *
+         * @param directory the directory to store the state in, which should survive restarts.
+         * @param ttl the maximum time since a resource was last ensured before it is ensured
+         *     again.
+         * @return self.
+         */
+        default Builder withEnsureStateCache(Path directory, Duration ttl) {
+            return this;
+        }
+
+        /**
+         * Force all resources to be ensured, ignoring any state in the ensure state cache.
+         *
+         * <p>The cache, if enabled, is still updated.
+         *
+         * <p>The default implementation ignores the setting and returns the builder unchanged.
+         *
+         * @param force {@code true} to force resources to be ensured.
+         * @return self.
+         * @see #withEnsureStateCache(Path, Duration)
+         */
+        default Builder withForcedEnsure(boolean force) {
+            return this;
+        }
+
         /**
          * @return the context the service should use.
          */
         CreekContext build();
+
+        /**
+         * Validate and ensure resources once, and capture the builder's settings in a snapshot
+         * from which new contexts can be created without repeating that work.
+         *
+         * <p>Taking the snapshot initializes extensions, to validate and ensure resources, and
+         * then closes them again. No context is built. Contexts later created from the snapshot
+         * use the options of this builder and skip provider discovery, the option check, the
+         * indexing of component resources, and resource validation and ensure.
+         *
+         * <p>Each new context still gets new instances of the extension providers and newly
+         * initialized extensions, as extensions hold per-context state, such as clients and the
+         * resource handlers they register. Extensions are prepared for each new context.
+         *
+         * <p>Intended for tests. Services should use {@link #build()}.
+         *
+         * @return the snapshot.
+         * @throws UnsupportedOperationException if the builder does not support snapshots, which is
+         *     the default.
+         */
+        default CreekContextSnapshot snapshot() {
+            throw new UnsupportedOperationException("Not supported by this builder");
+        }
+    }
+
+    /**
+     * Builder of {@link CreekHost}.
+     *
+     * <p>Customizations apply to the context shared by all hosted services. See {@link Builder}
+     * for details of each.
+     */
+    public interface HostBuilder {
+
+        /**
+         * @param clock the clock impl to use.
+         * @return self.
+         * @see Builder#with(Clock)
+         */
+        HostBuilder with(Clock clock);
+
+        /**
+         * @param options the options to set.
+         * @return self.
+         * @see Builder#with(CreekExtensionOptions)
+         */
+        HostBuilder with(CreekExtensionOptions options);
+
+        /**
+         * @param parallelism the maximum number of providers to initialize concurrently.
+         * @return self.
+         * @see Builder#withExtensionParallelism(int)
+         */
+        HostBuilder withExtensionParallelism(int parallelism);
+
+        /**
+         * @param parallelism the maximum number of handlers to call concurrently.
+         * @return self.
+         * @see Builder#withResourceParallelism(int)
+         */
+        HostBuilder withResourceParallelism(int parallelism);
+
+        /**
+         * @param timeout the maximum time to wait.
+         * @return self.
+         * @see Builder#withCloseTimeout(Duration)
+         */
+        HostBuilder withCloseTimeout(Duration timeout);
+
+        /**
+         * @param tick the tick duration.
+         * @return self.
+         * @see Builder#withSchedulerTick(Duration)
+         */
+        HostBuilder withSchedulerTick(Duration tick);
+
+        /**
+         * @param policy the termination policy.
+         * @return self.
+         * @see Builder#withTerminationPolicy(TerminationPolicy)
+         */
+        HostBuilder withTerminationPolicy(TerminationPolicy policy);
+
+        /**
+         * @param directory the directory to store the state in.
+         * @param ttl the maximum time since a resource was last ensured before it is ensured
+         *     again.
+         * @return self.
+         * @see Builder#withEnsureStateCache(Path, Duration)
+         */
+        HostBuilder withEnsureStateCache(Path directory, Duration ttl);
+
+        /**
+         * @param force {@code true} to force resources to be ensured.
+         * @return self.
+         * @see Builder#withForcedEnsure(boolean)
+         */
+        HostBuilder withForcedEnsure(boolean force);
+
+        /**
+         * @return the host of the services.
+         */
+        CreekHost build();
     }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.context;
+
+import java.time.Duration;
+import java.util.List;
+
+/** A startup report with no timings, for contexts that do not time their startup. */
+final class EmptyStartupReport implements StartupReport {
+
+    static final EmptyStartupReport INSTANCE = new EmptyStartupReport();
+
+    private EmptyStartupReport() {}
+
+    @Override
+    public Duration total() {
+        return Duration.ZERO;
+    }
+
+    @Override
+    public List<Timing> timings() {
+        return List.of();
+    }
+
+    @Override
+    public String toString() {
+        return "StartupReport{total=" + Duration.ZERO + ", timings=[]}";
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.context;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.creekservice.api.service.extension.health.Health;
+import org.creekservice.api.service.extension.health.HealthStatus;
+
+/**
+ * Immutable, aggregated health of a context and its extensions.
+ *
+ * <p>The overall {@link #status()} is the worst of the context's own health and that of its
+ * extensions. Suitable for backing liveness and readiness probes: a service is {@link #live()}
+ * unless anything is {@link HealthStatus#DOWN down}, and {@link #ready()} only if everything is
+ * {@link HealthStatus#UP up}.
+ */
+public final class HealthReport {
+
+    private final Health context;
+    private final Map<String, Health> extensions;
+    private final HealthStatus status;
+
+    /**
+     * Create a report.
+     *
+     * @param context the health of the context itself, e.g. degraded while closing.
+     * @param extensions the health of each extension, keyed by the class name of the extension.
+     * @return the report.
+     */
+    public static HealthReport of(final Health context, final Map<String, Health> extensions) {
+        return new HealthReport(context, extensions);
+    }
+
+    private HealthReport(final Health context, final Map<String, Health> extensions) {
+        this.context = requireNonNull(context, "context");
+        this.extensions =
+                Collections.unmodifiableMap(
+                        new LinkedHashMap<>(requireNonNull(extensions, "extensions")));
+        this.status =
+                this.extensions.values().stream()
+                        .map(Health::status)
+                        .reduce(context.status(), HealthStatus::worst);
+    }
+
+    /**
+     * @return the overall status.
+     */
+    public HealthStatus status() {
+        return status;
+    }
+
+    /**
+     * @return {@code true} unless the context or any extension is {@link HealthStatus#DOWN down}.
+     */
+    public boolean live() {
+        return status != HealthStatus.DOWN;
+    }
+
+    /**
+     * @return {@code true} if the context and all extensions are {@link HealthStatus#UP up}.
+     */
+    public boolean ready() {
+        return status == HealthStatus.UP;
+    }
+
+    /**
+     * @return the health of the context itself.
+     */
+    public Health context() {
+        return context;
+    }
+
+    /**
+     * @return the health of each extension, keyed by the class name of the extension.
+     */
+    public Map<String, Health> extensions() {
+        return extensions;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final HealthReport that = (HealthReport) o;
+        return Objects.equals(context, that.context) && Objects.equals(extensions, that.extensions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(context, extensions);
+    }
+
+    @Override
+    public String toString() {
+        return "HealthReport{"
+                + "status="
+                + status
+                + ", context="
+                + context
+                + ", extensions="
+                + extensions
+                + '}';
+    }
+}
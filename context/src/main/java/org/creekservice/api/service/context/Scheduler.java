@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.context;
+
+import java.time.Duration;
+
+/**
+ * Schedules one-shot and periodic tasks, driven by the context's {@link CreekContext#clock()
+ * clock}.
+ *
+ * <p>Scheduling and cancelling are constant time operations. Tasks fire within one tick of their
+ * deadline, and run on the context's {@link CreekContext#executor() executor}, so a slow task
+ * does not delay others.
+ *
+ * <p>Intended for the many low precision timers services and extensions need, e.g. metadata
+ * refreshes, heartbeats and timeouts, without each creating its own scheduled thread pool.
+ *
+ * <p>Pending tasks are cancelled when the context is closed.
+ */
+public interface Scheduler {
+
+    /**
+     * Schedule a one-shot task.
+     *
+     * @param task the task to run.
+     * @param delay the delay before running the task.
+     * @return handle to the scheduled task.
+     * @throws IllegalStateException if the context is closed.
+     */
+    ScheduledTask schedule(Runnable task, Duration delay);
+
+    /**
+     * Schedule a periodic task.
+     *
+     * <p>The task is next scheduled once the current run completes, with a deadline one {@code
+     * period} after the previous deadline, or immediately if that has already passed. Hence, runs
+     * never overlap, and missed runs are not made up. If any run throws, subsequent runs are
+     * cancelled.
+     *
+     * @param task the task to run.
+     * @param initialDelay the delay before the first run.
+     * @param period the period between runs.
+     * @return handle to the scheduled task.
+     * @throws IllegalStateException if the context is closed.
+     */
+    ScheduledTask scheduleAtFixedRate(Runnable task, Duration initialDelay, Duration period);
+
+    /** Handle to a scheduled task. */
+    interface ScheduledTask {
+
+        /**
+         * Cancel the task, if not already run, or cancel future runs, if periodic.
+         *
+         * @return {@code true} if the task was cancelled by this call.
+         */
+        boolean cancel();
+
+        /**
+         * @return {@code true} if the task was cancelled.
+         */
+        boolean isCancelled();
+
+        /**
+         * @return {@code true} if the task will not run again, because it has run, failed or was
+         *     cancelled.
+         */
+        boolean isDone();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.context;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/** Breakdown of the time taken to build a {@link CreekContext}. */
+public interface StartupReport {
+
+    /** The phases of building a context. */
+    enum Phase {
+        /** Installing the default uncaught exception handler. */
+        UNCAUGHT_HANDLER_INSTALL,
+        /** Initializing an extension provider. The subject is the provider type. */
+        EXTENSION_INIT,
+        /** Checking all resource types are supported by an installed extension. */
+        UNSUPPORTED_TYPE_CHECK,
+        /** Checking all user supplied options are used by an installed extension. */
+        OPTION_CHECK,
+        /** Validating resources. The subject is the resource type. */
+        VALIDATE,
+        /** Ensuring resources exist. The subject is the resource type. */
+        ENSURE,
+        /** Preparing a handler for its resources. The subject is the handler type. */
+        PREPARE
+    }
+
+    /**
+     * @return a report with no timings and a zero total.
+     */
+    static StartupReport empty() {
+        return EmptyStartupReport.INSTANCE;
+    }
+
+    /**
+     * @return the total time taken to build the context.
+     */
+    Duration total();
+
+    /**
+     * Timings, in the order each phase and subject was first recorded.
+     *
+     * <p>Where a phase and subject are timed multiple times, e.g. validating multiple groups of
+     * the same resource type, the timing is the sum. Timings of work run concurrently can overlap,
+     * so their sum can exceed {@link #total()}.
+     *
+     * @return the timings.
+     */
+    List<Timing> timings();
+
+    /** The time taken by a phase, or by one subject of a phase. */
+    interface Timing {
+
+        /**
+         * @return the phase.
+         */
+        Phase phase();
+
+        /**
+         * @return the subject, e.g. provider or resource type, if the phase is timed per subject.
+         */
+        Optional<String> subject();
+
+        /**
+         * @return the time taken.
+         */
+        Duration duration();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.context;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * A scope for running a group of related tasks concurrently on the context's {@link
+ * CreekContext#executor() executor}.
+ *
+ * <p>Tasks are forked into the scope, and the scope joined to wait for them to complete. If any
+ * task fails, the remaining tasks are cancelled. Closing the scope cancels any incomplete tasks
+ * and waits for them to finish, so that no task outlives the scope:
+ *
+ * <pre>{@code
+ * try (TaskScope scope = context.newTaskScope()) {
+ *     Future<User> user = scope.fork(() -> findUser(id));
+ *     Future<Order> order = scope.fork(() -> fetchOrder(id));
+ *     scope.join();
+ *     return new Response(user.get(), order.get());
+ * }
+ * }</pre>
+ *
+ * <p>Any scope still open when the context is closed is cancelled.
+ */
+public interface TaskScope extends AutoCloseable {
+
+    /**
+     * Start a task in the scope.
+     *
+     * @param task the task to run.
+     * @param <T> the result type.
+     * @return the future result of the task.
+     * @throws IllegalStateException if the scope is closed.
+     */
+    <T> Future<T> fork(Callable<? extends T> task);
+
+    /**
+     * Wait for all forked tasks to complete.
+     *
+     * <p>If any task fails, all incomplete tasks are cancelled, and the first failure thrown.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws ExecutionException wrapping the first failure of any task.
+     */
+    void join() throws InterruptedException, ExecutionException;
+
+    /** Cancel any incomplete tasks, and wait for them to finish. */
+    @Override
+    void close();
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.context;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Controls how a service terminates when a thread throws an uncaught exception.
+ *
+ * <p>Creek installs a default uncaught exception handler, which logs the exception and terminates
+ * the JVM. By default, the context is first closed, giving extensions the chance to {@link
+ * org.creekservice.api.service.extension.CreekExtension#drain() drain} buffered work and release
+ * resources, bounded by a deadline.
+ */
+public final class TerminationPolicy {
+
+    /** The default deadline for closing the context before terminating. */
+    public static final Duration DEFAULT_DEADLINE = Duration.ofSeconds(30);
+
+    private static final TerminationPolicy EXIT_IMMEDIATELY =
+            new TerminationPolicy(false, Duration.ZERO);
+
+    private final boolean drain;
+    private final Duration deadline;
+
+    /**
+     * @return a policy that terminates the JVM immediately, without closing the context.
+     */
+    public static TerminationPolicy exitImmediately() {
+        return EXIT_IMMEDIATELY;
+    }
+
+    /**
+     * @return a policy that drains and closes the context, waiting up to the {@link
+     *     #DEFAULT_DEADLINE}, before terminating the JVM.
+     */
+    public static TerminationPolicy drainAndExit() {
+        return drainAndExit(DEFAULT_DEADLINE);
+    }
+
+    /**
+     * Create a policy that drains and closes the context before terminating the JVM.
+     *
+     * <p>The JVM is terminated once the context is closed, or the {@code deadline} expires,
+     * whichever comes first.
+     *
+     * @param deadline the maximum time to wait for the context to close.
+     * @return the policy.
+     */
+    public static TerminationPolicy drainAndExit(final Duration deadline) {
+        if (requireNonNull(deadline, "deadline").isNegative() || deadline.isZero()) {
+            throw new IllegalArgumentException("deadline must be positive: " + deadline);
+        }
+        return new TerminationPolicy(true, deadline);
+    }
+
+    private TerminationPolicy(final boolean drain, final Duration deadline) {
+        this.drain = drain;
+        this.deadline = deadline;
+    }
+
+    /**
+     * @return {@code true} if the context should be drained and closed before terminating.
+     */
+    public boolean drain() {
+        return drain;
+    }
+
+    /**
+     * @return the maximum time to wait for the context to close, or zero if not draining.
+     */
+    public Duration deadline() {
+        return deadline;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final TerminationPolicy that = (TerminationPolicy) o;
+        return drain == that.drain && Objects.equals(deadline, that.deadline);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(drain, deadline);
+    }
+
+    @Override
+    public String toString() {
+        return "TerminationPolicy{" + "drain=" + drain + ", deadline=" + deadline + '}';
+    }
+}
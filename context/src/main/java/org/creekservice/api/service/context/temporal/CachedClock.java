@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.context.temporal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.base.type.temporal.Clock;
+
+/**
+ * A low overhead, coarse, clock, whose time is updated by a background thread at a fixed
+ * resolution.
+ *
+ * <p>Reads are a single volatile read, with no allocation or call into the OS, making the clock
+ * suitable for hot paths, such as stamping events, that do not need accuracy finer than the
+ * resolution. The time returned can lag the actual time by up to the resolution, plus any delay
+ * in scheduling the background thread.
+ *
+ * <p>Can be selected for a service by setting the {@code CREEK_CLOCK} environment variable to
+ * this class's name, in which case the resolution is read from the {@link
+ * #RESOLUTION_ENV_VAR_NAME} environment variable, or passed to {@link
+ * org.creekservice.api.service.context.CreekServices.Builder#with(Clock)}.
+ *
+ * <p>The background thread is a daemon thread, and so will not prevent the JVM from exiting. It
+ * can be stopped early by closing the clock. A clock selected via the environment variable is
+ * closed when the context is closed.
+ */
+public final class CachedClock implements Clock, AutoCloseable {
+
+    /**
+     * Environment variable used to set the resolution of an instance created via the no-args
+     * constructor, in ISO-8601 duration format, e.g. {@code PT0.005S} for 5 milliseconds.
+     */
+    public static final String RESOLUTION_ENV_VAR_NAME = "CREEK_CLOCK_RESOLUTION";
+
+    /** The resolution used if none is specified. */
+    public static final Duration DEFAULT_RESOLUTION = Duration.ofMillis(1);
+
+    private final Supplier<Instant> source;
+    private final ScheduledExecutorService ticker;
+    private volatile Instant now;
+
+    /**
+     * Create a clock with a resolution taken from the {@link #RESOLUTION_ENV_VAR_NAME}
+     * environment variable, or {@link #DEFAULT_RESOLUTION} if not set.
+     *
+     * <p>Used when the clock is selected via the {@code CREEK_CLOCK} environment variable.
+     */
+    public CachedClock() {
+        this(resolutionFromEnv(System.getenv(RESOLUTION_ENV_VAR_NAME)), Instant::now, true);
+    }
+
+    /**
+     * Create a clock.
+     *
+     * @param resolution how often the time is updated.
+     * @return the clock.
+     */
+    public static CachedClock create(final Duration resolution) {
+        return new CachedClock(resolution, Instant::now, true);
+    }
+
+    @VisibleForTesting
+    CachedClock(final Duration resolution, final Supplier<Instant> source, final boolean tick) {
+        requireNonNull(resolution, "resolution");
+        if (resolution.isNegative() || resolution.isZero()) {
+            throw new IllegalArgumentException("resolution must be positive: " + resolution);
+        }
+
+        this.source = requireNonNull(source, "source");
+        this.now = source.get();
+        this.ticker =
+                Executors.newSingleThreadScheduledExecutor(
+                        task -> {
+                            final Thread thread = new Thread(task, "creek-cached-clock");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+
+        if (tick) {
+            final long nanos = resolution.toNanos();
+            ticker.scheduleAtFixedRate(this::tick, nanos, nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @return the time, as of the last tick.
+     */
+    @Override
+    public Instant get() {
+        return now;
+    }
+
+    /**
+     * @return the time, as of the last tick, in milliseconds since the epoch.
+     */
+    public long epochMillis() {
+        return now.toEpochMilli();
+    }
+
+    /**
+     * @return the time, as of the last tick, in microseconds since the epoch.
+     */
+    public long epochMicros() {
+        final Instant instant = now;
+        return Math.addExact(
+                Math.multiplyExact(instant.getEpochSecond(), 1_000_000L),
+                instant.getNano() / 1_000);
+    }
+
+    /** Stop updating the time. */
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    @VisibleForTesting
+    void tick() {
+        now = source.get();
+    }
+
+    @VisibleForTesting
+    static Duration resolutionFromEnv(final String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT_RESOLUTION;
+        }
+
+        try {
+            return Duration.parse(value.trim());
+        } catch (final RuntimeException e) {
+            throw new IllegalArgumentException(
+                    "Invalid " + RESOLUTION_ENV_VAR_NAME + ": " + value, e);
+        }
+    }
+}
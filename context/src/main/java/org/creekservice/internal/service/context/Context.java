@@ -18,19 +18,110 @@ package org.creekservice.internal.service.context;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import org.creekservice.api.base.annotation.VisibleForTesting;
 import org.creekservice.api.base.type.temporal.Clock;
+import org.creekservice.api.observability.logging.structured.StructuredLogger;
+import org.creekservice.api.observability.logging.structured.StructuredLoggerFactory;
 import org.creekservice.api.service.context.CreekContext;
+import org.creekservice.api.service.context.HealthReport;
+import org.creekservice.api.service.context.Scheduler;
+import org.creekservice.api.service.context.StartupReport;
+import org.creekservice.api.service.context.TaskScope;
 import org.creekservice.api.service.extension.CreekExtension;
+import org.creekservice.api.service.extension.metric.MetricRegistry;
+import org.creekservice.internal.service.api.extension.ExtensionCloseException;
+import org.creekservice.internal.service.api.extension.ExtensionCloseResult;
 import org.creekservice.internal.service.api.extension.Extensions;
 
+/**
+ * Implementation of {@link CreekContext}.
+ *
+ * <p>Built once the Creek api is frozen, making extensions readable from any thread.
+ */
 final class Context implements CreekContext {
 
+    private static final StructuredLogger LOGGER =
+            StructuredLoggerFactory.internalLogger(CreekContext.class);
+
     private final Clock clock;
+    private final boolean ownsClock;
     private final Extensions extensions;
+    private final StartupReport startupReport;
+    private final Duration closeTimeout;
+    private final ManagedExecutor executor;
+    private final TimerWheel scheduler;
+    private final MetricRegistry metrics;
+    private final HealthMonitor health;
+    private final LongSupplier nanoTime;
+    private final AtomicBoolean closed = new AtomicBoolean();
 
-    Context(final Clock clock, final Extensions extensions) {
+    Context(
+            final Clock clock,
+            final boolean ownsClock,
+            final Extensions extensions,
+            final StartupReport startupReport,
+            final Duration closeTimeout,
+            final Duration schedulerTick,
+            final MetricRegistry metrics) {
+        this(
+                clock,
+                ownsClock,
+                extensions,
+                startupReport,
+                closeTimeout,
+                schedulerTick,
+                metrics,
+                ManagedExecutor.create());
+    }
+
+    private Context(
+            final Clock clock,
+            final boolean ownsClock,
+            final Extensions extensions,
+            final StartupReport startupReport,
+            final Duration closeTimeout,
+            final Duration schedulerTick,
+            final MetricRegistry metrics,
+            final ManagedExecutor executor) {
+        this(
+                clock,
+                ownsClock,
+                extensions,
+                startupReport,
+                closeTimeout,
+                metrics,
+                executor,
+                new TimerWheel(clock, executor, schedulerTick),
+                System::nanoTime);
+    }
+
+    @VisibleForTesting
+    Context(
+            final Clock clock,
+            final boolean ownsClock,
+            final Extensions extensions,
+            final StartupReport startupReport,
+            final Duration closeTimeout,
+            final MetricRegistry metrics,
+            final ManagedExecutor executor,
+            final TimerWheel scheduler,
+            final LongSupplier nanoTime) {
+        this.executor = requireNonNull(executor, "executor");
+        this.scheduler = requireNonNull(scheduler, "scheduler");
+        this.metrics = requireNonNull(metrics, "metrics");
         this.clock = requireNonNull(clock, "clock");
+        this.ownsClock = ownsClock;
         this.extensions = requireNonNull(extensions, "extensions");
+        this.startupReport = requireNonNull(startupReport, "startupReport");
+        this.closeTimeout = requireNonNull(closeTimeout, "closeTimeout");
+        this.nanoTime = requireNonNull(nanoTime, "nanoTime");
+        this.health = new HealthMonitor(extensions);
     }
 
     @Override
@@ -43,8 +134,146 @@ final class Context implements CreekContext {
         return extensions.get(extensionType);
     }
 
+    @Override
+    public StartupReport startupReport() {
+        return startupReport;
+    }
+
+    @Override
+    public Executor executor() {
+        return executor;
+    }
+
+    @Override
+    public TaskScope newTaskScope() {
+        return executor.newTaskScope();
+    }
+
+    @Override
+    public Scheduler scheduler() {
+        return scheduler;
+    }
+
+    @Override
+    public MetricRegistry metrics() {
+        return metrics;
+    }
+
+    @Override
+    public HealthReport health() {
+        return health.report();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The time taken to close each extension, and any failure, is logged.
+     *
+     * <p>If the clock was created by the context builder, rather than passed to it, it is closed
+     * last, once extensions and the executor have shut down, even if extensions fail to close.
+     *
+     * <p>Extensions are drained, then closed, in reverse dependency order. A failure to drain is
+     * logged, and does not stop other extensions from being drained or closed.
+     *
+     * <p>The close timeout bounds the whole close: draining, closing extensions and shutting down
+     * the executor each get only the time remaining of it.
+     *
+     * @throws ExtensionCloseException if any extension failed to close, or did not close in time.
+     */
     @Override
     public void close() {
-        extensions.close();
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        final long deadline = nanoTime.getAsLong() + closeTimeout.toNanos();
+
+        health.closing();
+        scheduler.close();
+        try {
+            closeExtensionsAndExecutor(deadline);
+        } finally {
+            closeClock();
+        }
+    }
+
+    private void closeExtensionsAndExecutor(final long deadline) {
+        executor.cancelScopes();
+        extensions.drain(remaining(deadline)).forEach(Context::logDrainResult);
+
+        final List<ExtensionCloseResult> results = extensions.close(remaining(deadline));
+        results.forEach(Context::logCloseResult);
+
+        if (!executor.shutdown(remaining(deadline))) {
+            LOGGER.warn(
+                    "Creek context executor tasks did not finish in time",
+                    log -> log.with("timeout", closeTimeout));
+        }
+
+        final List<ExtensionCloseResult> failed =
+                results.stream()
+                        .filter(result -> !result.successful())
+                        .collect(Collectors.toList());
+
+        if (!failed.isEmpty()) {
+            throw new ExtensionCloseException(failed);
+        }
+    }
+
+    private void closeClock() {
+        if (!ownsClock || !(clock instanceof AutoCloseable)) {
+            return;
+        }
+
+        try {
+            ((AutoCloseable) clock).close();
+        } catch (final Exception e) {
+            LOGGER.warn(
+                    "Creek context clock failed to close",
+                    log -> log.with("clock", clock.getClass().getName()).withThrowable(e));
+        }
+    }
+
+    private Duration remaining(final long deadline) {
+        return Duration.ofNanos(Math.max(0, deadline - nanoTime.getAsLong()));
+    }
+
+    private static void logDrainResult(final ExtensionCloseResult result) {
+        if (result.timedOut()) {
+            LOGGER.warn(
+                    "Creek extension did not drain in time",
+                    log ->
+                            log.with("extension", result.extension())
+                                    .with("duration", result.duration()));
+        } else if (!result.successful()) {
+            LOGGER.warn(
+                    "Creek extension failed to drain",
+                    log ->
+                            log.with("extension", result.extension())
+                                    .withThrowable(result.failure().orElseThrow()));
+        }
+    }
+
+    private static void logCloseResult(final ExtensionCloseResult result) {
+        if (result.successful()) {
+            LOGGER.debug(
+                    "Creek extension closed",
+                    log ->
+                            log.with("extension", result.extension())
+                                    .with("duration", result.duration()));
+        } else if (result.timedOut()) {
+            LOGGER.warn(
+                    "Creek extension did not close in time",
+                    log ->
+                            log.with("extension", result.extension())
+                                    .with("duration", result.duration()));
+        } else {
+            LOGGER.warn(
+                    "Creek extension failed to close",
+                    log ->
+                            log.with("extension", result.extension())
+                                    .with("duration", result.duration())
+                                    .withThrowable(result.failure().orElseThrow()));
+        }
     }
 }
@@ -17,18 +17,22 @@
 package org.creekservice.internal.service.context;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.collectingAndThen;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toList;
 
 import java.lang.Thread.UncaughtExceptionHandler;
 import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.creekservice.api.base.annotation.VisibleForTesting;
 import org.creekservice.api.base.type.temporal.AccurateClock;
@@ -37,17 +41,21 @@ import org.creekservice.api.observability.logging.structured.StructuredLogger;
 import org.creekservice.api.observability.logging.structured.StructuredLoggerFactory;
 import org.creekservice.api.platform.metadata.ComponentDescriptor;
 import org.creekservice.api.platform.metadata.CreatableResource;
-import org.creekservice.api.platform.metadata.ResourceCollection;
 import org.creekservice.api.platform.metadata.ResourceDescriptor;
 import org.creekservice.api.platform.resource.ResourceInitializer;
 import org.creekservice.api.service.context.CreekContext;
+import org.creekservice.api.service.context.CreekContextSnapshot;
 import org.creekservice.api.service.context.CreekServices;
+import org.creekservice.api.service.context.StartupReport;
+import org.creekservice.api.service.context.TerminationPolicy;
 import org.creekservice.api.service.extension.CreekExtension;
 import org.creekservice.api.service.extension.CreekExtensionOptions;
 import org.creekservice.api.service.extension.CreekExtensionProvider;
 import org.creekservice.api.service.extension.component.model.ResourceHandler;
+import org.creekservice.api.service.extension.metric.MetricRegistry;
 import org.creekservice.internal.service.api.Creek;
 import org.creekservice.internal.service.api.extension.Extensions;
+import org.creekservice.internal.service.context.ResourcePhaseExecutor.Phase;
 import org.creekservice.internal.service.context.temporal.SystemEnvClockLoader;
 
 /** Implementation of {@link CreekServices.Builder} */
@@ -57,14 +65,24 @@ public final class ContextBuilder implements CreekServices.Builder {
     private static final StructuredLogger LOGGER =
             StructuredLoggerFactory.internalLogger(CreekServices.class);
 
-    private final ComponentDescriptor component;
+    private final List<ComponentDescriptor> components;
     private final ContextFactory contextFactory;
     private final UnhandledExceptionHandlerInstaller unhandledExceptionHandlerInstaller;
     private final Runnable systemExit;
     private final Creek api;
     private final List<CreekExtensionProvider<?>> extensionProviders;
     private final ResourceInitializerFactory resourceInitializerFactory;
+    private final ProviderFactory providerFactory;
+    private final List<CreekExtensionOptions> options = new ArrayList<>();
     private Optional<Clock> explicitClock = Optional.empty();
+    private int extensionParallelism = 1;
+    private int resourceParallelism = 1;
+    private Duration closeTimeout = Extensions.DEFAULT_CLOSE_TIMEOUT;
+    private Duration schedulerTick = TimerWheel.DEFAULT_TICK;
+    private TerminationPolicy terminationPolicy = TerminationPolicy.drainAndExit();
+    private Optional<Path> ensureStateDir = Optional.empty();
+    private Duration ensureStateTtl = Duration.ZERO;
+    private boolean forceEnsure;
 
     /**
      * @param component the component to build a context for
@@ -75,25 +93,45 @@ public final class ContextBuilder implements CreekServices.Builder {
             final ComponentDescriptor component,
             final Creek api,
             final List<CreekExtensionProvider<?>> extensionProviders) {
+        this(List.of(component), api, extensionProviders);
+    }
+
+    /**
+     * Create a builder of a single context shared by multiple components.
+     *
+     * <p>Extensions are initialized once, and the resources of all components are validated,
+     * ensured and prepared together, so that each resource handler is called once per phase with
+     * the de-duplicated resources of all components.
+     *
+     * @param components the components to build a context for
+     * @param api the creek api
+     * @param extensionProviders all known extension providers
+     */
+    public ContextBuilder(
+            final List<? extends ComponentDescriptor> components,
+            final Creek api,
+            final List<CreekExtensionProvider<?>> extensionProviders) {
         this(
-                component,
+                components,
                 api,
                 extensionProviders,
                 ResourceInitializer::resourceInitializer,
                 Context::new,
                 Thread::setDefaultUncaughtExceptionHandler,
-                () -> System.exit(-1));
+                () -> System.exit(-1),
+                provider -> Extensions.instantiate(providerType(provider)));
     }
 
     @VisibleForTesting
     ContextBuilder(
-            final ComponentDescriptor component,
+            final List<? extends ComponentDescriptor> components,
             final Creek api,
             final List<CreekExtensionProvider<?>> extensionProviders,
             final ResourceInitializerFactory resourceInitializerFactory,
             final ContextFactory contextFactory,
             final UnhandledExceptionHandlerInstaller unhandledExceptionHandlerInstaller,
-            final Runnable systemExit) {
+            final Runnable systemExit,
+            final ProviderFactory providerFactory) {
         this.api = requireNonNull(api, "api");
         this.extensionProviders =
                 List.copyOf(requireNonNull(extensionProviders, "extensionProviders"));
@@ -104,7 +142,11 @@ public final class ContextBuilder implements CreekServices.Builder {
                 requireNonNull(
                         unhandledExceptionHandlerInstaller, "unhandledExceptionHandlerInstaller");
         this.systemExit = requireNonNull(systemExit, "systemExit");
-        this.component = requireNonNull(component, "component");
+        this.providerFactory = requireNonNull(providerFactory, "providerFactory");
+        this.components = List.copyOf(requireNonNull(components, "components"));
+        if (this.components.isEmpty()) {
+            throw new IllegalArgumentException("At least one component is required");
+        }
     }
 
     @Override
@@ -116,47 +158,250 @@ public final class ContextBuilder implements CreekServices.Builder {
     @Override
     public ContextBuilder with(final CreekExtensionOptions options) {
         api.options().add(options);
+        this.options.add(options);
+        return this;
+    }
+
+    @Override
+    public ContextBuilder withExtensionParallelism(final int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.extensionParallelism = parallelism;
+        return this;
+    }
+
+    @Override
+    public ContextBuilder withResourceParallelism(final int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.resourceParallelism = parallelism;
+        return this;
+    }
+
+    @Override
+    public ContextBuilder withCloseTimeout(final Duration timeout) {
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout can not be negative: " + timeout);
+        }
+        this.closeTimeout = timeout;
+        return this;
+    }
+
+    @Override
+    public ContextBuilder withSchedulerTick(final Duration tick) {
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("tick must be positive: " + tick);
+        }
+        this.schedulerTick = tick;
+        return this;
+    }
+
+    @Override
+    public ContextBuilder withTerminationPolicy(final TerminationPolicy policy) {
+        this.terminationPolicy = requireNonNull(policy, "policy");
+        return this;
+    }
+
+    @Override
+    public ContextBuilder withEnsureStateCache(final Path directory, final Duration ttl) {
+        requireNonNull(directory, "directory");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive: " + ttl);
+        }
+        this.ensureStateDir = Optional.of(directory);
+        this.ensureStateTtl = ttl;
+        return this;
+    }
+
+    @Override
+    public ContextBuilder withForcedEnsure(final boolean force) {
+        this.forceEnsure = force;
         return this;
     }
 
     @Override
     public CreekContext build() {
-        installDefaultUncaughtExceptionHandler();
+        return build(Optional.empty());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Resources are validated and ensured using a copy of this builder, leaving this builder
+     * untouched. No context is built: the copy's extensions are closed once resources are
+     * ensured. The copy then serves as the template of each new context.
+     *
+     * <p>The snapshot captures the discovered providers, the settings and options of this
+     * builder, and the index of the components' resources, grouped by type. Each new context
+     * still gets new provider instances, its own api and its own extensions, as extensions hold
+     * per-context state, such as clients and the resource handlers they register. The handler of
+     * each indexed resource type is therefore resolved from the new context's model.
+     */
+    @Override
+    public CreekContextSnapshot snapshot() {
+        final ContextBuilder template = copy();
+        final ResourceIndex resources = template.validateResources();
+        return new Snapshot(template, resources);
+    }
 
-        initializeExtensions();
-        throwOnUnsupportedResourceType();
-        throwOnUnusedOptionType();
+    /**
+     * Build the context.
+     *
+     * @param validated the resources indexed and validated when taking a snapshot, if any. If
+     *     present, the option check, resource indexing and the validation and ensuring of
+     *     resources are skipped.
+     * @return the context.
+     */
+    private CreekContext build(final Optional<ResourceIndex> validated) {
+        final StartupTimer timer = new StartupTimer();
+        final TerminatingExceptionHandler terminator =
+                new TerminatingExceptionHandler(terminationPolicy, systemExit);
+        timer.time(
+                StartupReport.Phase.UNCAUGHT_HANDLER_INSTALL,
+                () -> unhandledExceptionHandlerInstaller.install(terminator));
+
+        initializeExtensions(timer);
+
+        final ResourceIndex resources =
+                validated
+                        .map(index -> index.withModel(api.components().model()))
+                        .orElseGet(() -> indexResources(timer));
+
+        if (validated.isEmpty()) {
+            timer.time(StartupReport.Phase.OPTION_CHECK, this::throwOnUnusedOptionType);
+        }
 
-        resourceInitializer().service(List.of(component));
+        try (ResourcePhaseExecutor executor = new ResourcePhaseExecutor(resourceParallelism)) {
+            if (validated.isEmpty()) {
+                validateAndEnsureResources(resources, executor, timer);
+            }
 
-        prepareExtensions();
+            prepareExtensions(resources, executor, timer);
+            executor.awaitPhase();
+        }
 
-        return contextFactory.build(createClock(), api.extensions());
+        freeze();
+
+        final StartupReport report = timer.report();
+        LOGGER.info(
+                "Creek context built",
+                log ->
+                        log.with("component", componentNames())
+                                .with("startup_total", report.total())
+                                .with("startup_timings", report.timings()));
+
+        final Clock clock = createClock();
+        final boolean ownsClock = explicitClock.map(explicit -> explicit != clock).orElse(true);
+        final CreekContext context =
+                contextFactory.build(
+                        clock,
+                        ownsClock,
+                        api.extensions(),
+                        report,
+                        closeTimeout,
+                        schedulerTick,
+                        api.metrics());
+        terminator.attach(context);
+        return context;
     }
 
-    private void installDefaultUncaughtExceptionHandler() {
-        unhandledExceptionHandlerInstaller.install(
-                (thread, throwable) -> {
-                    LOGGER.error(
-                            "uncaught exception on thread: terminating",
-                            log ->
-                                    log.with("thread-name", thread.getName())
-                                            .withThrowable(throwable));
-                    systemExit.run();
+    /**
+     * Initialize extensions, then validate and ensure resources, without building a context.
+     *
+     * <p>Extensions are closed before returning. A failure to close them is suppressed by any
+     * failure to validate or ensure resources.
+     *
+     * @return the validated resources.
+     */
+    private ResourceIndex validateResources() {
+        final StartupTimer timer = new StartupTimer();
+        final ResourceIndex resources;
+        try {
+            initializeExtensions(timer);
+            resources = indexResources(timer);
+            throwOnUnusedOptionType();
+            try (ResourcePhaseExecutor executor =
+                    new ResourcePhaseExecutor(resourceParallelism)) {
+                validateAndEnsureResources(resources, executor, timer);
+            }
+        } catch (final RuntimeException | Error e) {
+            try {
+                api.extensions().close();
+            } catch (final RuntimeException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
+        }
+
+        api.extensions().close();
+        return resources;
+    }
+
+    /**
+     * @return a copy of this builder, with the same settings, but a new api and new instances of
+     *     the extension providers.
+     */
+    private ContextBuilder copy() {
+        final ContextBuilder copy =
+                new ContextBuilder(
+                        components,
+                        new Creek(components),
+                        extensionProviders.stream()
+                                .<CreekExtensionProvider<?>>map(providerFactory::create)
+                                .collect(Collectors.toList()),
+                        resourceInitializerFactory,
+                        contextFactory,
+                        unhandledExceptionHandlerInstaller,
+                        systemExit,
+                        providerFactory);
+        options.forEach(copy::with);
+        copy.explicitClock = explicitClock;
+        copy.extensionParallelism = extensionParallelism;
+        copy.resourceParallelism = resourceParallelism;
+        copy.closeTimeout = closeTimeout;
+        copy.schedulerTick = schedulerTick;
+        copy.terminationPolicy = terminationPolicy;
+        copy.ensureStateDir = ensureStateDir;
+        copy.ensureStateTtl = ensureStateTtl;
+        copy.forceEnsure = forceEnsure;
+        return copy;
+    }
+
+    /** Freeze the api, so that the built context can be read from any thread. */
+    private void freeze() {
+        api.extensions().freeze();
+        api.components().model().freeze();
+        api.options().freeze();
+    }
+
+    private ResourceIndex indexResources(final StartupTimer timer) {
+        return timer.time(
+                StartupReport.Phase.UNSUPPORTED_TYPE_CHECK,
+                () -> {
+                    final ResourceIndex index =
+                            ResourceIndex.build(components, api.components().model());
+                    throwOnUnsupportedResourceType(index);
+                    return index;
                 });
     }
 
-    private void throwOnUnsupportedResourceType() {
-        final List<Object> unsupported =
-                ResourceCollection.collectResources(component)
-                        .filter(
-                                resourceDef ->
-                                        !api.components().model().hasType(resourceDef.getClass()))
-                        .collect(Collectors.toList());
+    private void validateAndEnsureResources(
+            final ResourceIndex resources,
+            final ResourcePhaseExecutor executor,
+            final StartupTimer timer) {
+        final EnsureStateCache ensureState = ensureStateCache();
+        resourceInitializer(resources, executor, timer, ensureState).service(components);
+        executor.awaitPhase();
+        ensureState.save();
+    }
 
+    private void throwOnUnsupportedResourceType(final ResourceIndex resources) {
+        final List<ResourceDescriptor> unsupported = resources.unsupported();
         if (!unsupported.isEmpty()) {
             throw new UnsupportedResourceTypesException(
-                    component, installedExtensions(), unsupported);
+                    componentNames(), installedExtensions(), unsupported);
         }
     }
 
@@ -181,51 +426,166 @@ public final class ContextBuilder implements CreekServices.Builder {
                 .load(() -> explicitClock.orElseGet(AccurateClock::create));
     }
 
-    private void initializeExtensions() {
-        final Extensions extensions = api.extensions();
-        extensionProviders.forEach(extensions::ensureExtension);
+    private void initializeExtensions(final StartupTimer timer) {
+        api.extensions().ensureExtensions(extensionProviders, extensionParallelism);
+        api.extensions()
+                .initializationTimes()
+                .forEach(
+                        (type, duration) ->
+                                timer.record(
+                                        StartupReport.Phase.EXTENSION_INIT,
+                                        type.getName(),
+                                        duration));
+    }
+
+    private EnsureStateCache ensureStateCache() {
+        return ensureStateDir
+                .map(
+                        dir ->
+                                EnsureStateCache.open(
+                                        dir, componentNames(), ensureStateTtl, forceEnsure))
+                .orElseGet(EnsureStateCache::disabled);
     }
 
-    private ResourceInitializer resourceInitializer() {
+    private ResourceInitializer resourceInitializer(
+            final ResourceIndex resources,
+            final ResourcePhaseExecutor executor,
+            final StartupTimer timer,
+            final EnsureStateCache ensureState) {
         return resourceInitializerFactory.build(
                 new ResourceInitializer.Callbacks() {
                     @Override
                     public <T extends ResourceDescriptor> void validate(
                             final Class<T> type, final Collection<T> resourceGroup) {
-                        api.components().model().resourceHandler(type).validate(resourceGroup);
+                        final ResourceHandler<T> handler = resources.handler(type);
+                        final Collection<T> distinct = distinctInstances(resourceGroup);
+                        execute(
+                                executor,
+                                timer,
+                                Phase.VALIDATE,
+                                type,
+                                handler,
+                                distinct,
+                                () -> handler.validateAsync(distinct));
                     }
 
                     @Override
                     public <T extends CreatableResource> void ensure(
                             final Class<T> type, final Collection<T> creatableResources) {
-                        api.components().model().resourceHandler(type).ensure(creatableResources);
+                        final ResourceHandler<T> handler = resources.handler(type);
+                        final Collection<T> unique = uniqueById(creatableResources);
+                        final List<T> stale = ensureState.stale(handler, unique);
+                        if (stale.size() != unique.size()) {
+                            LOGGER.debug(
+                                    "Skipping ensure of unchanged resources",
+                                    log ->
+                                            log.with("resource_type", type.getName())
+                                                    .with(
+                                                            "skipped",
+                                                            unique.size() - stale.size()));
+                        }
+                        if (stale.isEmpty()) {
+                            return;
+                        }
+
+                        execute(
+                                executor,
+                                timer,
+                                Phase.ENSURE,
+                                type,
+                                handler,
+                                stale,
+                                () ->
+                                        handler.ensureAsync(stale)
+                                                .thenRun(() -> ensureState.record(handler, stale)));
                     }
                 });
     }
 
+    /**
+     * Remove repeated references to the same descriptor instance, e.g. a shared resource
+     * referenced by many inputs and outputs, which need only be validated once.
+     *
+     * <p>Distinct instances are kept, even if equal, as validation exists to compare them.
+     */
+    private static <T extends ResourceDescriptor> Collection<T> distinctInstances(
+            final Collection<T> resources) {
+        final Set<T> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<T> distinct = new ArrayList<>(resources.size());
+        resources.stream().filter(seen::add).forEach(distinct::add);
+        return distinct.size() == resources.size() ? resources : distinct;
+    }
+
+    /**
+     * Remove descriptors with duplicate ids, keeping the first.
+     *
+     * <p>Any inconsistency between descriptors sharing an id will have been detected during
+     * validation.
+     */
+    private static <T extends ResourceDescriptor> Collection<T> uniqueById(
+            final Collection<T> resources) {
+        final Map<URI, T> unique = new LinkedHashMap<>();
+        resources.forEach(resource -> unique.putIfAbsent(resource.id(), resource));
+        return unique.size() == resources.size() ? resources : unique.values();
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private void prepareExtensions() {
-        final Map<URI, ResourceDescriptor> uniqueById =
-                ResourceCollection.collectResources(component)
-                        .collect(
-                                groupingBy(
-                                        ResourceDescriptor::id,
-                                        LinkedHashMap::new,
-                                        collectingAndThen(toList(), l -> l.get(0))));
-
-        final Map<Class<? extends ResourceDescriptor>, List<ResourceDescriptor>> byType =
-                uniqueById.values().stream()
-                        .collect(
-                                groupingBy(
-                                        ResourceDescriptor::getClass,
-                                        LinkedHashMap::new,
-                                        toList()));
-
-        byType.forEach(
-                (type, resources) -> {
-                    final ResourceHandler handler = api.components().model().resourceHandler(type);
-                    handler.prepare(resources);
-                });
+    private void prepareExtensions(
+            final ResourceIndex resources,
+            final ResourcePhaseExecutor executor,
+            final StartupTimer timer) {
+        resources
+                .uniqueByType()
+                .forEach(
+                        (type, group) -> {
+                            final ResourceHandler handler = resources.handler(type);
+                            execute(
+                                    executor,
+                                    timer,
+                                    Phase.PREPARE,
+                                    type,
+                                    handler,
+                                    group,
+                                    () -> handler.prepareAsync(group));
+                        });
+    }
+
+    /**
+     * Execute a handler call, timing it for the startup report and recording it as a JFR event.
+     *
+     * <p>Validate and ensure are reported per resource type, prepare per handler type.
+     */
+    private static void execute(
+            final ResourcePhaseExecutor executor,
+            final StartupTimer timer,
+            final Phase phase,
+            final Class<? extends ResourceDescriptor> resourceType,
+            final ResourceHandler<?> handler,
+            final Collection<?> resources,
+            final Supplier<? extends CompletionStage<Void>> call) {
+        final String subject =
+                phase == Phase.PREPARE ? handler.getClass().getName() : resourceType.getName();
+
+        executor.execute(
+                phase,
+                handler,
+                () ->
+                        timer.timeAsync(
+                                phase.startupPhase(),
+                                subject,
+                                () ->
+                                        ResourceHandlerEvent.record(
+                                                phase,
+                                                handler,
+                                                resourceType,
+                                                resources.size(),
+                                                call)));
+    }
+
+    private String componentNames() {
+        return components.stream()
+                .map(ComponentDescriptor::name)
+                .collect(Collectors.joining(", "));
     }
 
     private String installedExtensions() {
@@ -234,18 +594,45 @@ public final class ContextBuilder implements CreekServices.Builder {
                 .collect(Collectors.joining(", ", "installed_extensions: ", ""));
     }
 
+    @SuppressWarnings("unchecked")
+    private static Class<? extends CreekExtensionProvider<?>> providerType(
+            final CreekExtensionProvider<?> provider) {
+        return (Class<? extends CreekExtensionProvider<?>>) provider.getClass();
+    }
+
+    /**
+     * Snapshot of a builder whose resources have been validated and ensured.
+     *
+     * <p>The template is never built, only copied, so each context gets new provider instances.
+     */
+    private static final class Snapshot implements CreekContextSnapshot {
+
+        private final ContextBuilder template;
+        private final ResourceIndex resources;
+
+        Snapshot(final ContextBuilder template, final ResourceIndex resources) {
+            this.template = requireNonNull(template, "template");
+            this.resources = requireNonNull(resources, "resources");
+        }
+
+        @Override
+        public CreekContext newContext() {
+            return template.copy().build(Optional.of(resources));
+        }
+    }
+
     @VisibleForTesting
     static final class UnsupportedResourceTypesException extends RuntimeException {
 
         UnsupportedResourceTypesException(
-                final ComponentDescriptor component,
+                final String components,
                 final String installedExtensions,
-                final List<Object> unsupportedResources) {
+                final List<? extends ResourceDescriptor> unsupportedResources) {
             super(
                     "Service descriptor defines resources for which no extension is installed. "
                             + "Are you missing a Creek extension on the class or module path? "
                             + "component: "
-                            + component.name()
+                            + components
                             + ", unsupported_resources: "
                             + unsupportedResources
                             + ", "
@@ -255,7 +642,19 @@ public final class ContextBuilder implements CreekServices.Builder {
 
     @VisibleForTesting
     interface ContextFactory {
-        CreekContext build(Clock clock, Extensions extensions);
+        CreekContext build(
+                Clock clock,
+                boolean ownsClock,
+                Extensions extensions,
+                StartupReport startupReport,
+                Duration closeTimeout,
+                Duration schedulerTick,
+                MetricRegistry metrics);
+    }
+
+    @VisibleForTesting
+    interface ProviderFactory {
+        CreekExtensionProvider<?> create(CreekExtensionProvider<?> template);
     }
 
     @VisibleForTesting
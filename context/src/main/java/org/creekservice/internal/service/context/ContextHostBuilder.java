@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.creekservice.api.base.type.temporal.Clock;
+import org.creekservice.api.platform.metadata.ServiceDescriptor;
+import org.creekservice.api.service.context.CreekHost;
+import org.creekservice.api.service.context.CreekServices;
+import org.creekservice.api.service.context.TerminationPolicy;
+import org.creekservice.api.service.extension.CreekExtensionOptions;
+
+/** Implementation of {@link CreekServices.HostBuilder} */
+public final class ContextHostBuilder implements CreekServices.HostBuilder {
+
+    private final List<String> serviceNames;
+    private final CreekServices.Builder delegate;
+
+    /**
+     * @param services the services to host.
+     * @param delegate builder of the context shared by all the services.
+     */
+    public ContextHostBuilder(
+            final List<? extends ServiceDescriptor> services,
+            final CreekServices.Builder delegate) {
+        this.serviceNames =
+                requireNonNull(services, "services").stream()
+                        .map(ServiceDescriptor::name)
+                        .collect(Collectors.toUnmodifiableList());
+        this.delegate = requireNonNull(delegate, "delegate");
+
+        final Set<String> unique = new HashSet<>();
+        final List<String> duplicates =
+                serviceNames.stream()
+                        .filter(name -> !unique.add(name))
+                        .collect(Collectors.toList());
+        if (!duplicates.isEmpty()) {
+            throw new IllegalArgumentException("Duplicate service names: " + duplicates);
+        }
+    }
+
+    @Override
+    public ContextHostBuilder with(final Clock clock) {
+        delegate.with(clock);
+        return this;
+    }
+
+    @Override
+    public ContextHostBuilder with(final CreekExtensionOptions options) {
+        delegate.with(options);
+        return this;
+    }
+
+    @Override
+    public ContextHostBuilder withExtensionParallelism(final int parallelism) {
+        delegate.withExtensionParallelism(parallelism);
+        return this;
+    }
+
+    @Override
+    public ContextHostBuilder withResourceParallelism(final int parallelism) {
+        delegate.withResourceParallelism(parallelism);
+        return this;
+    }
+
+    @Override
+    public ContextHostBuilder withCloseTimeout(final Duration timeout) {
+        delegate.withCloseTimeout(timeout);
+        return this;
+    }
+
+    @Override
+    public ContextHostBuilder withSchedulerTick(final Duration tick) {
+        delegate.withSchedulerTick(tick);
+        return this;
+    }
+
+    @Override
+    public ContextHostBuilder withTerminationPolicy(final TerminationPolicy policy) {
+        delegate.withTerminationPolicy(policy);
+        return this;
+    }
+
+    @Override
+    public ContextHostBuilder withEnsureStateCache(final Path directory, final Duration ttl) {
+        delegate.withEnsureStateCache(directory, ttl);
+        return this;
+    }
+
+    @Override
+    public ContextHostBuilder withForcedEnsure(final boolean force) {
+        delegate.withForcedEnsure(force);
+        return this;
+    }
+
+    @Override
+    public CreekHost build() {
+        return new Host(serviceNames, delegate.build());
+    }
+}
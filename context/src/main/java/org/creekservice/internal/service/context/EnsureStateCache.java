@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.observability.logging.structured.StructuredLogger;
+import org.creekservice.api.observability.logging.structured.StructuredLoggerFactory;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
+import org.creekservice.api.service.context.CreekServices;
+import org.creekservice.api.service.extension.component.model.ResourceHandler;
+
+/**
+ * Local store of the resources previously ensured, used to skip redundant calls to {@link
+ * ResourceHandler#ensure}.
+ *
+ * <p>Entries are keyed on handler type and resource id, and record a fingerprint of the resource
+ * descriptor and when it was ensured. A resource is <i>stale</i>, and must be ensured, if it has
+ * no entry, its fingerprint has changed, or its entry is older than the time-to-live.
+ *
+ * <p>The fingerprint is a digest of the descriptor's type and {@link Object#toString()}.
+ * Descriptors whose {@code toString} does not capture their full configuration, e.g. those using
+ * the default identity based implementation, will either never match, and so always be ensured,
+ * or will only be re-ensured once their entry expires.
+ *
+ * <p>Failure to read or write the store is logged, but does not fail the context: the worst case
+ * is that resources are ensured unnecessarily.
+ *
+ * <p>Thread-safe, as asynchronous ensure calls may complete on other threads.
+ */
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+final class EnsureStateCache {
+
+    private static final StructuredLogger LOGGER =
+            StructuredLoggerFactory.internalLogger(CreekServices.class);
+
+    private static final String FILE_SUFFIX = ".ensure-state.properties";
+
+    private final Optional<Path> file;
+    private final Duration ttl;
+    private final boolean force;
+    private final Supplier<Instant> now;
+    private final Map<String, Entry> entries;
+    private volatile boolean modified;
+
+    /**
+     * @return a cache that treats all resources as stale and stores nothing.
+     */
+    static EnsureStateCache disabled() {
+        return new EnsureStateCache(Optional.empty(), Duration.ZERO, true, Instant::now, Map.of());
+    }
+
+    /**
+     * Open the store of a component, loading any existing state.
+     *
+     * @param directory the directory the store lives in.
+     * @param name the name of the component(s), used to name the store.
+     * @param ttl the maximum age of an entry before the resource is ensured again.
+     * @param force if {@code true}, all resources are treated as stale, refreshing their entries.
+     * @return the cache.
+     */
+    static EnsureStateCache open(
+            final Path directory, final String name, final Duration ttl, final boolean force) {
+        return open(directory, name, ttl, force, Instant::now);
+    }
+
+    @VisibleForTesting
+    static EnsureStateCache open(
+            final Path directory,
+            final String name,
+            final Duration ttl,
+            final boolean force,
+            final Supplier<Instant> now) {
+        final String fileName =
+                requireNonNull(name, "name").replaceAll("[^\\w.-]", "_") + FILE_SUFFIX;
+        final Path file = requireNonNull(directory, "directory").resolve(fileName);
+        return new EnsureStateCache(Optional.of(file), ttl, force, now, load(file));
+    }
+
+    private EnsureStateCache(
+            final Optional<Path> file,
+            final Duration ttl,
+            final boolean force,
+            final Supplier<Instant> now,
+            final Map<String, Entry> entries) {
+        this.file = requireNonNull(file, "file");
+        this.ttl = requireNonNull(ttl, "ttl");
+        this.force = force;
+        this.now = requireNonNull(now, "now");
+        this.entries = new ConcurrentHashMap<>(entries);
+    }
+
+    /**
+     * Filter the supplied {@code resources} down to those that need ensuring.
+     *
+     * @param handler the handler that will ensure the resources.
+     * @param resources the resources to filter.
+     * @param <T> the resource type.
+     * @return the stale resources, in the order supplied.
+     */
+    <T extends ResourceDescriptor> List<T> stale(
+            final ResourceHandler<?> handler, final Collection<T> resources) {
+        if (force || file.isEmpty()) {
+            return List.copyOf(resources);
+        }
+
+        final Instant expired = now.get().minus(ttl);
+        return resources.stream()
+                .filter(
+                        resource -> {
+                            final Entry entry = entries.get(key(handler, resource));
+                            return entry == null
+                                    || !entry.ensuredAt.isAfter(expired)
+                                    || !entry.fingerprint.equals(fingerprint(resource));
+                        })
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Record that resources were successfully ensured.
+     *
+     * @param handler the handler that ensured the resources.
+     * @param resources the ensured resources.
+     */
+    void record(
+            final ResourceHandler<?> handler,
+            final Collection<? extends ResourceDescriptor> resources) {
+        if (file.isEmpty()) {
+            return;
+        }
+
+        final Instant ensuredAt = now.get();
+        resources.forEach(
+                resource ->
+                        entries.put(
+                                key(handler, resource),
+                                new Entry(fingerprint(resource), ensuredAt)));
+        modified = true;
+    }
+
+    /** Persist any recorded changes, dropping expired entries. */
+    @SuppressFBWarnings(
+            value = "PATH_TRAVERSAL_IN",
+            justification = "directory is supplied by the service, not external input")
+    void save() {
+        if (file.isEmpty() || !modified) {
+            return;
+        }
+
+        final Path target = file.get();
+        final Instant expired = now.get().minus(ttl);
+        final Properties props = new Properties();
+        entries.forEach(
+                (key, entry) -> {
+                    if (entry.ensuredAt.isAfter(expired)) {
+                        props.setProperty(key, entry.format());
+                    }
+                });
+
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp =
+                    Files.createTempFile(
+                            target.getParent(), target.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, UTF_8)) {
+                props.store(writer, "Creek ensure state");
+            }
+            Files.move(
+                    temp,
+                    target,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            modified = false;
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.warn(
+                    "Failed to save ensure state",
+                    log -> log.with("file", target).withThrowable(e));
+            deleteQuietly(temp);
+        }
+    }
+
+    @VisibleForTesting
+    static String fingerprint(final ResourceDescriptor resource) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(resource.getClass().getName().getBytes(UTF_8));
+            digest.update((byte) '\n');
+            digest.update(String.valueOf(resource).getBytes(UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+
+    private static String key(final ResourceHandler<?> handler, final ResourceDescriptor resource) {
+        return handler.getClass().getName() + " " + resource.id();
+    }
+
+    private static Map<String, Entry> load(final Path file) {
+        final Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, UTF_8)) {
+            props.load(reader);
+            return props.stringPropertyNames().stream()
+                    .collect(
+                            Collectors.toMap(
+                                    key -> key, key -> Entry.parse(props.getProperty(key))));
+        } catch (final NoSuchFileException e) {
+            return Map.of();
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.warn(
+                    "Failed to load ensure state, all resources will be ensured",
+                    log -> log.with("file", file).withThrowable(e));
+            return Map.of();
+        }
+    }
+
+    private static void deleteQuietly(final Path temp) {
+        if (temp == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(temp);
+        } catch (final IOException e) {
+            // Ignore: only a stray temp file.
+        }
+    }
+
+    private static final class Entry {
+
+        private final String fingerprint;
+        private final Instant ensuredAt;
+
+        Entry(final String fingerprint, final Instant ensuredAt) {
+            this.fingerprint = requireNonNull(fingerprint, "fingerprint");
+            this.ensuredAt = requireNonNull(ensuredAt, "ensuredAt");
+        }
+
+        String format() {
+            return fingerprint + " " + ensuredAt.toEpochMilli();
+        }
+
+        static Entry parse(final String text) {
+            final String[] parts = text.split(" ", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid ensure state entry: " + text);
+            }
+            return new Entry(parts[0], Instant.ofEpochMilli(Long.parseLong(parts[1])));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.creekservice.api.observability.logging.structured.StructuredLogger;
+import org.creekservice.api.observability.logging.structured.StructuredLoggerFactory;
+import org.creekservice.api.service.context.CreekContext;
+import org.creekservice.api.service.context.HealthReport;
+import org.creekservice.api.service.extension.CreekExtension;
+import org.creekservice.api.service.extension.health.Health;
+import org.creekservice.internal.service.api.extension.Extensions;
+
+/**
+ * Aggregates the health extensions push into a single, cached {@link HealthReport}.
+ *
+ * <p>Updates are rare, so each rebuilds and republishes an immutable report. Reading the report,
+ * e.g. from a probe endpoint hit every second, is a single volatile read.
+ *
+ * <p>Extensions are keyed by type, which is unique within a context, rather than by name, which
+ * is not. Extensions whose initialization was deferred are monitored once initialized.
+ */
+final class HealthMonitor {
+
+    private static final StructuredLogger LOGGER =
+            StructuredLoggerFactory.internalLogger(CreekContext.class);
+
+    private static final Health CLOSING = Health.degraded("context closing");
+
+    private final Map<String, Health> extensions = new LinkedHashMap<>();
+    private Health context = Health.up();
+    private volatile HealthReport report;
+
+    /**
+     * @param extensions the extensions to monitor, including any initialized later.
+     */
+    HealthMonitor(final Extensions extensions) {
+        synchronized (this) {
+            publish();
+        }
+        requireNonNull(extensions, "extensions").onRegistration(this::monitor);
+    }
+
+    /**
+     * @return the current report.
+     */
+    HealthReport report() {
+        return report;
+    }
+
+    /** Mark the context as closing, making it not ready. */
+    synchronized void closing() {
+        context = CLOSING;
+        publish();
+    }
+
+    private void monitor(final CreekExtension ext) {
+        final String type = ext.getClass().getName();
+        synchronized (this) {
+            extensions.putIfAbsent(type, Health.up());
+            publish();
+        }
+        ext.registerHealthListener(health -> update(type, health));
+    }
+
+    private synchronized void update(final String extension, final Health health) {
+        requireNonNull(health, "health");
+        final Health previous = extensions.put(extension, health);
+        if (health.equals(previous)) {
+            return;
+        }
+
+        LOGGER.info(
+                "Creek extension health changed",
+                log -> log.with("extension", extension).with("health", health));
+        publish();
+    }
+
+    private void publish() {
+        report = HealthReport.of(context, extensions);
+    }
+}
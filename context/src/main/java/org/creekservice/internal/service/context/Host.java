@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import org.creekservice.api.base.type.temporal.Clock;
+import org.creekservice.api.service.context.CreekContext;
+import org.creekservice.api.service.context.CreekHost;
+import org.creekservice.api.service.context.HealthReport;
+import org.creekservice.api.service.context.Scheduler;
+import org.creekservice.api.service.context.StartupReport;
+import org.creekservice.api.service.context.TaskScope;
+import org.creekservice.api.service.extension.CreekExtension;
+import org.creekservice.api.service.extension.metric.MetricRegistry;
+
+/**
+ * Implementation of {@link CreekHost}.
+ *
+ * <p>Each hosted service gets a view of the shared context. The shared context is closed once all
+ * views are closed, or the host is closed, whichever comes first.
+ */
+final class Host implements CreekHost {
+
+    private final CreekContext shared;
+    private final Map<String, HostedContext> contexts = new LinkedHashMap<>();
+    private int open;
+    private boolean closed;
+
+    Host(final Collection<String> serviceNames, final CreekContext shared) {
+        this.shared = requireNonNull(shared, "shared");
+        requireNonNull(serviceNames, "serviceNames")
+                .forEach(name -> contexts.put(name, new HostedContext(name)));
+        this.open = contexts.size();
+    }
+
+    @Override
+    public CreekContext context(final String serviceName) {
+        final HostedContext context = contexts.get(serviceName);
+        if (context == null) {
+            throw new IllegalArgumentException(
+                    "Unknown service: " + serviceName + ", hosted: " + contexts.keySet());
+        }
+        return context;
+    }
+
+    @Override
+    public StartupReport startupReport() {
+        return shared.startupReport();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+
+        shared.close();
+    }
+
+    private void release(final HostedContext context) {
+        synchronized (this) {
+            if (context.released || closed) {
+                return;
+            }
+            context.released = true;
+            if (--open > 0) {
+                return;
+            }
+        }
+
+        close();
+    }
+
+    /** The view of the shared context given to a single hosted service. */
+    private final class HostedContext implements CreekContext {
+
+        private final String serviceName;
+        private boolean released;
+
+        HostedContext(final String serviceName) {
+            this.serviceName = requireNonNull(serviceName, "serviceName");
+        }
+
+        @Override
+        public Clock clock() {
+            return shared.clock();
+        }
+
+        @Override
+        public <T extends CreekExtension> T extension(final Class<T> extensionType) {
+            return shared.extension(extensionType);
+        }
+
+        @Override
+        public StartupReport startupReport() {
+            return shared.startupReport();
+        }
+
+        @Override
+        public Executor executor() {
+            return shared.executor();
+        }
+
+        @Override
+        public TaskScope newTaskScope() {
+            return shared.newTaskScope();
+        }
+
+        @Override
+        public Scheduler scheduler() {
+            return shared.scheduler();
+        }
+
+        @Override
+        public MetricRegistry metrics() {
+            return shared.metrics();
+        }
+
+        @Override
+        public HealthReport health() {
+            return shared.health();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>Closes the shared extensions only once all hosted services have closed their context.
+         */
+        @Override
+        public void close() {
+            release(this);
+        }
+
+        @Override
+        public String toString() {
+            return "HostedContext{serviceName=" + serviceName + '}';
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.service.context.TaskScope;
+
+/**
+ * The executor managed by a context.
+ *
+ * <p>Uses a virtual thread per task executor, where the JVM supports virtual threads, otherwise
+ * an unbounded pool of daemon platform threads. The virtual thread executor is looked up
+ * reflectively, as Creek is compiled against a JDK without virtual threads.
+ *
+ * <p>Tracks open {@link TaskScope task scopes}, and their incomplete tasks, so that they can be
+ * cancelled on close. Tasks stop being tracked once complete, so long-lived scopes do not grow.
+ */
+final class ManagedExecutor implements Executor {
+
+    private final ExecutorService delegate;
+    private final boolean virtual;
+    private final Set<Scope> scopes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @return a new executor, using virtual threads if supported.
+     */
+    static ManagedExecutor create() {
+        return virtualThreadExecutor()
+                .map(executor -> new ManagedExecutor(executor, true))
+                .orElseGet(() -> new ManagedExecutor(platformThreadExecutor(), false));
+    }
+
+    @VisibleForTesting
+    ManagedExecutor(final ExecutorService delegate, final boolean virtual) {
+        this.delegate = requireNonNull(delegate, "delegate");
+        this.virtual = virtual;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        delegate.execute(command);
+    }
+
+    /**
+     * @return a new task scope.
+     */
+    TaskScope newTaskScope() {
+        final Scope scope = new Scope();
+        scopes.add(scope);
+        return scope;
+    }
+
+    /**
+     * @return {@code true} if tasks run on virtual threads.
+     */
+    boolean virtual() {
+        return virtual;
+    }
+
+    /** Cancel all open task scopes, without waiting for their tasks to finish. */
+    void cancelScopes() {
+        scopes.forEach(Scope::cancel);
+    }
+
+    /**
+     * Shut down the executor, interrupting any running tasks.
+     *
+     * <p>Forked tasks that never started are cancelled, so that their scopes do not wait for them.
+     *
+     * @param timeout the maximum time to wait for running tasks to finish.
+     * @return {@code true} if all tasks finished within the timeout.
+     */
+    boolean shutdown(final Duration timeout) {
+        cancelScopes();
+        for (final Runnable neverRun : delegate.shutdownNow()) {
+            if (neverRun instanceof Scope.Task) {
+                ((Scope.Task<?>) neverRun).abandon();
+            }
+        }
+        try {
+            return delegate.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * @return the number of incomplete tasks tracked across all open scopes.
+     */
+    @VisibleForTesting
+    int trackedTasks() {
+        return scopes.stream().mapToInt(scope -> scope.tasks.size()).sum();
+    }
+
+    @VisibleForTesting
+    static Optional<ExecutorService> virtualThreadExecutor() {
+        try {
+            final MethodHandle factory =
+                    MethodHandles.publicLookup()
+                            .findStatic(
+                                    Executors.class,
+                                    "newVirtualThreadPerTaskExecutor",
+                                    MethodType.methodType(ExecutorService.class));
+            return Optional.of((ExecutorService) factory.invokeExact());
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            // JDK without virtual threads:
+            return Optional.empty();
+        } catch (final UnsupportedOperationException e) {
+            // JDK with virtual threads as a preview feature, which is not enabled:
+            return Optional.empty();
+        } catch (final Throwable e) {
+            throw new IllegalStateException("Failed to create virtual thread executor", e);
+        }
+    }
+
+    private static ExecutorService platformThreadExecutor() {
+        final AtomicInteger count = new AtomicInteger();
+        return Executors.newCachedThreadPool(
+                task -> {
+                    final Thread thread =
+                            new Thread(task, "creek-context-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /** Implementation of {@link TaskScope}. */
+    private final class Scope implements TaskScope {
+
+        private final Set<Task<?>> tasks = ConcurrentHashMap.newKeySet();
+        private final Object lock = new Object();
+        private int pending;
+        private int running;
+        private Throwable failure;
+        private boolean closed;
+
+        @Override
+        public <T> Future<T> fork(final Callable<? extends T> task) {
+            requireNonNull(task, "task");
+            final Task<T> forked = new Task<>(task);
+            synchronized (lock) {
+                if (closed) {
+                    throw new IllegalStateException("Task scope is closed");
+                }
+                pending++;
+                running++;
+                tasks.add(forked);
+            }
+
+            try {
+                delegate.execute(forked);
+            } catch (final RuntimeException e) {
+                // Rejected, so will never run:
+                forked.abandon();
+                throw e;
+            }
+            return forked;
+        }
+
+        @Override
+        public void join() throws InterruptedException, ExecutionException {
+            final Throwable first;
+            synchronized (lock) {
+                while (pending > 0 && failure == null) {
+                    lock.wait();
+                }
+                first = failure;
+            }
+
+            if (first != null) {
+                cancel();
+                throw new ExecutionException(first);
+            }
+        }
+
+        @Override
+        public void close() {
+            cancel();
+
+            boolean interrupted = false;
+            synchronized (lock) {
+                while (running > 0) {
+                    try {
+                        lock.wait();
+                    } catch (final InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+
+            scopes.remove(this);
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void cancel() {
+            final List<Task<?>> open;
+            synchronized (lock) {
+                closed = true;
+                open = List.copyOf(tasks);
+            }
+            open.forEach(task -> task.cancel(true));
+        }
+
+        /** A task forked into the scope. */
+        private final class Task<T> extends FutureTask<T> {
+
+            Task(final Callable<? extends T> task) {
+                super(task::call);
+            }
+
+            @Override
+            public void run() {
+                try {
+                    super.run();
+                } finally {
+                    finished();
+                }
+            }
+
+            @Override
+            protected void done() {
+                tasks.remove(this);
+                synchronized (lock) {
+                    pending--;
+                    if (failure == null && !isCancelled()) {
+                        try {
+                            get();
+                        } catch (final ExecutionException e) {
+                            failure = e.getCause();
+                        } catch (final InterruptedException e) {
+                            // Not possible: task is done.
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    lock.notifyAll();
+                }
+            }
+
+            /** Cancel a task that will never be run, so the scope stops waiting for it. */
+            void abandon() {
+                cancel(false);
+                finished();
+            }
+
+            private void finished() {
+                synchronized (lock) {
+                    running--;
+                    lock.notifyAll();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.internal.service.context;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.creekservice.api.service.extension.component.model.ResourceHandler;
+
+/**
+ * JFR event recording a call to a resource handler.
+ *
+ * <p>For asynchronous handlers, the event covers the call itself, not the completion of the
+ * returned stage.
+ */
+@Name("org.creekservice.ResourceHandlerCall")
+@Label("Creek Resource Handler Call")
+@Category({"Creek", "Resource"})
+@Description("A call to a Creek extension's resource handler")
+final class ResourceHandlerEvent extends Event {
+
+    @Label("Phase")
+    @Description("The resource handling phase, i.e. validate, ensure or prepare")
+    String phase;
+
+    @Label("Handler")
+    @Description("The type of the resource handler")
+    Class<?> handler;
+
+    @Label("Resource Type")
+    @Description("The type of the resources passed to the handler")
+    Class<?> resourceType;
+
+    @Label("Group Size")
+    @Description("The number of resources passed to the handler")
+    int groupSize;
+
+    /**
+     * Make a handler call, recording it as an event if recording is enabled.
+     *
+     * @param phase the phase the call belongs to.
+     * @param handler the handler being called.
+     * @param resourceType the type of the resources passed.
+     * @param groupSize the number of resources passed.
+     * @param call the call to make.
+     * @return the stage returned by {@code call}.
+     */
+    static CompletionStage<Void> record(
+            final ResourcePhaseExecutor.Phase phase,
+            final ResourceHandler<?> handler,
+            final Class<?> resourceType,
+            final int groupSize,
+            final Supplier<? extends CompletionStage<Void>> call) {
+        final ResourceHandlerEvent event = new ResourceHandlerEvent();
+        event.begin();
+        try {
+            return call.get();
+        } finally {
+            if (event.shouldCommit()) {
+                event.phase = phase.name();
+                event.handler = handler.getClass();
+                event.resourceType = resourceType;
+                event.groupSize = groupSize;
+                event.commit();
+            }
+        }
+    }
+}
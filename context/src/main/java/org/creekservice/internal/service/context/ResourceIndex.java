@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.creekservice.api.platform.metadata.ComponentDescriptor;
+import org.creekservice.api.platform.metadata.ResourceCollection;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
+import org.creekservice.api.service.extension.component.model.ComponentModelCollection;
+import org.creekservice.api.service.extension.component.model.ResourceHandler;
+
+/**
+ * Immutable index of the resources of one or more components, built in a single pass over the
+ * components.
+ *
+ * <p>The index holds the resources of unsupported types, the unique resources grouped by type,
+ * and the handler of each supported resource type.
+ */
+final class ResourceIndex {
+
+    private final ComponentModelCollection model;
+    private final List<ResourceDescriptor> unsupported;
+    private final Map<Class<? extends ResourceDescriptor>, List<ResourceDescriptor>> uniqueByType;
+    private final Map<Class<? extends ResourceDescriptor>, ResourceHandler<?>> handlers;
+
+    /**
+     * Build the index.
+     *
+     * @param components the components whose resources to index.
+     * @param model the model used to resolve resource handlers.
+     * @return the index.
+     */
+    static ResourceIndex build(
+            final Collection<? extends ComponentDescriptor> components,
+            final ComponentModelCollection model) {
+        requireNonNull(components, "components");
+        requireNonNull(model, "model");
+
+        final List<ResourceDescriptor> unsupported = new ArrayList<>();
+        final Set<Class<? extends ResourceDescriptor>> unsupportedTypes = new HashSet<>();
+        final Map<Class<? extends ResourceDescriptor>, ResourceHandler<?>> handlers =
+                new HashMap<>();
+        final Map<URI, ResourceDescriptor> uniqueById = new LinkedHashMap<>();
+
+        components.stream()
+                .flatMap(ResourceCollection::collectResources)
+                .forEach(
+                        resource -> {
+                            uniqueById.putIfAbsent(resource.id(), resource);
+
+                            final Class<? extends ResourceDescriptor> type = resource.getClass();
+                            if (handlers.containsKey(type)) {
+                                return;
+                            }
+
+                            if (unsupportedTypes.contains(type) || !model.hasType(type)) {
+                                unsupportedTypes.add(type);
+                                unsupported.add(resource);
+                                return;
+                            }
+
+                            handlers.put(type, model.resourceHandler(type));
+                        });
+
+        final Map<Class<? extends ResourceDescriptor>, List<ResourceDescriptor>> uniqueByType =
+                new LinkedHashMap<>();
+        uniqueById
+                .values()
+                .forEach(
+                        resource ->
+                                uniqueByType
+                                        .computeIfAbsent(
+                                                resource.getClass(), k -> new ArrayList<>())
+                                        .add(resource));
+
+        return new ResourceIndex(model, unsupported, uniqueByType, handlers);
+    }
+
+    private ResourceIndex(
+            final ComponentModelCollection model,
+            final List<ResourceDescriptor> unsupported,
+            final Map<Class<? extends ResourceDescriptor>, List<ResourceDescriptor>> uniqueByType,
+            final Map<Class<? extends ResourceDescriptor>, ResourceHandler<?>> handlers) {
+        this.model = model;
+        this.unsupported = List.copyOf(unsupported);
+        final Map<Class<? extends ResourceDescriptor>, List<ResourceDescriptor>> byType =
+                new LinkedHashMap<>();
+        uniqueByType.forEach((type, resources) -> byType.put(type, List.copyOf(resources)));
+        this.uniqueByType = Collections.unmodifiableMap(byType);
+        this.handlers = Map.copyOf(handlers);
+    }
+
+    /**
+     * Rebind the index to another model, e.g. that of a new context built from the same
+     * components and extension providers.
+     *
+     * <p>The resources are not re-scanned: only the handler of each indexed resource type is
+     * resolved from the new model.
+     *
+     * @param model the model used to resolve resource handlers.
+     * @return the rebound index.
+     */
+    ResourceIndex withModel(final ComponentModelCollection model) {
+        requireNonNull(model, "model");
+        final Map<Class<? extends ResourceDescriptor>, ResourceHandler<?>> rebound =
+                new HashMap<>();
+        handlers.keySet().forEach(type -> rebound.put(type, model.resourceHandler(type)));
+        return new ResourceIndex(model, unsupported, uniqueByType, rebound);
+    }
+
+    /**
+     * @return all resources, including duplicates, whose type is not supported by any installed
+     *     extension, in the order they were found.
+     */
+    List<ResourceDescriptor> unsupported() {
+        return unsupported;
+    }
+
+    /**
+     * @return the first resource found for each resource id, grouped by resource type.
+     */
+    Map<Class<? extends ResourceDescriptor>, List<ResourceDescriptor>> uniqueByType() {
+        return uniqueByType;
+    }
+
+    /**
+     * Get the handler of a resource type.
+     *
+     * <p>Types not found in the components are resolved from the model.
+     *
+     * @param type the resource type.
+     * @param <T> the resource type.
+     * @return the handler.
+     */
+    @SuppressWarnings("unchecked")
+    <T extends ResourceDescriptor> ResourceHandler<T> handler(final Class<T> type) {
+        final ResourceHandler<?> handler = handlers.get(type);
+        return handler == null ? model.resourceHandler(type) : (ResourceHandler<T>) handler;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import org.creekservice.api.service.context.StartupReport;
+import org.creekservice.api.service.extension.component.model.ResourceHandler;
+import org.creekservice.internal.service.api.util.ThreadConfinement;
+
+/**
+ * Executes asynchronous calls to resource handlers, phase by phase.
+ *
+ * <p>Calls to other handlers are made on the calling thread, which waits for the stage returned
+ * by the previous call to the same handler, but not for the stages returned by other handlers,
+ * allowing asynchronous handlers to work concurrently.
+ *
+ * <p>Calls to thread-safe handlers are made on a pool of worker threads, serially per handler, but
+ * concurrently across handlers.
+ *
+ * <p>Either way, a handler is never called again until the stage returned by its previous call has
+ * completed. Once a call to a handler fails, its later calls in the same phase are skipped.
+ *
+ * <p>All calls of one phase must complete before any call of the next phase starts.
+ */
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+final class ResourcePhaseExecutor implements AutoCloseable {
+
+    private final Optional<ExecutorService> executor;
+    private final Map<ResourceHandler<?>, CompletableFuture<Void>> calls = new LinkedHashMap<>();
+    private Phase phase = Phase.VALIDATE;
+
+    /** The phases of resource handling, in the order they run. */
+    enum Phase {
+        VALIDATE(StartupReport.Phase.VALIDATE),
+        ENSURE(StartupReport.Phase.ENSURE),
+        PREPARE(StartupReport.Phase.PREPARE);
+
+        private final StartupReport.Phase startupPhase;
+
+        Phase(final StartupReport.Phase startupPhase) {
+            this.startupPhase = startupPhase;
+        }
+
+        /**
+         * @return the matching phase of the startup report.
+         */
+        StartupReport.Phase startupPhase() {
+            return startupPhase;
+        }
+    }
+
+    /**
+     * @param parallelism the maximum number of handlers to call concurrently. A value of {@code
+     *     1} means all calls are made on the calling thread.
+     */
+    ResourcePhaseExecutor(final int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+
+        this.executor =
+                parallelism == 1
+                        ? Optional.empty()
+                        : Optional.of(
+                                Executors.newFixedThreadPool(
+                                        parallelism,
+                                        ThreadConfinement.workerThreadFactory(
+                                                "creek-resource-handler")));
+    }
+
+    /**
+     * Execute a call to a handler.
+     *
+     * <p>If the call is for a different phase than previous calls, this method first waits for
+     * all calls of the previous phase to complete.
+     *
+     * @param phase the phase the call belongs to.
+     * @param handler the handler being called.
+     * @param call the call to make.
+     */
+    void execute(
+            final Phase phase,
+            final ResourceHandler<?> handler,
+            final Supplier<? extends CompletionStage<Void>> call) {
+        requireNonNull(call, "call");
+        if (requireNonNull(phase, "phase") != this.phase) {
+            awaitPhase();
+            this.phase = phase;
+        }
+
+        final CompletableFuture<Void> previous =
+                calls.getOrDefault(handler, CompletableFuture.completedFuture(null));
+
+        if (executor.isEmpty() || !handler.isThreadSafe()) {
+            // Wait on the calling thread, so that the handler is only ever called from it:
+            previous.exceptionally(e -> null).join();
+            calls.put(
+                    handler,
+                    previous.isCompletedExceptionally()
+                            ? previous
+                            : call.get().toCompletableFuture());
+            return;
+        }
+
+        calls.put(handler, previous.thenComposeAsync(ignored -> call.get(), executor.get()));
+    }
+
+    /**
+     * Wait for all calls in the current phase to complete.
+     *
+     * @throws RuntimeException the first failure of any call.
+     */
+    void awaitPhase() {
+        final List<CompletableFuture<Void>> all = new ArrayList<>(calls.values());
+        calls.clear();
+
+        try {
+            // Wait for all to complete, successfully or otherwise:
+            CompletableFuture.allOf(all.toArray(CompletableFuture[]::new))
+                    .exceptionally(e -> null)
+                    .join();
+
+            for (final CompletableFuture<Void> result : all) {
+                result.join();
+            }
+        } catch (final CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.ifPresent(ExecutorService::shutdown);
+    }
+
+    private static RuntimeException unwrap(final CompletionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return e;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.service.context.StartupReport;
+import org.creekservice.api.service.context.StartupReport.Phase;
+
+/**
+ * Records monotonic timings of the phases of building a context.
+ *
+ * <p>Thread-safe, as asynchronous resource handler calls may complete on other threads.
+ */
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+final class StartupTimer {
+
+    private final LongSupplier nanoTime;
+    private final long start;
+    private final Map<Key, Long> timings = new LinkedHashMap<>();
+
+    StartupTimer() {
+        this(System::nanoTime);
+    }
+
+    @VisibleForTesting
+    StartupTimer(final LongSupplier nanoTime) {
+        this.nanoTime = requireNonNull(nanoTime, "nanoTime");
+        this.start = nanoTime.getAsLong();
+    }
+
+    /**
+     * Time a phase.
+     *
+     * @param phase the phase.
+     * @param action the phase's work.
+     */
+    void time(final Phase phase, final Runnable action) {
+        time(
+                phase,
+                () -> {
+                    action.run();
+                    return null;
+                });
+    }
+
+    /**
+     * Time a phase that produces a result.
+     *
+     * @param phase the phase.
+     * @param action the phase's work.
+     * @param <T> the result type.
+     * @return the result of {@code action}.
+     */
+    <T> T time(final Phase phase, final Supplier<T> action) {
+        final long begin = nanoTime.getAsLong();
+        try {
+            return action.get();
+        } finally {
+            record(phase, Optional.empty(), nanoTime.getAsLong() - begin);
+        }
+    }
+
+    /**
+     * Time an asynchronous call, from invocation until the returned stage completes.
+     *
+     * @param phase the phase.
+     * @param subject the subject of the phase.
+     * @param call the call.
+     * @return the stage returned by {@code call}.
+     */
+    CompletionStage<Void> timeAsync(
+            final Phase phase,
+            final String subject,
+            final Supplier<? extends CompletionStage<Void>> call) {
+        final long begin = nanoTime.getAsLong();
+        final CompletionStage<Void> result;
+        try {
+            result = call.get();
+        } catch (final RuntimeException e) {
+            record(phase, Optional.of(subject), nanoTime.getAsLong() - begin);
+            throw e;
+        }
+
+        return result.whenComplete(
+                (v, e) -> record(phase, Optional.of(subject), nanoTime.getAsLong() - begin));
+    }
+
+    /**
+     * Record a timing.
+     *
+     * @param phase the phase.
+     * @param subject the subject of the phase.
+     * @param duration the time taken.
+     */
+    void record(final Phase phase, final String subject, final Duration duration) {
+        record(phase, Optional.of(subject), duration.toNanos());
+    }
+
+    /**
+     * @return an immutable report of all timings recorded so far.
+     */
+    synchronized StartupReport report() {
+        final List<StartupReport.Timing> recorded =
+                timings.entrySet().stream()
+                        .map(
+                                e ->
+                                        new Timing(
+                                                e.getKey().phase,
+                                                e.getKey().subject,
+                                                Duration.ofNanos(e.getValue())))
+                        .collect(Collectors.toUnmodifiableList());
+
+        return new Report(Duration.ofNanos(nanoTime.getAsLong() - start), recorded);
+    }
+
+    private synchronized void record(
+            final Phase phase, final Optional<String> subject, final long nanos) {
+        timings.merge(new Key(phase, subject), nanos, Long::sum);
+    }
+
+    private static final class Key {
+        private final Phase phase;
+        private final Optional<String> subject;
+
+        Key(final Phase phase, final Optional<String> subject) {
+            this.phase = requireNonNull(phase, "phase");
+            this.subject = requireNonNull(subject, "subject");
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return phase == key.phase && subject.equals(key.subject);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(phase, subject);
+        }
+    }
+
+    private static final class Report implements StartupReport {
+        private final Duration total;
+        private final List<StartupReport.Timing> timings;
+
+        Report(final Duration total, final List<StartupReport.Timing> timings) {
+            this.total = requireNonNull(total, "total");
+            this.timings = requireNonNull(timings, "timings");
+        }
+
+        @Override
+        public Duration total() {
+            return total;
+        }
+
+        @Override
+        public List<StartupReport.Timing> timings() {
+            return timings;
+        }
+
+        @Override
+        public String toString() {
+            return "StartupReport{" + "total=" + total + ", timings=" + timings + '}';
+        }
+    }
+
+    private static final class Timing implements StartupReport.Timing {
+        private final Phase phase;
+        private final Optional<String> subject;
+        private final Duration duration;
+
+        Timing(final Phase phase, final Optional<String> subject, final Duration duration) {
+            this.phase = phase;
+            this.subject = subject;
+            this.duration = duration;
+        }
+
+        @Override
+        public Phase phase() {
+            return phase;
+        }
+
+        @Override
+        public Optional<String> subject() {
+            return subject;
+        }
+
+        @Override
+        public Duration duration() {
+            return duration;
+        }
+
+        @Override
+        public String toString() {
+            return phase + subject.map(s -> "[" + s + "]").orElse("") + "=" + duration;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.observability.logging.structured.StructuredLogger;
+import org.creekservice.api.observability.logging.structured.StructuredLoggerFactory;
+import org.creekservice.api.service.context.CreekContext;
+import org.creekservice.api.service.context.CreekServices;
+import org.creekservice.api.service.context.TerminationPolicy;
+
+/**
+ * Uncaught exception handler that terminates the JVM, according to a {@link TerminationPolicy}.
+ *
+ * <p>If the policy drains, and the context has been built, the context is closed on a separate
+ * thread, so that the deadline can be enforced even if an extension hangs. The JVM is terminated
+ * once the context closes or the deadline expires.
+ *
+ * <p>Only the first uncaught exception triggers termination. Later exceptions, e.g. from threads
+ * failing as the context closes, are only logged.
+ */
+final class TerminatingExceptionHandler implements UncaughtExceptionHandler {
+
+    private static final StructuredLogger LOGGER =
+            StructuredLoggerFactory.internalLogger(CreekServices.class);
+
+    private final TerminationPolicy policy;
+    private final Runnable systemExit;
+    private final StructuredLogger logger;
+    private final AtomicBoolean terminating = new AtomicBoolean();
+    private volatile CreekContext context;
+
+    /**
+     * @param policy the termination policy.
+     * @param systemExit terminates the JVM.
+     */
+    TerminatingExceptionHandler(final TerminationPolicy policy, final Runnable systemExit) {
+        this(policy, systemExit, LOGGER);
+    }
+
+    @VisibleForTesting
+    TerminatingExceptionHandler(
+            final TerminationPolicy policy,
+            final Runnable systemExit,
+            final StructuredLogger logger) {
+        this.policy = requireNonNull(policy, "policy");
+        this.systemExit = requireNonNull(systemExit, "systemExit");
+        this.logger = requireNonNull(logger, "logger");
+    }
+
+    /**
+     * Set the context to close on termination.
+     *
+     * <p>Until called, e.g. if an exception is thrown while the context is being built, the JVM is
+     * terminated without closing.
+     *
+     * @param context the built context.
+     */
+    void attach(final CreekContext context) {
+        this.context = requireNonNull(context, "context");
+    }
+
+    @Override
+    public void uncaughtException(final Thread thread, final Throwable throwable) {
+        logger.error(
+                "uncaught exception on thread: terminating",
+                log -> log.with("thread-name", thread.getName()).withThrowable(throwable));
+
+        if (!terminating.compareAndSet(false, true)) {
+            return;
+        }
+
+        final CreekContext ctx = context;
+        if (policy.drain() && ctx != null) {
+            closeWithinDeadline(ctx);
+        }
+
+        systemExit.run();
+    }
+
+    private void closeWithinDeadline(final CreekContext ctx) {
+        final Thread closer = new Thread(() -> close(ctx), "creek-termination");
+        closer.start();
+
+        try {
+            closer.join(Math.max(1, policy.deadline().toMillis()));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (closer.isAlive()) {
+            // Logged before exiting, as the closer thread will not get to log anything itself:
+            logger.warn(
+                    "Creek context did not close before termination deadline",
+                    log ->
+                            log.with("deadline", policy.deadline())
+                                    .with("thread-name", closer.getName()));
+        }
+    }
+
+    private void close(final CreekContext ctx) {
+        try {
+            ctx.close();
+        } catch (final RuntimeException e) {
+            logger.warn(
+                    "Creek context failed to close cleanly before termination",
+                    log -> log.withThrowable(e));
+        }
+    }
+}
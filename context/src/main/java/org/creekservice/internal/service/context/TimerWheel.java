@@ -0,0 +1,317 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.base.type.temporal.Clock;
+import org.creekservice.api.observability.logging.structured.StructuredLogger;
+import org.creekservice.api.observability.logging.structured.StructuredLoggerFactory;
+import org.creekservice.api.service.context.CreekContext;
+import org.creekservice.api.service.context.Scheduler;
+
+/**
+ * Hashed timer wheel implementation of {@link Scheduler}.
+ *
+ * <p>The wheel is an array of buckets, each covering one tick. A task is placed in the bucket of
+ * its deadline tick, along with the number of full rotations of the wheel remaining before it is
+ * due. A single worker thread advances the wheel one tick at a time, based on the time reported
+ * by the context's clock, and hands due tasks to the executor.
+ *
+ * <p>Newly scheduled tasks are queued and moved into the wheel by the worker, so scheduling is
+ * lock-free and constant time. Cancellation only marks the task, which is removed when the worker
+ * next visits its bucket, so is also constant time.
+ *
+ * <p>The worker thread is only started when the first task is scheduled.
+ */
+final class TimerWheel implements Scheduler, AutoCloseable {
+
+    private static final StructuredLogger LOGGER =
+            StructuredLoggerFactory.internalLogger(CreekContext.class);
+
+    /** The default duration of one tick. */
+    static final Duration DEFAULT_TICK = Duration.ofMillis(10);
+
+    private static final int WHEEL_SIZE = 512;
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    private static final int INIT = 0;
+    private static final int STARTED = 1;
+    private static final int CLOSED = 2;
+
+    private final Clock clock;
+    private final Executor executor;
+    private final long tickNanos;
+    private final boolean autoStart;
+    private final Instant start;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(INIT);
+    private final Queue<Timeout>[] wheel;
+    private volatile Thread worker;
+    private long tick;
+
+    /**
+     * @param clock the clock that drives the wheel.
+     * @param executor the executor due tasks are run on.
+     * @param tick the duration of one tick.
+     */
+    TimerWheel(final Clock clock, final Executor executor, final Duration tick) {
+        this(clock, executor, tick, true);
+    }
+
+    @VisibleForTesting
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    TimerWheel(
+            final Clock clock,
+            final Executor executor,
+            final Duration tick,
+            final boolean autoStart) {
+        this.clock = requireNonNull(clock, "clock");
+        this.executor = requireNonNull(executor, "executor");
+        this.tickNanos = requireNonNull(tick, "tick").toNanos();
+        this.autoStart = autoStart;
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("tick must be positive: " + tick);
+        }
+        this.start = clock.get();
+        this.wheel = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+    }
+
+    @Override
+    public ScheduledTask schedule(final Runnable task, final Duration delay) {
+        return add(new Timeout(task, delay, 0));
+    }
+
+    @Override
+    public ScheduledTask scheduleAtFixedRate(
+            final Runnable task, final Duration initialDelay, final Duration period) {
+        final long periodNanos = requireNonNull(period, "period").toNanos();
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        return add(new Timeout(task, initialDelay, periodNanos));
+    }
+
+    /** Stop the worker thread, cancelling all pending tasks. */
+    @Override
+    public void close() {
+        if (state.getAndSet(CLOSED) == CLOSED) {
+            return;
+        }
+
+        final Thread thread = worker;
+        if (thread != null && thread != Thread.currentThread()) {
+            thread.interrupt();
+            try {
+                thread.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        cancelAll();
+    }
+
+    /**
+     * Advance the wheel to the clock's current time, running any due tasks.
+     *
+     * <p>Must only be called by the worker thread, or by tests with {@code autoStart} disabled.
+     */
+    @VisibleForTesting
+    void advance() {
+        final long target = elapsedNanos() / tickNanos;
+        while (tick <= target) {
+            transferPending();
+            expire(wheel[(int) (tick & MASK)]);
+            tick++;
+        }
+    }
+
+    private ScheduledTask add(final Timeout timeout) {
+        if (state.get() == CLOSED) {
+            throw new IllegalStateException("Scheduler is closed");
+        }
+
+        pending.add(timeout);
+
+        if (autoStart && state.get() == INIT && state.compareAndSet(INIT, STARTED)) {
+            final Thread thread = new Thread(this::run, "creek-timer-wheel");
+            thread.setDaemon(true);
+            worker = thread;
+            thread.start();
+        }
+
+        if (state.get() == CLOSED) {
+            // Raced with close:
+            cancelAll();
+        }
+        return timeout;
+    }
+
+    private void run() {
+        while (state.get() == STARTED) {
+            advance();
+
+            final long untilNextTick = tick * tickNanos - elapsedNanos();
+            try {
+                TimeUnit.NANOSECONDS.sleep(Math.max(0, Math.min(untilNextTick, tickNanos)));
+            } catch (final InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.isDone()) {
+                continue;
+            }
+
+            final long deadlineTick = Math.max(ceilDiv(timeout.deadline, tickNanos), tick);
+            timeout.rounds = (deadlineTick - tick) / WHEEL_SIZE;
+            wheel[(int) (deadlineTick & MASK)].add(timeout);
+        }
+    }
+
+    private void expire(final Queue<Timeout> bucket) {
+        for (int remaining = bucket.size(); remaining > 0; remaining--) {
+            final Timeout timeout = bucket.poll();
+            if (timeout.isDone()) {
+                continue;
+            }
+
+            if (timeout.rounds > 0) {
+                timeout.rounds--;
+                bucket.add(timeout);
+                continue;
+            }
+
+            timeout.fire();
+        }
+    }
+
+    private void cancelAll() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            timeout.cancel();
+        }
+
+        if (worker == null || !worker.isAlive()) {
+            for (final Queue<Timeout> bucket : wheel) {
+                bucket.forEach(Timeout::cancel);
+            }
+        }
+    }
+
+    private long elapsedNanos() {
+        return Duration.between(start, clock.get()).toNanos();
+    }
+
+    private static long ceilDiv(final long x, final long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    /** A scheduled task. */
+    private final class Timeout implements ScheduledTask {
+
+        private static final int WAITING = 0;
+        private static final int RUNNING = 1;
+        private static final int CANCELLED = 2;
+        private static final int COMPLETE = 3;
+
+        private final Runnable task;
+        private final long periodNanos;
+        private final AtomicInteger status = new AtomicInteger(WAITING);
+        private long deadline;
+        private long rounds;
+
+        Timeout(final Runnable task, final Duration delay, final long periodNanos) {
+            this.task = requireNonNull(task, "task");
+            this.periodNanos = periodNanos;
+            this.deadline = elapsedNanos() + Math.max(0, requireNonNull(delay, "delay").toNanos());
+        }
+
+        @Override
+        public boolean cancel() {
+            return status.compareAndSet(WAITING, CANCELLED)
+                    || status.compareAndSet(RUNNING, CANCELLED);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return status.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            final int current = status.get();
+            return current == CANCELLED || current == COMPLETE;
+        }
+
+        void fire() {
+            if (!status.compareAndSet(WAITING, RUNNING)) {
+                return;
+            }
+
+            try {
+                executor.execute(this::runTask);
+            } catch (final RejectedExecutionException e) {
+                // Executor shut down:
+                cancel();
+            }
+        }
+
+        private void runTask() {
+            try {
+                task.run();
+            } catch (final RuntimeException e) {
+                LOGGER.warn(
+                        "Scheduled task failed" + (periodNanos > 0 ? ": cancelling" : ""),
+                        log -> log.with("task", task).withThrowable(e));
+                status.compareAndSet(RUNNING, COMPLETE);
+                return;
+            }
+
+            if (periodNanos == 0) {
+                status.compareAndSet(RUNNING, COMPLETE);
+                return;
+            }
+
+            deadline = Math.max(deadline + periodNanos, elapsedNanos());
+            if (status.compareAndSet(RUNNING, WAITING)) {
+                pending.add(this);
+                if (state.get() == CLOSED) {
+                    cancel();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.context;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import org.creekservice.api.service.extension.health.Health;
+import org.creekservice.api.service.extension.metric.MetricRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+class CreekContextTest {
+
+    private CreekContext ctx;
+
+    @BeforeEach
+    void setUp() {
+        ctx = mock(CreekContext.class, Answers.CALLS_REAL_METHODS);
+    }
+
+    @Test
+    void shouldDefaultToEmptyStartupReport() {
+        // When:
+        final StartupReport report = ctx.startupReport();
+
+        // Then:
+        assertThat(report.total(), is(Duration.ZERO));
+        assertThat(report.timings(), is(empty()));
+    }
+
+    @Test
+    void shouldDefaultToCommonPoolExecutor() {
+        assertThat(ctx.executor(), is(sameInstance(ForkJoinPool.commonPool())));
+    }
+
+    @Test
+    void shouldDefaultToNoOpMetrics() {
+        assertThat(ctx.metrics(), is(sameInstance(MetricRegistry.noOp())));
+    }
+
+    @Test
+    void shouldDefaultToUpHealth() {
+        // When:
+        final HealthReport report = ctx.health();
+
+        // Then:
+        assertThat(report.ready(), is(true));
+        assertThat(report.context(), is(Health.up()));
+        assertThat(report.extensions(), is(Map.of()));
+    }
+}
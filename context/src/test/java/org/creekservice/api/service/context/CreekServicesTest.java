@@ -18,10 +18,15 @@ package org.creekservice.api.service.context;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import org.creekservice.api.platform.metadata.ServiceDescriptor;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 
 class CreekServicesTest {
 
@@ -38,6 +43,36 @@ class CreekServicesTest {
         assertThat(e.getClass().getSimpleName(), is("InvalidDescriptorException"));
     }
 
+    @Test
+    void shouldIgnoreUnsupportedBuilderSettingsByDefault() {
+        // Given:
+        final CreekServices.Builder builder =
+                mock(CreekServices.Builder.class, Answers.CALLS_REAL_METHODS);
+
+        // Then:
+        assertThat(builder.withExtensionParallelism(2), is(sameInstance(builder)));
+        assertThat(builder.withResourceParallelism(2), is(sameInstance(builder)));
+        assertThat(builder.withCloseTimeout(Duration.ofSeconds(1)), is(sameInstance(builder)));
+        assertThat(builder.withSchedulerTick(Duration.ofMillis(1)), is(sameInstance(builder)));
+        assertThat(
+                builder.withTerminationPolicy(TerminationPolicy.exitImmediately()),
+                is(sameInstance(builder)));
+        assertThat(
+                builder.withEnsureStateCache(Path.of("cache"), Duration.ofMinutes(1)),
+                is(sameInstance(builder)));
+        assertThat(builder.withForcedEnsure(true), is(sameInstance(builder)));
+    }
+
+    @Test
+    void shouldNotSupportSnapshotsByDefault() {
+        // Given:
+        final CreekServices.Builder builder =
+                mock(CreekServices.Builder.class, Answers.CALLS_REAL_METHODS);
+
+        // Then:
+        assertThrows(UnsupportedOperationException.class, builder::snapshot);
+    }
+
     private static final class BadDescriptor implements ServiceDescriptor {
         @Override
         public String name() {
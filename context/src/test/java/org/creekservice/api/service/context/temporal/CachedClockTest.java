@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.context.temporal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachedClockTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00.123456789Z");
+    private static final Instant T1 = T0.plusMillis(5);
+
+    private final AtomicReference<Instant> source = new AtomicReference<>(T0);
+    private CachedClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new CachedClock(Duration.ofMillis(1), source::get, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clock.close();
+    }
+
+    @Test
+    void shouldReturnTimeAsOfConstruction() {
+        assertThat(clock.get(), is(T0));
+    }
+
+    @Test
+    void shouldNotChangeBetweenTicks() {
+        // Given:
+        source.set(T1);
+
+        // Then:
+        assertThat(clock.get(), is(T0));
+    }
+
+    @Test
+    void shouldUpdateOnTick() {
+        // Given:
+        source.set(T1);
+
+        // When:
+        clock.tick();
+
+        // Then:
+        assertThat(clock.get(), is(T1));
+    }
+
+    @Test
+    void shouldReturnSameInstanceBetweenTicks() {
+        assertThat(clock.get(), is(sameInstance(clock.get())));
+    }
+
+    @Test
+    void shouldReturnEpochMillis() {
+        assertThat(clock.epochMillis(), is(T0.toEpochMilli()));
+    }
+
+    @Test
+    void shouldReturnEpochMicros() {
+        assertThat(clock.epochMicros(), is(T0.toEpochMilli() * 1000 + 456));
+    }
+
+    @Test
+    void shouldTickInBackground() {
+        // Given:
+        final Iterator<Instant> times = List.of(T0, T1).iterator();
+        final Supplier<Instant> ticks = () -> times.hasNext() ? times.next() : T1;
+
+        try (CachedClock ticking = new CachedClock(Duration.ofMillis(1), ticks, true)) {
+            assertThat(ticking.get(), is(T0));
+
+            // When:
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (ticking.get().equals(T0) && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+
+            // Then:
+            assertThat(ticking.get(), is(T1));
+        }
+    }
+
+    @Test
+    void shouldThrowOnNonPositiveResolution() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class, () -> CachedClock.create(Duration.ZERO));
+
+        // Then:
+        assertThat(e.getMessage(), is("resolution must be positive: PT0S"));
+    }
+
+    @Test
+    void shouldDefaultResolutionIfEnvNotSet() {
+        assertThat(CachedClock.resolutionFromEnv(null), is(CachedClock.DEFAULT_RESOLUTION));
+        assertThat(CachedClock.resolutionFromEnv(" "), is(CachedClock.DEFAULT_RESOLUTION));
+    }
+
+    @Test
+    void shouldParseResolutionFromEnv() {
+        assertThat(CachedClock.resolutionFromEnv("PT0.005S"), is(Duration.ofMillis(5)));
+    }
+
+    @Test
+    void shouldThrowOnInvalidResolutionInEnv() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> CachedClock.resolutionFromEnv("5ms"));
+
+        // Then:
+        assertThat(e.getMessage(), is("Invalid CREEK_CLOCK_RESOLUTION: 5ms"));
+    }
+}
@@ -18,25 +18,39 @@ package org.creekservice.internal.service.context;
 
 import static org.creekservice.internal.service.context.ContextBuilder.UnsupportedResourceTypesException;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.Thread.UncaughtExceptionHandler;
 import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.creekservice.api.base.type.temporal.AccurateClock;
 import org.creekservice.api.base.type.temporal.Clock;
@@ -45,13 +59,18 @@ import org.creekservice.api.platform.metadata.OwnedResource;
 import org.creekservice.api.platform.metadata.ResourceDescriptor;
 import org.creekservice.api.platform.resource.ResourceInitializer;
 import org.creekservice.api.service.context.CreekContext;
+import org.creekservice.api.service.context.CreekContextSnapshot;
+import org.creekservice.api.service.context.StartupReport;
+import org.creekservice.api.service.context.TerminationPolicy;
 import org.creekservice.api.service.extension.CreekExtension;
 import org.creekservice.api.service.extension.CreekExtensionOptions;
 import org.creekservice.api.service.extension.CreekExtensionProvider;
+import org.creekservice.api.service.extension.CreekService;
 import org.creekservice.api.service.extension.component.model.ResourceHandler;
 import org.creekservice.internal.service.api.Creek;
 import org.creekservice.internal.service.api.component.model.ComponentModel;
 import org.creekservice.internal.service.api.extension.Extensions;
+import org.creekservice.internal.service.api.metric.Metrics;
 import org.creekservice.internal.service.api.options.Options;
 import org.creekservice.internal.service.context.ContextBuilder.ContextFactory;
 import org.creekservice.internal.service.context.ContextBuilder.UnhandledExceptionHandlerInstaller;
@@ -60,6 +79,7 @@ import org.creekservice.internal.service.context.temporal.TestClock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.Isolated;
 import org.junitpioneer.jupiter.SetEnvironmentVariable;
@@ -89,6 +109,7 @@ class ContextBuilderTest {
     @Mock private Options options;
     @Mock private ComponentModel model;
     @Mock private ComponentDescriptor component;
+    @Mock private ComponentDescriptor other;
     @Mock private ResourceA res0;
     @Mock private ResourceB res1;
     @Mock private CreekExtensionOptions customOptions;
@@ -102,9 +123,14 @@ class ContextBuilderTest {
     @Mock private UnhandledExceptionHandlerInstaller exceptionHandlerInstaller;
     @Mock private Clock specificClock;
     @Mock private ContextBuilder.ResourceInitializerFactory resourceInitializerFactory;
+    @Mock private ContextBuilder.ProviderFactory providerFactory;
     @Mock private ResourceInitializer resourceInitializer;
     @Mock private ResourceHandler<ResourceDescriptor> resourceHandler;
     @Captor private ArgumentCaptor<UncaughtExceptionHandler> exceptionHandlerCaptor;
+    @Captor private ArgumentCaptor<StartupReport> startupReportCaptor;
+    @TempDir private Path tempDir;
+    private final List<CreekExtensionProvider<?>> createdProviders = new ArrayList<>();
+    private final List<CreekExtension> createdExtensions = new ArrayList<>();
     private ContextBuilder ctxBuilder;
 
     @BeforeEach
@@ -115,11 +141,16 @@ class ContextBuilderTest {
 
         when(model.hasType(any())).thenReturn(true);
         when(model.resourceHandler(any())).thenReturn(resourceHandler);
+        when(resourceHandler.validateAsync(any())).thenCallRealMethod();
+        when(resourceHandler.ensureAsync(any())).thenCallRealMethod();
+        when(resourceHandler.prepareAsync(any())).thenCallRealMethod();
 
         when(component.name()).thenReturn("comp");
         when(component.resources()).thenAnswer(inv -> Stream.of(res0));
         when(res0.resources()).thenAnswer(inv -> Stream.of(res1));
-        when(contextFactory.build(any(), any())).thenReturn(ctx);
+        when(contextFactory.build(
+                        any(), anyBoolean(), any(), any(), any(), any(), any()))
+                .thenReturn(ctx);
 
         when(extProvider0.initialize(any())).thenReturn(ext0);
         when(ext0.name()).thenReturn("provider0");
@@ -129,6 +160,11 @@ class ContextBuilderTest {
 
         when(resourceInitializerFactory.build(any())).thenReturn(resourceInitializer);
 
+        when(providerFactory.create(extProvider0))
+                .thenAnswer(inv -> newProvider(TestExtensionA.class, "provider0"));
+        when(providerFactory.create(extProvider1))
+                .thenAnswer(inv -> newProvider(TestExtensionB.class, "provider1"));
+
         when(res0.id()).thenReturn(RES0_ID);
         when(res1.id()).thenReturn(RES1_ID);
 
@@ -203,8 +239,32 @@ class ContextBuilderTest {
         ctxBuilder.build();
 
         // Then:
-        verify(api.extensions()).ensureExtension(extProvider0);
-        verify(api.extensions()).ensureExtension(extProvider1);
+        verify(api.extensions())
+                .ensureExtensions(List.of(extProvider0, extProvider1), 1);
+    }
+
+    @Test
+    void shouldInitializeProvidersWithExplicitParallelism() {
+        // Given:
+        ctxBuilder.withExtensionParallelism(4);
+
+        // When:
+        ctxBuilder.build();
+
+        // Then:
+        verify(api.extensions()).ensureExtensions(List.of(extProvider0, extProvider1), 4);
+    }
+
+    @Test
+    void shouldThrowOnInvalidExtensionParallelism() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> ctxBuilder.withExtensionParallelism(0));
+
+        // Then:
+        assertThat(e.getMessage(), is("parallelism must be positive: 0"));
     }
 
     @Test
@@ -214,8 +274,177 @@ class ContextBuilderTest {
 
         // Then:
         final Extensions extensions = api.extensions();
-        verify(contextFactory).build(any(), eq(extensions));
+        verify(contextFactory)
+                .build(any(), anyBoolean(), eq(extensions), any(), any(), any(), any());
+        assertThat(result, is(ctx));
+    }
+
+    @Test
+    void shouldBuildContextWithApiMetrics() {
+        // Given:
+        ctxBuilder.build();
+
+        // Then:
+        final Metrics metrics = api.metrics();
+        verify(contextFactory).build(any(), anyBoolean(), any(), any(), any(), any(), eq(metrics));
+    }
+
+    @Test
+    void shouldFreezeApiBeforeBuildingContext() {
+        // When:
+        ctxBuilder.build();
+
+        // Then:
+        final Extensions extensions = api.extensions();
+        final InOrder inOrder = Mockito.inOrder(extensions, model, options, contextFactory);
+        inOrder.verify(extensions).freeze();
+        inOrder.verify(model).freeze();
+        inOrder.verify(options).freeze();
+        inOrder.verify(contextFactory)
+                .build(any(), anyBoolean(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldValidateResourcesWithoutBuildingContextWhenTakingSnapshot() {
+        // Given:
+        when(component.resources()).thenAnswer(inv -> Stream.empty());
+
+        // When:
+        ctxBuilder.snapshot();
+
+        // Then:
+        verify(resourceInitializer).service(List.of(component));
+        verify(contextFactory, never())
+                .build(any(), anyBoolean(), any(), any(), any(), any(), any());
+        verify(exceptionHandlerInstaller, never()).install(any());
+    }
+
+    @Test
+    void shouldUseNewProvidersAndCloseTheirExtensionsWhenTakingSnapshot() {
+        // Given:
+        when(component.resources()).thenAnswer(inv -> Stream.empty());
+
+        // When:
+        ctxBuilder.snapshot();
+
+        // Then:
+        verify(extProvider0, never()).initialize(any());
+        verify(extProvider1, never()).initialize(any());
+        assertThat(createdProviders, hasSize(2));
+        verify(createdProviders.get(0)).initialize(any());
+        verify(createdExtensions.get(0)).close();
+    }
+
+    @Test
+    void shouldKeepValidationFailureIfExtensionsFailToCloseWhenTakingSnapshot() {
+        // Given:
+        when(component.resources()).thenAnswer(inv -> Stream.empty());
+        final RuntimeException validationFailure = new RuntimeException("validate");
+        doThrow(validationFailure).when(resourceInitializer).service(any());
+        doAnswer(
+                        inv -> {
+                            final CreekExtensionProvider<?> provider =
+                                    newProvider(TestExtensionA.class, "provider0");
+                            doThrow(new RuntimeException("close"))
+                                    .when(createdExtensions.get(createdExtensions.size() - 1))
+                                    .close();
+                            return provider;
+                        })
+                .when(providerFactory)
+                .create(extProvider0);
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, ctxBuilder::snapshot);
+
+        // Then:
+        assertThat(e, is(sameInstance(validationFailure)));
+        assertThat(e.getSuppressed().length, is(1));
+    }
+
+    @Test
+    void shouldNotReindexResourcesWhenCreatingContextFromSnapshot() {
+        // Given:
+        when(component.resources()).thenAnswer(inv -> Stream.empty());
+        final CreekContextSnapshot snapshot = ctxBuilder.snapshot();
+        clearInvocations(component);
+
+        // When:
+        snapshot.newContext();
+
+        // Then:
+        verify(component, never()).resources();
+    }
+
+    @Test
+    void shouldNotValidateOrEnsureResourcesWhenCreatingContextFromSnapshot() {
+        // Given:
+        when(component.resources()).thenAnswer(inv -> Stream.empty());
+        final CreekContextSnapshot snapshot = ctxBuilder.snapshot();
+
+        // When:
+        final CreekContext result = snapshot.newContext();
+
+        // Then:
         assertThat(result, is(ctx));
+        verify(resourceInitializerFactory, times(1)).build(any());
+        verify(resourceInitializer, times(1)).service(any());
+        verify(contextFactory, times(1))
+                .build(any(), anyBoolean(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldInitializeNewProvidersForEachContextCreatedFromSnapshot() {
+        // Given:
+        when(component.resources()).thenAnswer(inv -> Stream.empty());
+        final CreekContextSnapshot snapshot = ctxBuilder.snapshot();
+        createdProviders.clear();
+
+        // When:
+        snapshot.newContext();
+        snapshot.newContext();
+
+        // Then:
+        assertThat(createdProviders, hasSize(4));
+        final ArgumentCaptor<CreekService> first = ArgumentCaptor.forClass(CreekService.class);
+        final ArgumentCaptor<CreekService> second = ArgumentCaptor.forClass(CreekService.class);
+        verify(createdProviders.get(0)).initialize(first.capture());
+        verify(createdProviders.get(2)).initialize(second.capture());
+        assertThat(first.getValue(), is(not(sameInstance(api))));
+        assertThat(first.getValue(), is(not(sameInstance(second.getValue()))));
+        verify(extProvider0, never()).initialize(any());
+    }
+
+    @Test
+    void shouldPassOptionsToContextsCreatedFromSnapshot() {
+        // Given:
+        when(component.resources()).thenAnswer(inv -> Stream.empty());
+        final AtomicReference<Object> seen = new AtomicReference<>();
+        doAnswer(
+                        inv -> {
+                            final CreekExtensionProvider<?> provider =
+                                    newProvider(TestExtensionA.class, "provider0");
+                            when(provider.initialize(any()))
+                                    .thenAnswer(
+                                            init -> {
+                                                final CreekService service = init.getArgument(0);
+                                                seen.set(
+                                                        service.options()
+                                                                .get(customOptions.getClass())
+                                                                .orElse(null));
+                                                return mock(TestExtensionA.class);
+                                            });
+                            return provider;
+                        })
+                .when(providerFactory)
+                .create(extProvider0);
+        final CreekContextSnapshot snapshot = ctxBuilder.with(customOptions).snapshot();
+        seen.set(null);
+
+        // When:
+        snapshot.newContext();
+
+        // Then:
+        assertThat(seen.get(), is(customOptions));
     }
 
     @Test
@@ -237,13 +466,47 @@ class ContextBuilderTest {
         verify(systemExit).run();
     }
 
+    @Test
+    void shouldCloseContextBeforeSystemExitByDefault() {
+        // Given:
+        ctxBuilder.build();
+        verify(exceptionHandlerInstaller).install(exceptionHandlerCaptor.capture());
+
+        // When:
+        exceptionHandlerCaptor
+                .getValue()
+                .uncaughtException(Thread.currentThread(), new RuntimeException());
+
+        // Then:
+        final InOrder inOrder = Mockito.inOrder(ctx, systemExit);
+        inOrder.verify(ctx).close();
+        inOrder.verify(systemExit).run();
+    }
+
+    @Test
+    void shouldSystemExitWithoutClosingContextIfConfigured() {
+        // Given:
+        ctxBuilder.withTerminationPolicy(TerminationPolicy.exitImmediately()).build();
+        verify(exceptionHandlerInstaller).install(exceptionHandlerCaptor.capture());
+
+        // When:
+        exceptionHandlerCaptor
+                .getValue()
+                .uncaughtException(Thread.currentThread(), new RuntimeException());
+
+        // Then:
+        verify(ctx, never()).close();
+        verify(systemExit).run();
+    }
+
     @Test
     void shouldProvideDefaultClockImpl() {
         // When:
         ctxBuilder.build();
 
         // Then:
-        verify(contextFactory).build(isA(AccurateClock.class), any());
+        verify(contextFactory)
+                .build(isA(AccurateClock.class), eq(true), any(), any(), any(), any(), any());
     }
 
     @Test
@@ -255,7 +518,8 @@ class ContextBuilderTest {
         ctxBuilder.build();
 
         // Then:
-        verify(contextFactory).build(eq(specificClock), any());
+        verify(contextFactory)
+                .build(eq(specificClock), eq(false), any(), any(), any(), any(), any());
     }
 
     @SetEnvironmentVariable(
@@ -270,7 +534,8 @@ class ContextBuilderTest {
         ctxBuilder.build();
 
         // Then:
-        verify(contextFactory).build(isA(TestClock.class), any());
+        verify(contextFactory)
+                .build(isA(TestClock.class), eq(true), any(), any(), any(), any(), any());
     }
 
     @SuppressWarnings("unchecked")
@@ -284,10 +549,64 @@ class ContextBuilderTest {
         callbacks.validate((Class<ResourceA>) res0.getClass(), List.of(res0));
 
         // Then:
-        verify(model).resourceHandler(res0.getClass());
+        verify(model, never()).resourceHandler(any());
         verify(resourceHandler).validate(List.of(res0));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldValidateIdenticalResourcesOnce() {
+        // Given:
+        final ResourceA other = mock(ResourceA.class);
+        when(other.id()).thenReturn(RES0_ID);
+        ctxBuilder.build();
+        final ResourceInitializer.Callbacks callbacks = captureCallbacks();
+
+        // When:
+        callbacks.validate((Class<ResourceA>) res0.getClass(), List.of(res0, other, res0, res0));
+
+        // Then:
+        verify(resourceHandler).validate(List.of(res0, other));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldValidateDistinctInstancesEvenIfEqual() {
+        // Given:
+        final ResourceA first = new EqualResource(RES0_ID);
+        final ResourceA second = new EqualResource(RES0_ID);
+        ctxBuilder.build();
+        final ResourceInitializer.Callbacks callbacks = captureCallbacks();
+
+        // When:
+        callbacks.validate(ResourceA.class, List.of(first, second, first));
+
+        // Then:
+        final ArgumentCaptor<Collection<ResourceDescriptor>> captor =
+                ArgumentCaptor.forClass(Collection.class);
+        verify(resourceHandler).validate(captor.capture());
+        final List<ResourceDescriptor> validated = List.copyOf(captor.getValue());
+        assertThat(validated, hasSize(2));
+        assertThat(validated.get(0), is(sameInstance(first)));
+        assertThat(validated.get(1), is(sameInstance(second)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldEnsureResourcesWithSameIdOnce() {
+        // Given:
+        final ResourceA other = mock(ResourceA.class);
+        when(other.id()).thenReturn(RES0_ID);
+        ctxBuilder.build();
+        final ResourceInitializer.Callbacks callbacks = captureCallbacks();
+
+        // When:
+        callbacks.ensure((Class<ResourceA>) res0.getClass(), List.of(res0, other, res0));
+
+        // Then:
+        verify(resourceHandler).ensure(List.of(res0));
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     void shouldEnsureResourcesOnCallback() {
@@ -299,10 +618,118 @@ class ContextBuilderTest {
         callbacks.ensure((Class<ResourceA>) res0.getClass(), List.of(res0));
 
         // Then:
-        verify(model).resourceHandler(res0.getClass());
+        verify(model, never()).resourceHandler(any());
         verify(resourceHandler).ensure(List.of(res0));
     }
 
+    @Test
+    void shouldPassStartupReportToContext() {
+        // Given:
+        when(api.extensions().initializationTimes())
+                .thenReturn(
+                        Map.<Class<? extends CreekExtensionProvider<?>>, Duration>of(
+                                TestProvider.class, Duration.ofMillis(5)));
+
+        // When:
+        ctxBuilder.build();
+
+        // Then:
+        verify(contextFactory)
+                .build(
+                        any(),
+                        anyBoolean(),
+                        any(),
+                        startupReportCaptor.capture(),
+                        any(),
+                        any(),
+                        any());
+        final StartupReport report = startupReportCaptor.getValue();
+        assertThat(
+                report.timings().stream()
+                        .map(t -> t.phase() + t.subject().map(s -> ":" + s).orElse(""))
+                        .collect(Collectors.toList()),
+                contains(
+                        "UNCAUGHT_HANDLER_INSTALL",
+                        "EXTENSION_INIT:" + TestProvider.class.getName(),
+                        "UNSUPPORTED_TYPE_CHECK",
+                        "OPTION_CHECK",
+                        "PREPARE:" + resourceHandler.getClass().getName()));
+        assertThat(report.timings().get(1).duration(), is(Duration.ofMillis(5)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldTimeResourceCallbacksByResourceType() {
+        // Given:
+        final AtomicReference<ResourceInitializer.Callbacks> callbacks = new AtomicReference<>();
+        when(resourceInitializerFactory.build(any()))
+                .thenAnswer(
+                        inv -> {
+                            callbacks.set(inv.getArgument(0));
+                            return resourceInitializer;
+                        });
+        doAnswer(
+                        inv -> {
+                            callbacks
+                                    .get()
+                                    .validate((Class<ResourceA>) res0.getClass(), List.of(res0));
+                            callbacks
+                                    .get()
+                                    .ensure((Class<ResourceA>) res0.getClass(), List.of(res0));
+                            return null;
+                        })
+                .when(resourceInitializer)
+                .service(any());
+
+        // When:
+        ctxBuilder.build();
+
+        // Then:
+        verify(contextFactory)
+                .build(
+                        any(),
+                        anyBoolean(),
+                        any(),
+                        startupReportCaptor.capture(),
+                        any(),
+                        any(),
+                        any());
+        assertThat(
+                startupReportCaptor.getValue().timings().stream()
+                        .filter(t -> t.phase() != StartupReport.Phase.PREPARE)
+                        .filter(t -> t.subject().isPresent())
+                        .map(t -> t.phase() + ":" + t.subject().orElseThrow())
+                        .collect(Collectors.toList()),
+                contains(
+                        "VALIDATE:" + res0.getClass().getName(),
+                        "ENSURE:" + res0.getClass().getName()));
+    }
+
+    @Test
+    void shouldWalkComponentResourcesOnce() {
+        // When:
+        ctxBuilder.build();
+
+        // Then:
+        verify(component, times(1)).resources();
+        verify(res0, times(1)).resources();
+    }
+
+    @Test
+    void shouldResolveEachResourceHandlerOnce() {
+        // Given:
+        final ResourceA res2 = mock(ResourceA.class);
+        when(res2.id()).thenReturn(URI.create("res://2"));
+        when(component.resources()).thenAnswer(inv -> Stream.of(res0, res2));
+
+        // When:
+        ctxBuilder.build();
+
+        // Then:
+        verify(model, times(1)).resourceHandler(res0.getClass());
+        verify(model, times(1)).resourceHandler(res1.getClass());
+    }
+
     @Test
     void shouldInitializeServiceResources() {
         // When:
@@ -312,6 +739,30 @@ class ContextBuilderTest {
         verify(resourceInitializer).service(List.of(component));
     }
 
+    @Test
+    void shouldInitializeResourcesOfAllHostedComponentsTogether() {
+        // Given:
+        when(other.name()).thenReturn("other");
+        when(other.resources()).thenAnswer(inv -> Stream.of(res0));
+        ctxBuilder = newContextBuilder(List.of(component, other));
+
+        // When:
+        ctxBuilder.build();
+
+        // Then:
+        verify(resourceInitializer).service(List.of(component, other));
+    }
+
+    @Test
+    void shouldThrowIfNoComponents() {
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> newContextBuilder(List.of()));
+
+        // Then:
+        assertThat(e.getMessage(), is("At least one component is required"));
+    }
+
     @Test
     void shouldThrowIfResourceInitializationFails() {
         // Given:
@@ -364,6 +815,222 @@ class ContextBuilderTest {
         verify(resourceHandler).prepare(List.of(res0, res2));
     }
 
+    @Test
+    void shouldThrowOnInvalidResourceParallelism() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> ctxBuilder.withResourceParallelism(0));
+
+        // Then:
+        assertThat(e.getMessage(), is("parallelism must be positive: 0"));
+    }
+
+    @Test
+    void shouldBuildContextWithDefaultCloseTimeout() {
+        // When:
+        ctxBuilder.build();
+
+        // Then:
+        verify(contextFactory)
+                .build(
+                        any(),
+                        anyBoolean(),
+                        any(),
+                        any(),
+                        eq(Extensions.DEFAULT_CLOSE_TIMEOUT),
+                        any(),
+                        any());
+    }
+
+    @Test
+    void shouldBuildContextWithCustomCloseTimeout() {
+        // Given:
+        ctxBuilder.withCloseTimeout(Duration.ofSeconds(5));
+
+        // When:
+        ctxBuilder.build();
+
+        // Then:
+        verify(contextFactory)
+                .build(any(), anyBoolean(), any(), any(), eq(Duration.ofSeconds(5)), any(), any());
+    }
+
+    @Test
+    void shouldThrowOnNegativeCloseTimeout() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> ctxBuilder.withCloseTimeout(Duration.ofSeconds(-1)));
+
+        // Then:
+        assertThat(e.getMessage(), is("timeout can not be negative: PT-1S"));
+    }
+
+    @Test
+    void shouldBuildContextWithDefaultSchedulerTick() {
+        // When:
+        ctxBuilder.build();
+
+        // Then:
+        verify(contextFactory)
+                .build(
+                        any(),
+                        anyBoolean(),
+                        any(),
+                        any(),
+                        any(),
+                        eq(TimerWheel.DEFAULT_TICK),
+                        any());
+    }
+
+    @Test
+    void shouldBuildContextWithCustomSchedulerTick() {
+        // Given:
+        ctxBuilder.withSchedulerTick(Duration.ofMillis(1));
+
+        // When:
+        ctxBuilder.build();
+
+        // Then:
+        verify(contextFactory)
+                .build(any(), anyBoolean(), any(), any(), any(), eq(Duration.ofMillis(1)), any());
+    }
+
+    @Test
+    void shouldThrowOnNonPositiveSchedulerTick() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> ctxBuilder.withSchedulerTick(Duration.ZERO));
+
+        // Then:
+        assertThat(e.getMessage(), is("tick must be positive: PT0S"));
+    }
+
+    @Test
+    void shouldThrowOnNonPositiveEnsureStateTtl() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> ctxBuilder.withEnsureStateCache(tempDir, Duration.ZERO));
+
+        // Then:
+        assertThat(e.getMessage(), is("ttl must be positive: PT0S"));
+    }
+
+    @Test
+    void shouldSkipEnsuringResourcesEnsuredOnPreviousStart() {
+        // Given:
+        givenServiceEnsuresRes0();
+        newContextBuilder().withEnsureStateCache(tempDir, Duration.ofHours(1)).build();
+
+        // When:
+        newContextBuilder().withEnsureStateCache(tempDir, Duration.ofHours(1)).build();
+
+        // Then:
+        verify(resourceHandler, times(1)).ensure(List.of(res0));
+    }
+
+    @Test
+    void shouldEnsureResourcesEnsuredOnPreviousStartIfForced() {
+        // Given:
+        givenServiceEnsuresRes0();
+        newContextBuilder().withEnsureStateCache(tempDir, Duration.ofHours(1)).build();
+
+        // When:
+        newContextBuilder()
+                .withEnsureStateCache(tempDir, Duration.ofHours(1))
+                .withForcedEnsure(true)
+                .build();
+
+        // Then:
+        verify(resourceHandler, times(2)).ensure(List.of(res0));
+    }
+
+    @Test
+    void shouldNotRecordFailedEnsure() {
+        // Given:
+        givenServiceEnsuresRes0();
+        doThrow(new RuntimeException("boom")).doNothing().when(resourceHandler).ensure(any());
+        final ContextBuilder first =
+                newContextBuilder().withEnsureStateCache(tempDir, Duration.ofHours(1));
+        assertThrows(RuntimeException.class, first::build);
+
+        // When:
+        newContextBuilder().withEnsureStateCache(tempDir, Duration.ofHours(1)).build();
+
+        // Then:
+        verify(resourceHandler, times(2)).ensure(List.of(res0));
+    }
+
+    @Test
+    void shouldPrepareResourcesInConcurrentMode() {
+        // Given:
+        when(resourceHandler.isThreadSafe()).thenReturn(true);
+        ctxBuilder.withResourceParallelism(4);
+
+        // When:
+        ctxBuilder.build();
+
+        // Then:
+        final InOrder inOrder = Mockito.inOrder(resourceHandler);
+        inOrder.verify(resourceHandler).prepare(List.of(res1));
+        inOrder.verify(resourceHandler).prepare(List.of(res0));
+    }
+
+    @Test
+    void shouldThrowIfResourcePreparationFailsInConcurrentMode() {
+        // Given:
+        when(resourceHandler.isThreadSafe()).thenReturn(true);
+        ctxBuilder.withResourceParallelism(4);
+        final RuntimeException expected = new RuntimeException("boom");
+        doThrow(expected).when(resourceHandler).prepare(any());
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, ctxBuilder::build);
+
+        // Then:
+        assertThat(e, is(expected));
+    }
+
+    @Test
+    void shouldPrepareAllResourceTypesBeforeWaitingForAsyncPreparation() {
+        // Given:
+        final CompletableFuture<Void> res1Prepared = new CompletableFuture<>();
+        when(resourceHandler.prepareAsync(List.of(res1))).thenReturn(res1Prepared);
+        when(resourceHandler.prepareAsync(List.of(res0)))
+                .thenAnswer(
+                        inv -> {
+                            res1Prepared.complete(null);
+                            return CompletableFuture.completedFuture(null);
+                        });
+
+        // When:
+        ctxBuilder.build();
+
+        // Then: did not block waiting for res1 preparation before preparing res0:
+        verify(resourceHandler).prepareAsync(List.of(res0));
+    }
+
+    @Test
+    void shouldThrowIfAsyncResourcePreparationFails() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("boom");
+        when(resourceHandler.prepareAsync(any()))
+                .thenReturn(CompletableFuture.failedFuture(expected));
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, ctxBuilder::build);
+
+        // Then:
+        assertThat(e, is(expected));
+    }
+
     @Test
     void shouldThrowIfResourcePreparationFails() {
         // Given:
@@ -386,17 +1053,56 @@ class ContextBuilderTest {
         return callbacks;
     }
 
+    @SuppressWarnings("unchecked")
+    private void givenServiceEnsuresRes0() {
+        final AtomicReference<ResourceInitializer.Callbacks> callbacks = new AtomicReference<>();
+        when(resourceInitializerFactory.build(any()))
+                .thenAnswer(
+                        inv -> {
+                            callbacks.set(inv.getArgument(0));
+                            return resourceInitializer;
+                        });
+        doAnswer(
+                        inv -> {
+                            callbacks
+                                    .get()
+                                    .ensure((Class<ResourceA>) res0.getClass(), List.of(res0));
+                            return null;
+                        })
+                .when(resourceInitializer)
+                .service(any());
+    }
+
     private ContextBuilder newContextBuilder() {
+        return newContextBuilder(List.of(component));
+    }
+
+    private ContextBuilder newContextBuilder(final List<ComponentDescriptor> components) {
         return new ContextBuilder(
-                component,
+                components,
                 api,
                 List.of(extProvider0, extProvider1),
                 resourceInitializerFactory,
                 contextFactory,
                 exceptionHandlerInstaller,
-                systemExit);
+                systemExit,
+                providerFactory);
     }
 
+    @SuppressWarnings("unchecked")
+    private <T extends CreekExtension> CreekExtensionProvider<T> newProvider(
+            final Class<T> extensionType, final String name) {
+        final CreekExtensionProvider<T> provider = mock(CreekExtensionProvider.class);
+        final T ext = mock(extensionType);
+        when(ext.name()).thenReturn(name);
+        when(provider.initialize(any())).thenReturn(ext);
+        createdProviders.add(provider);
+        createdExtensions.add(ext);
+        return provider;
+    }
+
+    private abstract static class TestProvider implements CreekExtensionProvider<TestExtensionA> {}
+
     private interface TestExtensionA extends CreekExtension {}
 
     private interface TestExtensionB extends CreekExtension {}
@@ -404,4 +1110,27 @@ class ContextBuilderTest {
     private interface ResourceA extends ResourceDescriptor, OwnedResource {}
 
     private interface ResourceB extends ResourceDescriptor {}
+
+    private static final class EqualResource implements ResourceA {
+        private final URI id;
+
+        EqualResource(final URI id) {
+            this.id = id;
+        }
+
+        @Override
+        public URI id() {
+            return id;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof EqualResource && ((EqualResource) o).id.equals(id);
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode();
+        }
+    }
 }
@@ -17,17 +17,46 @@
 package org.creekservice.internal.service.context;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.creekservice.api.base.type.temporal.Clock;
+import org.creekservice.api.service.context.StartupReport;
+import org.creekservice.api.service.context.TaskScope;
+import org.creekservice.api.service.context.temporal.CachedClock;
 import org.creekservice.api.service.extension.CreekExtension;
+import org.creekservice.api.service.extension.health.Health;
+import org.creekservice.api.service.extension.health.HealthListener;
+import org.creekservice.api.service.extension.metric.MetricRegistry;
+import org.creekservice.internal.service.api.extension.ExtensionCloseException;
+import org.creekservice.internal.service.api.extension.ExtensionCloseResult;
 import org.creekservice.internal.service.api.extension.Extensions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -37,14 +66,42 @@ import org.mockito.quality.Strictness;
 @MockitoSettings(strictness = Strictness.LENIENT)
 class ContextTest {
 
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(7);
+
     @Mock private Clock clock;
     @Mock private TestExtension ext;
     @Mock private Extensions extensions;
+    @Mock private StartupReport startupReport;
+    @Mock private ExtensionCloseResult closed;
+    @Mock private ExtensionCloseResult failed;
+    @Mock private ManagedExecutor executor;
+    @Mock private TaskScope scope;
+    @Mock private TimerWheel scheduler;
+    @Mock private MetricRegistry metrics;
+    private final AtomicLong nanoTime = new AtomicLong();
     private Context ctx;
 
     @BeforeEach
     void setUp() {
-        ctx = new Context(clock, extensions);
+        ctx =
+                new Context(
+                        clock,
+                        false,
+                        extensions,
+                        startupReport,
+                        CLOSE_TIMEOUT,
+                        metrics,
+                        executor,
+                        scheduler,
+                        nanoTime::get);
+
+        when(executor.shutdown(any())).thenReturn(true);
+        when(executor.newTaskScope()).thenReturn(scope);
+
+        when(closed.successful()).thenReturn(true);
+        when(closed.extension()).thenReturn("closed");
+        when(failed.extension()).thenReturn("failed");
+        when(failed.failure()).thenReturn(Optional.of(new RuntimeException("boom")));
     }
 
     @Test
@@ -52,6 +109,199 @@ class ContextTest {
         assertThat(ctx.clock(), is(sameInstance(clock)));
     }
 
+    @Test
+    void shouldExposeStartupReport() {
+        assertThat(ctx.startupReport(), is(sameInstance(startupReport)));
+    }
+
+    @Test
+    void shouldExposeExecutor() {
+        assertThat(ctx.executor(), is(sameInstance(executor)));
+    }
+
+    @Test
+    void shouldCreateTaskScopes() {
+        assertThat(ctx.newTaskScope(), is(sameInstance(scope)));
+    }
+
+    @Test
+    void shouldExposeScheduler() {
+        assertThat(ctx.scheduler(), is(sameInstance(scheduler)));
+    }
+
+    @Test
+    void shouldExposeMetrics() {
+        assertThat(ctx.metrics(), is(sameInstance(metrics)));
+    }
+
+    @Test
+    void shouldReportHealthOfExtensions() {
+        // Given:
+        doAnswer(
+                        inv -> {
+                            inv.<Consumer<CreekExtension>>getArgument(0).accept(ext);
+                            return null;
+                        })
+                .when(extensions)
+                .onRegistration(any());
+        final ArgumentCaptor<HealthListener> listener =
+                ArgumentCaptor.forClass(HealthListener.class);
+
+        ctx =
+                new Context(
+                        clock,
+                        false,
+                        extensions,
+                        startupReport,
+                        CLOSE_TIMEOUT,
+                        metrics,
+                        executor,
+                        scheduler,
+                        nanoTime::get);
+        verify(ext).registerHealthListener(listener.capture());
+
+        // When:
+        listener.getValue().update(Health.degraded("reconnecting"));
+
+        // Then:
+        assertThat(ctx.health().ready(), is(false));
+        assertThat(
+                ctx.health().extensions().get(ext.getClass().getName()),
+                is(Health.degraded("reconnecting")));
+    }
+
+    @Test
+    void shouldNotBeReadyOnceClosed() {
+        // Given:
+        when(extensions.close(any())).thenReturn(List.of(closed));
+        assertThat(ctx.health().ready(), is(true));
+
+        // When:
+        ctx.close();
+
+        // Then:
+        assertThat(ctx.health().ready(), is(false));
+    }
+
+    @Test
+    void shouldCloseSchedulerThenCancelScopesThenCloseExtensionsThenShutdownExecutor() {
+        // Given:
+        when(extensions.close(any())).thenReturn(List.of(closed));
+
+        // When:
+        ctx.close();
+
+        // Then:
+        final InOrder inOrder = inOrder(scheduler, executor, extensions);
+        inOrder.verify(scheduler).close();
+        inOrder.verify(executor).cancelScopes();
+        inOrder.verify(extensions).close(CLOSE_TIMEOUT);
+        inOrder.verify(executor).shutdown(CLOSE_TIMEOUT);
+    }
+
+    @Test
+    void shouldCloseOwnedClockLast() {
+        // Given:
+        final CachedClock owned = mock(CachedClock.class);
+        when(extensions.close(any())).thenReturn(List.of(closed));
+        ctx = newContext(owned, true);
+
+        // When:
+        ctx.close();
+
+        // Then:
+        final InOrder inOrder = inOrder(scheduler, extensions, executor, owned);
+        inOrder.verify(scheduler).close();
+        inOrder.verify(extensions).close(any());
+        inOrder.verify(executor).shutdown(any());
+        inOrder.verify(owned).close();
+    }
+
+    @Test
+    void shouldCloseOwnedClockEvenIfExtensionsFailToClose() {
+        // Given:
+        final CachedClock owned = mock(CachedClock.class);
+        when(extensions.close(any())).thenReturn(List.of(failed));
+        ctx = newContext(owned, true);
+
+        // When:
+        assertThrows(ExtensionCloseException.class, ctx::close);
+
+        // Then:
+        verify(owned).close();
+    }
+
+    @Test
+    void shouldKeepOwnedClockTickingWhileExtensionsClose() {
+        // Given:
+        final AtomicBoolean ticked = new AtomicBoolean();
+        when(extensions.close(any()))
+                .thenAnswer(
+                        inv -> {
+                            final Instant start = ctx.clock().get();
+                            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                            while (ctx.clock().get().equals(start)
+                                    && System.nanoTime() < deadline) {
+                                Thread.onSpinWait();
+                            }
+                            ticked.set(!ctx.clock().get().equals(start));
+                            return List.of(closed);
+                        });
+        ctx = newContext(CachedClock.create(Duration.ofMillis(1)), true);
+
+        // When:
+        ctx.close();
+
+        // Then:
+        assertThat(ticked.get(), is(true));
+    }
+
+    @Test
+    void shouldNotCloseClockItDoesNotOwn() {
+        // Given:
+        final CachedClock notOwned = mock(CachedClock.class);
+        when(extensions.close(any())).thenReturn(List.of(closed));
+        ctx = newContext(notOwned, false);
+
+        // When:
+        ctx.close();
+
+        // Then:
+        verify(notOwned, never()).close();
+    }
+
+    @Test
+    void shouldStopOwnedClockTickerThreadOnClose() throws Exception {
+        // Given:
+        when(extensions.close(any())).thenReturn(List.of(closed));
+        final Set<Thread> existing = clockThreads();
+        ctx = newContext(CachedClock.create(Duration.ofMillis(1)), true);
+        final Set<Thread> started = clockThreads();
+        started.removeAll(existing);
+        assertThat(started, is(not(empty())));
+
+        // When:
+        ctx.close();
+
+        // Then:
+        for (final Thread thread : started) {
+            thread.join(Duration.ofSeconds(5).toMillis());
+            assertThat(thread.isAlive(), is(false));
+        }
+    }
+
+    @Test
+    void shouldShutdownExecutorEvenIfExtensionsFailToClose() {
+        // Given:
+        when(extensions.close(any())).thenReturn(List.of(failed));
+
+        // When:
+        assertThrows(ExtensionCloseException.class, ctx::close);
+
+        // Then:
+        verify(executor).shutdown(CLOSE_TIMEOUT);
+    }
+
     @Test
     void shouldGetExtensionByType() {
         // Given:
@@ -66,11 +316,125 @@ class ContextTest {
 
     @Test
     void shouldCloseExtensionsOnClose() {
+        // Given:
+        when(extensions.close(any())).thenReturn(List.of(closed));
+
+        // When:
+        ctx.close();
+
+        // Then:
+        verify(extensions).close(CLOSE_TIMEOUT);
+    }
+
+    @Test
+    void shouldDrainExtensionsBeforeClosing() {
+        // Given:
+        when(extensions.close(any())).thenReturn(List.of(closed));
+
+        // When:
+        ctx.close();
+
+        // Then:
+        final InOrder inOrder = inOrder(extensions);
+        inOrder.verify(extensions).drain(CLOSE_TIMEOUT);
+        inOrder.verify(extensions).close(any());
+    }
+
+    @Test
+    void shouldCloseEvenIfExtensionFailsToDrain() {
+        // Given:
+        when(extensions.drain(any())).thenReturn(List.of(failed));
+        when(extensions.close(any())).thenReturn(List.of(closed));
+
         // When:
         ctx.close();
 
         // Then:
-        verify(extensions).close();
+        verify(extensions).close(CLOSE_TIMEOUT);
+    }
+
+    @Test
+    void shouldGiveEachClosePhaseOnlyTheTimeRemaining() {
+        // Given:
+        when(extensions.drain(any()))
+                .thenAnswer(
+                        inv -> {
+                            nanoTime.addAndGet(Duration.ofSeconds(3).toNanos());
+                            return List.of(closed);
+                        });
+        when(extensions.close(any()))
+                .thenAnswer(
+                        inv -> {
+                            nanoTime.addAndGet(Duration.ofSeconds(2).toNanos());
+                            return List.of(closed);
+                        });
+
+        // When:
+        ctx.close();
+
+        // Then:
+        verify(extensions).close(Duration.ofSeconds(4));
+        verify(executor).shutdown(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void shouldIgnoreSubsequentCloses() {
+        // Given:
+        when(extensions.close(any())).thenReturn(List.of(closed));
+        ctx.close();
+
+        // When:
+        ctx.close();
+
+        // Then:
+        verify(extensions, times(1)).close(any());
+        verify(scheduler, times(1)).close();
+    }
+
+    @Test
+    void shouldThrowOnCloseIfAnyExtensionFailedToClose() {
+        // Given:
+        when(extensions.close(any())).thenReturn(List.of(failed, closed));
+
+        // When:
+        final Exception e = assertThrows(ExtensionCloseException.class, ctx::close);
+
+        // Then:
+        assertThat(e.getMessage(), is("Failed to close extensions: [failed]"));
+        assertThat(e.getCause().getMessage(), is("boom"));
+    }
+
+    @Test
+    void shouldThrowOnCloseIfAnyExtensionTimedOut() {
+        // Given:
+        when(failed.failure()).thenReturn(Optional.empty());
+        when(failed.timedOut()).thenReturn(true);
+        when(extensions.close(any())).thenReturn(List.of(closed, failed));
+
+        // When:
+        final Exception e = assertThrows(ExtensionCloseException.class, ctx::close);
+
+        // Then:
+        assertThat(e.getMessage(), is("Failed to close extensions: [failed (timed out)]"));
+    }
+
+    private Context newContext(final Clock clock, final boolean ownsClock) {
+        return new Context(
+                clock,
+                ownsClock,
+                extensions,
+                startupReport,
+                CLOSE_TIMEOUT,
+                metrics,
+                executor,
+                scheduler,
+                nanoTime::get);
+    }
+
+    private static Set<Thread> clockThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("creek-cached-clock"))
+                .collect(Collectors.toSet());
     }
 
     private interface TestExtension extends CreekExtension {}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.creekservice.api.platform.metadata.CreatableResource;
+import org.creekservice.api.service.extension.component.model.ResourceHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EnsureStateCacheTest {
+
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir private Path dir;
+    private final AtomicReference<Instant> now = new AtomicReference<>(START);
+    private final ResourceHandler<TestResource> handler = new TestHandler();
+    private final TestResource res0 = new TestResource("res://0", "v1");
+    private final TestResource res1 = new TestResource("res://1", "v1");
+
+    @BeforeEach
+    void setUp() {
+        final EnsureStateCache cache = open(false);
+        cache.record(handler, List.of(res0));
+        cache.save();
+    }
+
+    @Test
+    void shouldTreatAllResourcesAsStaleIfDisabled() {
+        // Given:
+        final EnsureStateCache cache = EnsureStateCache.disabled();
+        cache.record(handler, List.of(res0));
+
+        // Then:
+        assertThat(cache.stale(handler, List.of(res0, res1)), contains(res0, res1));
+    }
+
+    @Test
+    void shouldSkipUnchangedResources() {
+        assertThat(open(false).stale(handler, List.of(res0, res1)), contains(res1));
+    }
+
+    @Test
+    void shouldNotSkipChangedResources() {
+        // Given:
+        final TestResource changed = new TestResource("res://0", "v2");
+
+        // Then:
+        assertThat(open(false).stale(handler, List.of(changed)), contains(changed));
+    }
+
+    @Test
+    void shouldNotSkipResourcesEnsuredByDifferentHandlerType() {
+        // Given:
+        final ResourceHandler<TestResource> other = new OtherHandler();
+
+        // Then:
+        assertThat(open(false).stale(other, List.of(res0)), contains(res0));
+    }
+
+    @Test
+    void shouldNotSkipExpiredResources() {
+        // Given:
+        now.set(START.plus(TTL));
+
+        // Then:
+        assertThat(open(false).stale(handler, List.of(res0)), contains(res0));
+    }
+
+    @Test
+    void shouldNotSkipAnyResourcesIfForced() {
+        assertThat(open(true).stale(handler, List.of(res0)), contains(res0));
+    }
+
+    @Test
+    void shouldRefreshEntriesIfForced() {
+        // Given:
+        now.set(START.plus(TTL.dividedBy(2)));
+        final EnsureStateCache forced = open(true);
+        forced.record(handler, List.of(res0));
+        forced.save();
+
+        // When:
+        now.set(START.plus(TTL));
+
+        // Then:
+        assertThat(open(false).stale(handler, List.of(res0)), is(empty()));
+    }
+
+    @Test
+    void shouldDropExpiredEntriesOnSave() {
+        // Given:
+        now.set(START.plus(TTL));
+        final EnsureStateCache cache = open(false);
+        cache.record(handler, List.of(res1));
+
+        // When:
+        cache.save();
+
+        // Then:
+        now.set(START);
+        assertThat(open(false).stale(handler, List.of(res0)), contains(res0));
+    }
+
+    @Test
+    void shouldIgnoreCorruptState() throws IOException {
+        // Given:
+        try (var files = Files.list(dir)) {
+            for (final Path file : (Iterable<Path>) files::iterator) {
+                Files.writeString(file, "corrupt=entry");
+            }
+        }
+
+        // Then:
+        assertThat(open(false).stale(handler, List.of(res0)), contains(res0));
+    }
+
+    @Test
+    void shouldNotFailIfStateCanNotBeSaved() throws IOException {
+        // Given:
+        final Path notADir = Files.writeString(dir.resolve("file"), "");
+        final EnsureStateCache cache =
+                EnsureStateCache.open(notADir, "svc", TTL, false, now::get);
+        cache.record(handler, List.of(res0));
+
+        // When:
+        cache.save();
+
+        // Then: did not throw.
+    }
+
+    @Test
+    void shouldSanitizeStoreName() throws IOException {
+        // When:
+        final EnsureStateCache cache =
+                EnsureStateCache.open(dir, "a/../b, c", TTL, false, now::get);
+        cache.record(handler, List.of(res0));
+        cache.save();
+
+        // Then:
+        assertThat(Files.exists(dir.resolve("a_.._b__c.ensure-state.properties")), is(true));
+    }
+
+    @Test
+    void shouldFingerprintOnTypeAndToString() {
+        assertThat(
+                EnsureStateCache.fingerprint(res0),
+                is(EnsureStateCache.fingerprint(new TestResource("res://0", "v1"))));
+        assertThat(
+                EnsureStateCache.fingerprint(res0),
+                is(not(EnsureStateCache.fingerprint(new TestResource("res://0", "v2")))));
+    }
+
+    private EnsureStateCache open(final boolean force) {
+        return EnsureStateCache.open(dir, "svc", TTL, force, now::get);
+    }
+
+    private static final class TestResource implements CreatableResource {
+
+        private final URI id;
+        private final String version;
+
+        TestResource(final String id, final String version) {
+            this.id = URI.create(id);
+            this.version = version;
+        }
+
+        @Override
+        public URI id() {
+            return id;
+        }
+
+        @Override
+        public String toString() {
+            return "TestResource{id=" + id + ", version=" + version + '}';
+        }
+    }
+
+    private static class TestHandler implements ResourceHandler<TestResource> {
+        @Override
+        public void validate(final Collection<? extends TestResource> resourceGroup) {}
+
+        @Override
+        public void prepare(final Collection<? extends TestResource> resources) {}
+    }
+
+    private static final class OtherHandler extends TestHandler {}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.function.Consumer;
+import org.creekservice.api.service.context.HealthReport;
+import org.creekservice.api.service.extension.CreekExtension;
+import org.creekservice.api.service.extension.health.Health;
+import org.creekservice.api.service.extension.health.HealthListener;
+import org.creekservice.api.service.extension.health.HealthStatus;
+import org.creekservice.internal.service.api.extension.Extensions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HealthMonitorTest {
+
+    @Mock private Extensions extensions;
+    @Mock private Ext0 ext0;
+    @Mock private Ext1 ext1;
+    @Captor private ArgumentCaptor<Consumer<? super CreekExtension>> registrations;
+    @Captor private ArgumentCaptor<HealthListener> listener0;
+    @Captor private ArgumentCaptor<HealthListener> listener1;
+    private HealthMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        when(ext0.name()).thenReturn("ext0");
+        when(ext1.name()).thenReturn("ext1");
+
+        monitor = new HealthMonitor(extensions);
+
+        verify(extensions).onRegistration(registrations.capture());
+        registrations.getValue().accept(ext0);
+        registrations.getValue().accept(ext1);
+
+        verify(ext0).registerHealthListener(listener0.capture());
+        verify(ext1).registerHealthListener(listener1.capture());
+    }
+
+    @Test
+    void shouldStartUp() {
+        // When:
+        final HealthReport report = monitor.report();
+
+        // Then:
+        assertThat(report.status(), is(HealthStatus.UP));
+        assertThat(report.live(), is(true));
+        assertThat(report.ready(), is(true));
+        assertThat(report.context(), is(Health.up()));
+        assertThat(
+                report.extensions(), is(Map.of(type(ext0), Health.up(), type(ext1), Health.up())));
+    }
+
+    @Test
+    void shouldNotBeReadyIfAnyExtensionDegraded() {
+        // When:
+        listener1.getValue().update(Health.degraded("reconnecting"));
+
+        // Then:
+        final HealthReport report = monitor.report();
+        assertThat(report.status(), is(HealthStatus.DEGRADED));
+        assertThat(report.live(), is(true));
+        assertThat(report.ready(), is(false));
+        assertThat(report.extensions().get(type(ext1)), is(Health.degraded("reconnecting")));
+    }
+
+    @Test
+    void shouldNotBeLiveIfAnyExtensionDown() {
+        // When:
+        listener0.getValue().update(Health.down("fatal"));
+        listener1.getValue().update(Health.degraded("reconnecting"));
+
+        // Then:
+        final HealthReport report = monitor.report();
+        assertThat(report.status(), is(HealthStatus.DOWN));
+        assertThat(report.live(), is(false));
+        assertThat(report.ready(), is(false));
+    }
+
+    @Test
+    void shouldRecoverWhenExtensionReportsUp() {
+        // Given:
+        listener0.getValue().update(Health.degraded("reconnecting"));
+
+        // When:
+        listener0.getValue().update(Health.up());
+
+        // Then:
+        assertThat(monitor.report().ready(), is(true));
+    }
+
+    @Test
+    void shouldNotRepublishIfHealthUnchanged() {
+        // Given:
+        final HealthReport before = monitor.report();
+
+        // When:
+        listener0.getValue().update(Health.up());
+
+        // Then:
+        assertThat(monitor.report(), is(sameInstance(before)));
+    }
+
+    @Test
+    void shouldNotBeReadyOnceClosing() {
+        // When:
+        monitor.closing();
+
+        // Then:
+        final HealthReport report = monitor.report();
+        assertThat(report.context().status(), is(HealthStatus.DEGRADED));
+        assertThat(report.live(), is(true));
+        assertThat(report.ready(), is(false));
+    }
+
+    @Test
+    void shouldMonitorExtensionsInitializedLater() {
+        // Given:
+        final Ext2 lazy = mock(Ext2.class);
+        final ArgumentCaptor<HealthListener> listener =
+                ArgumentCaptor.forClass(HealthListener.class);
+
+        // When:
+        registrations.getValue().accept(lazy);
+
+        // Then:
+        verify(lazy).registerHealthListener(listener.capture());
+        listener.getValue().update(Health.degraded("reconnecting"));
+        assertThat(
+                monitor.report().extensions().get(type(lazy)),
+                is(Health.degraded("reconnecting")));
+        assertThat(monitor.report().ready(), is(false));
+    }
+
+    @Test
+    void shouldNotConflateExtensionsWithTheSameName() {
+        // Given:
+        when(ext1.name()).thenReturn("ext0");
+
+        // When:
+        listener0.getValue().update(Health.down("fatal"));
+
+        // Then:
+        assertThat(monitor.report().extensions().get(type(ext0)), is(Health.down("fatal")));
+        assertThat(monitor.report().extensions().get(type(ext1)), is(Health.up()));
+    }
+
+    @Test
+    void shouldAcceptUpdatesDuringRegistration() {
+        // Given:
+        final Ext2 eager = mock(Ext2.class);
+        doAnswer(
+                        inv -> {
+                            inv.<HealthListener>getArgument(0).update(Health.down("boom"));
+                            return null;
+                        })
+                .when(eager)
+                .registerHealthListener(any());
+
+        // When:
+        registrations.getValue().accept(eager);
+
+        // Then:
+        assertThat(monitor.report().live(), is(false));
+    }
+
+    private static String type(final CreekExtension ext) {
+        return ext.getClass().getName();
+    }
+
+    private interface Ext0 extends CreekExtension {}
+
+    private interface Ext1 extends CreekExtension {}
+
+    private interface Ext2 extends CreekExtension {}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.creekservice.api.base.type.temporal.Clock;
+import org.creekservice.api.service.context.CreekContext;
+import org.creekservice.api.service.context.HealthReport;
+import org.creekservice.api.service.context.Scheduler;
+import org.creekservice.api.service.context.StartupReport;
+import org.creekservice.api.service.context.TaskScope;
+import org.creekservice.api.service.extension.CreekExtension;
+import org.creekservice.api.service.extension.metric.MetricRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HostTest {
+
+    @Mock private CreekContext shared;
+    @Mock private Clock clock;
+    @Mock private StartupReport startupReport;
+    @Mock private CreekExtension ext;
+    @Mock private Executor executor;
+    @Mock private TaskScope scope;
+    @Mock private Scheduler scheduler;
+    @Mock private MetricRegistry metrics;
+    @Mock private HealthReport health;
+    private Host host;
+
+    @BeforeEach
+    void setUp() {
+        host = new Host(List.of("a", "b"), shared);
+    }
+
+    @Test
+    void shouldReturnContextPerService() {
+        assertThat(host.context("a"), is(sameInstance(host.context("a"))));
+        assertThat(host.context("a"), is(not(sameInstance(host.context("b")))));
+    }
+
+    @Test
+    void shouldThrowOnUnknownService() {
+        // When:
+        final Exception e = assertThrows(IllegalArgumentException.class, () -> host.context("c"));
+
+        // Then:
+        assertThat(e.getMessage(), is("Unknown service: c, hosted: [a, b]"));
+    }
+
+    @Test
+    void shouldDelegateToSharedContext() {
+        // Given:
+        when(shared.clock()).thenReturn(clock);
+        when(shared.startupReport()).thenReturn(startupReport);
+        when(shared.extension(CreekExtension.class)).thenReturn(ext);
+        when(shared.executor()).thenReturn(executor);
+        when(shared.newTaskScope()).thenReturn(scope);
+        when(shared.scheduler()).thenReturn(scheduler);
+        when(shared.metrics()).thenReturn(metrics);
+        when(shared.health()).thenReturn(health);
+
+        // When:
+        final CreekContext ctx = host.context("b");
+
+        // Then:
+        assertThat(ctx.clock(), is(clock));
+        assertThat(ctx.startupReport(), is(startupReport));
+        assertThat(ctx.extension(CreekExtension.class), is(ext));
+        assertThat(ctx.executor(), is(executor));
+        assertThat(ctx.newTaskScope(), is(scope));
+        assertThat(ctx.scheduler(), is(scheduler));
+        assertThat(ctx.metrics(), is(metrics));
+        assertThat(ctx.health(), is(health));
+        assertThat(host.startupReport(), is(startupReport));
+    }
+
+    @Test
+    void shouldNotCloseSharedContextWhileAnyServiceContextIsOpen() {
+        // When:
+        host.context("a").close();
+        host.context("a").close();
+
+        // Then:
+        verify(shared, never()).close();
+    }
+
+    @Test
+    void shouldCloseSharedContextWhenLastServiceContextCloses() {
+        // When:
+        host.context("a").close();
+        host.context("b").close();
+
+        // Then:
+        verify(shared).close();
+    }
+
+    @Test
+    void shouldCloseSharedContextOnceOnHostClose() {
+        // When:
+        host.close();
+        host.context("a").close();
+        host.context("b").close();
+        host.close();
+
+        // Then:
+        verify(shared, times(1)).close();
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.creekservice.api.service.context.TaskScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class ManagedExecutorTest {
+
+    private ManagedExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = ManagedExecutor.create();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldUseVirtualThreadsIfSupported() {
+        final boolean supported = Runtime.version().feature() >= 21;
+        assertThat(ManagedExecutor.virtualThreadExecutor().isPresent(), is(supported));
+        assertThat(executor.virtual(), is(supported));
+    }
+
+    @Test
+    void shouldExecuteTasks() throws Exception {
+        // Given:
+        final CountDownLatch ran = new CountDownLatch(1);
+
+        // When:
+        executor.execute(ran::countDown);
+
+        // Then:
+        assertThat(ran.await(5, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    void shouldJoinForkedTasks() throws Exception {
+        try (TaskScope scope = executor.newTaskScope()) {
+            // Given:
+            final Future<String> a = scope.fork(() -> "a");
+            final Future<Integer> b = scope.fork(() -> 1);
+
+            // When:
+            scope.join();
+
+            // Then:
+            assertThat(a.get(), is("a"));
+            assertThat(b.get(), is(1));
+        }
+    }
+
+    @Test
+    void shouldCancelOtherTasksAndThrowOnFirstFailure() throws Exception {
+        // Given:
+        final RuntimeException expected = new RuntimeException("boom");
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicBoolean interrupted = new AtomicBoolean();
+
+        try (TaskScope scope = executor.newTaskScope()) {
+            final Future<?> slow = scope.fork(() -> sleepUntilInterrupted(started, interrupted));
+            started.await();
+            scope.fork(
+                    () -> {
+                        throw expected;
+                    });
+
+            // When:
+            final Exception e = assertThrows(ExecutionException.class, scope::join);
+
+            // Then:
+            assertThat(e.getCause(), is(sameInstance(expected)));
+            assertThat(slow.isCancelled(), is(true));
+        }
+
+        assertThat(interrupted.get(), is(true));
+    }
+
+    @Test
+    void shouldStopTrackingTasksOnceComplete() throws Exception {
+        try (TaskScope scope = executor.newTaskScope()) {
+            // Given:
+            for (int i = 0; i < 100; i++) {
+                scope.fork(() -> "done");
+            }
+
+            // When:
+            scope.join();
+
+            // Then:
+            assertThat(executor.trackedTasks(), is(0));
+        }
+    }
+
+    @Test
+    void shouldCancelAndWaitForTasksOnClose() throws Exception {
+        // Given:
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final TaskScope scope = executor.newTaskScope();
+        final Future<?> slow = scope.fork(() -> sleepUntilInterrupted(started, interrupted));
+        started.await();
+
+        // When:
+        scope.close();
+
+        // Then:
+        assertThat(slow.isCancelled(), is(true));
+        assertThat(interrupted.get(), is(true));
+    }
+
+    @Test
+    void shouldThrowOnForkAfterClose() {
+        // Given:
+        final TaskScope scope = executor.newTaskScope();
+        scope.close();
+
+        // When:
+        final Exception e = assertThrows(IllegalStateException.class, () -> scope.fork(() -> 1));
+
+        // Then:
+        assertThat(e.getMessage(), is("Task scope is closed"));
+    }
+
+    @Test
+    void shouldThrowOnForkAfterScopesCancelled() {
+        // Given:
+        final TaskScope scope = executor.newTaskScope();
+        executor.cancelScopes();
+
+        // When:
+        final Exception e = assertThrows(IllegalStateException.class, () -> scope.fork(() -> 1));
+
+        // Then:
+        assertThat(e.getMessage(), is("Task scope is closed"));
+        assertThat(executor.trackedTasks(), is(0));
+    }
+
+    @Test
+    @Timeout(30)
+    void shouldNotWaitForRejectedTasks() throws Exception {
+        // Given:
+        final ExecutorService delegate = Executors.newSingleThreadExecutor();
+        delegate.shutdown();
+        final ManagedExecutor rejecting = new ManagedExecutor(delegate, false);
+        final TaskScope scope = rejecting.newTaskScope();
+
+        // When:
+        assertThrows(RejectedExecutionException.class, () -> scope.fork(() -> 1));
+
+        // Then: does not block:
+        scope.join();
+        scope.close();
+        assertThat(rejecting.trackedTasks(), is(0));
+    }
+
+    @Test
+    @Timeout(30)
+    void shouldCancelTasksThatNeverStartedOnShutdown() throws Exception {
+        // Given:
+        final ManagedExecutor single =
+                new ManagedExecutor(Executors.newSingleThreadExecutor(), false);
+        final CountDownLatch started = new CountDownLatch(1);
+        final TaskScope scope = single.newTaskScope();
+        scope.fork(() -> sleepUntilInterrupted(started, new AtomicBoolean()));
+        final Future<Integer> queued = scope.fork(() -> 1);
+        started.await();
+
+        // When:
+        single.shutdown(Duration.ofSeconds(5));
+
+        // Then: does not block:
+        scope.close();
+        assertThat(queued.isCancelled(), is(true));
+    }
+
+    @Test
+    void shouldCancelOpenScopesOnShutdown() throws Exception {
+        // Given:
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final TaskScope scope = executor.newTaskScope();
+        final Future<?> slow = scope.fork(() -> sleepUntilInterrupted(started, interrupted));
+        started.await();
+
+        // When:
+        final boolean terminated = executor.shutdown(Duration.ofSeconds(5));
+
+        // Then:
+        assertThat(terminated, is(true));
+        assertThat(slow.isCancelled(), is(true));
+        assertThat(interrupted.get(), is(true));
+    }
+
+    private static Void sleepUntilInterrupted(
+            final CountDownLatch started, final AtomicBoolean interrupted) {
+        started.countDown();
+        try {
+            Thread.sleep(Long.MAX_VALUE);
+        } catch (final InterruptedException e) {
+            interrupted.set(true);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.internal.service.context;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
+import org.creekservice.api.service.extension.component.model.ResourceHandler;
+import org.creekservice.internal.service.context.ResourcePhaseExecutor.Phase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceHandlerEventTest {
+
+    private static final String EVENT_NAME = "org.creekservice.ResourceHandlerCall";
+
+    @Mock private ResourceHandler<ResourceDescriptor> handler;
+    @TempDir private Path tempDir;
+
+    @Test
+    void shouldReturnResultOfCall() {
+        // Given:
+        final CompletableFuture<Void> expected = new CompletableFuture<>();
+
+        // When:
+        final CompletionStage<Void> result =
+                ResourceHandlerEvent.record(
+                        Phase.ENSURE, handler, TestResource.class, 1, () -> expected);
+
+        // Then:
+        assertThat(result, is(sameInstance(expected)));
+    }
+
+    @Test
+    void shouldRecordEvent() throws Exception {
+        // Given:
+        final Path file = tempDir.resolve("recording.jfr");
+
+        // When:
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME);
+            recording.start();
+            ResourceHandlerEvent.record(
+                    Phase.VALIDATE,
+                    handler,
+                    TestResource.class,
+                    3,
+                    () -> CompletableFuture.completedFuture(null));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then:
+        final List<RecordedEvent> events =
+                RecordingFile.readAllEvents(file).stream()
+                        .filter(e -> e.getEventType().getName().equals(EVENT_NAME))
+                        .collect(Collectors.toList());
+
+        assertThat(events, hasSize(1));
+        final RecordedEvent event = events.get(0);
+        assertThat(event.getString("phase"), is("VALIDATE"));
+        assertThat(event.getClass("handler").getName(), is(handler.getClass().getName()));
+        assertThat(event.getClass("resourceType").getName(), is(TestResource.class.getName()));
+        assertThat(event.getInt("groupSize"), is(3));
+    }
+
+    private interface TestResource extends ResourceDescriptor {}
+}
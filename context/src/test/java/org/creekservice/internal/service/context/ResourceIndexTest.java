@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.creekservice.api.platform.metadata.ComponentDescriptor;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
+import org.creekservice.api.service.extension.component.model.ComponentModelCollection;
+import org.creekservice.api.service.extension.component.model.ResourceHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ResourceIndexTest {
+
+    @Mock private ComponentDescriptor component;
+    @Mock private ComponentModelCollection model;
+    @Mock private ResourceHandler<ResourceDescriptor> handler;
+    @Mock private ResourceA res0;
+    @Mock private ResourceA res1;
+    @Mock private ResourceB res2;
+
+    @BeforeEach
+    void setUp() {
+        when(model.hasType(any())).thenReturn(true);
+        when(model.resourceHandler(any())).thenReturn(handler);
+
+        when(component.resources()).thenAnswer(inv -> Stream.of(res0, res1, res2));
+        when(res0.id()).thenReturn(URI.create("res://0"));
+        when(res1.id()).thenReturn(URI.create("res://1"));
+        when(res2.id()).thenReturn(URI.create("res://2"));
+    }
+
+    @Test
+    void shouldGroupUniqueResourcesByType() {
+        // Given:
+        when(res1.id()).thenReturn(URI.create("res://0"));
+
+        // When:
+        final ResourceIndex index = ResourceIndex.build(List.of(component), model);
+
+        // Then:
+        assertThat(
+                index.uniqueByType(),
+                is(Map.of(res0.getClass(), List.of(res0), res2.getClass(), List.of(res2))));
+    }
+
+    @Test
+    void shouldDeduplicateResourcesAcrossComponents() {
+        // Given:
+        final ComponentDescriptor other = mock(ComponentDescriptor.class);
+        final ResourceA shared = mock(ResourceA.class);
+        when(shared.id()).thenReturn(URI.create("res://0"));
+        when(other.resources()).thenAnswer(inv -> Stream.of(shared));
+
+        // When:
+        final ResourceIndex index = ResourceIndex.build(List.of(component, other), model);
+
+        // Then:
+        assertThat(
+                index.uniqueByType(),
+                is(
+                        Map.of(
+                                res0.getClass(),
+                                List.of(res0, res1),
+                                res2.getClass(),
+                                List.of(res2))));
+    }
+
+    @Test
+    void shouldTrackAllResourcesOfUnsupportedTypes() {
+        // Given:
+        when(model.hasType(res0.getClass())).thenReturn(false);
+
+        // When:
+        final ResourceIndex index = ResourceIndex.build(List.of(component), model);
+
+        // Then:
+        assertThat(index.unsupported(), is(List.of(res0, res1)));
+        verify(model, never()).resourceHandler(res0.getClass());
+    }
+
+    @Test
+    void shouldResolveHandlersUpFront() {
+        // Given:
+        final ResourceIndex index = ResourceIndex.build(List.of(component), model);
+
+        // When:
+        final ResourceHandler<?> result = index.handler(res2.getClass());
+
+        // Then:
+        assertThat(result, is(sameInstance(handler)));
+        verify(model).resourceHandler(res2.getClass());
+    }
+
+    @Test
+    void shouldFallBackToModelForTypesNotInComponent() {
+        // Given:
+        final ResourceIndex index = ResourceIndex.build(List.of(component), model);
+        final ResourceC other = mock(ResourceC.class);
+
+        // When:
+        index.handler(other.getClass());
+
+        // Then:
+        verify(model).resourceHandler(other.getClass());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldRebindHandlersWithoutRescanningResources() {
+        // Given:
+        final ResourceIndex index = ResourceIndex.build(List.of(component), model);
+        final ComponentModelCollection other = mock(ComponentModelCollection.class);
+        final ResourceHandler<ResourceDescriptor> otherHandler = mock(ResourceHandler.class);
+        when(other.resourceHandler(any())).thenReturn(otherHandler);
+        clearInvocations(component);
+
+        // When:
+        final ResourceIndex rebound = index.withModel(other);
+
+        // Then:
+        assertThat(rebound.uniqueByType(), is(index.uniqueByType()));
+        assertThat(rebound.handler(res0.getClass()), is(sameInstance(otherHandler)));
+        verify(component, never()).resources();
+    }
+
+    private interface ResourceA extends ResourceDescriptor {}
+
+    private interface ResourceB extends ResourceDescriptor {}
+
+    private interface ResourceC extends ResourceDescriptor {}
+}
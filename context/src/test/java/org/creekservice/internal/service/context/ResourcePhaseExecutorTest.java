@@ -0,0 +1,339 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
+import org.creekservice.api.service.extension.component.model.ResourceHandler;
+import org.creekservice.internal.service.context.ResourcePhaseExecutor.Phase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ResourcePhaseExecutorTest {
+
+    @Mock private ResourceHandler<ResourceDescriptor> handlerA;
+    @Mock private ResourceHandler<ResourceDescriptor> handlerB;
+    @Mock private ResourceHandler<ResourceDescriptor> unsafeHandler;
+    private ResourcePhaseExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        when(handlerA.isThreadSafe()).thenReturn(true);
+        when(handlerB.isThreadSafe()).thenReturn(true);
+        when(unsafeHandler.isThreadSafe()).thenReturn(false);
+
+        executor = new ResourcePhaseExecutor(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void shouldThrowOnInvalidParallelism() {
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> new ResourcePhaseExecutor(0));
+
+        // Then:
+        assertThat(e.getMessage(), is("parallelism must be positive: 0"));
+    }
+
+    @Test
+    void shouldCallNonThreadSafeHandlersOnCallingThread() {
+        // Given:
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+
+        // When:
+        executor.execute(
+                Phase.VALIDATE, unsafeHandler, sync(() -> thread.set(Thread.currentThread())));
+
+        // Then:
+        assertThat(thread.get(), is(sameInstance(Thread.currentThread())));
+    }
+
+    @Test
+    void shouldCallThreadSafeHandlersOnCallingThreadIfParallelismIsOne() {
+        // Given:
+        executor = new ResourcePhaseExecutor(1);
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+
+        // When:
+        executor.execute(
+                Phase.VALIDATE, handlerA, sync(() -> thread.set(Thread.currentThread())));
+
+        // Then:
+        assertThat(thread.get(), is(sameInstance(Thread.currentThread())));
+    }
+
+    @Test
+    void shouldCallThreadSafeHandlersOnWorkerThreads() {
+        // Given:
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+
+        // When:
+        executor.execute(
+                Phase.VALIDATE, handlerA, sync(() -> thread.set(Thread.currentThread())));
+        executor.awaitPhase();
+
+        // Then:
+        assertThat(thread.get(), is(not(sameInstance(Thread.currentThread()))));
+    }
+
+    @Test
+    void shouldCallDifferentThreadSafeHandlersConcurrently() {
+        // Given:
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+
+        // When:
+        executor.execute(Phase.ENSURE, handlerA, sync(() -> await(barrier)));
+        executor.execute(Phase.ENSURE, handlerB, sync(() -> await(barrier)));
+        executor.awaitPhase();
+
+        // Then: did not time out.
+    }
+
+    @Test
+    void shouldNotCallSameHandlerConcurrently() {
+        // Given:
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        final Runnable call =
+                () -> {
+                    if (active.incrementAndGet() != 1) {
+                        overlapped.set(true);
+                    }
+                    sleep();
+                    active.decrementAndGet();
+                };
+
+        // When:
+        executor.execute(Phase.PREPARE, handlerA, sync(call));
+        executor.execute(Phase.PREPARE, handlerA, sync(call));
+        executor.execute(Phase.PREPARE, handlerA, sync(call));
+        executor.awaitPhase();
+
+        // Then:
+        assertThat(overlapped.get(), is(false));
+    }
+
+    @Test
+    void shouldCompletePhaseBeforeStartingNext() {
+        // Given:
+        final AtomicBoolean validated = new AtomicBoolean();
+        executor.execute(
+                Phase.VALIDATE,
+                handlerA,
+                sync(
+                        () -> {
+                            sleep();
+                            validated.set(true);
+                        }));
+
+        // When:
+        final AtomicBoolean validatedBeforeEnsure = new AtomicBoolean();
+        executor.execute(
+                Phase.ENSURE,
+                unsafeHandler,
+                sync(() -> validatedBeforeEnsure.set(validated.get())));
+
+        // Then:
+        assertThat(validatedBeforeEnsure.get(), is(true));
+    }
+
+    @Test
+    void shouldThrowFailureFromAwait() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("boom");
+        executor.execute(Phase.VALIDATE, handlerA, () -> failedFuture(expected));
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, executor::awaitPhase);
+
+        // Then:
+        assertThat(e, is(sameInstance(expected)));
+    }
+
+    @Test
+    void shouldThrowFailureFromPreviousPhaseBeforeStartingNext() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("boom");
+        final AtomicBoolean ensured = new AtomicBoolean();
+        executor.execute(Phase.VALIDATE, handlerA, () -> failedFuture(expected));
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        RuntimeException.class,
+                        () ->
+                                executor.execute(
+                                        Phase.ENSURE, handlerB, sync(() -> ensured.set(true))));
+
+        // Then:
+        assertThat(e, is(sameInstance(expected)));
+        assertThat(ensured.get(), is(false));
+    }
+
+    @Test
+    void shouldNotWaitForAsyncCallsToOtherHandlersBeforeMakingNextCall() {
+        // Given:
+        final CompletableFuture<Void> first = new CompletableFuture<>();
+        final AtomicBoolean called = new AtomicBoolean();
+        when(handlerB.isThreadSafe()).thenReturn(false);
+        executor.execute(Phase.VALIDATE, unsafeHandler, () -> first);
+
+        // When:
+        executor.execute(Phase.VALIDATE, handlerB, sync(() -> called.set(true)));
+
+        // Then:
+        assertThat(called.get(), is(true));
+        first.complete(null);
+        executor.awaitPhase();
+    }
+
+    @Test
+    void shouldWaitForAsyncCallToCompleteBeforeCallingSameHandlerAgain() {
+        // Given:
+        final CompletableFuture<Void> first = new CompletableFuture<>();
+        executor.execute(Phase.VALIDATE, unsafeHandler, () -> first);
+        final Thread completer =
+                new Thread(
+                        () -> {
+                            sleep();
+                            first.complete(null);
+                        });
+        completer.start();
+
+        // When:
+        final AtomicBoolean completedBeforeCall = new AtomicBoolean();
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+        executor.execute(
+                Phase.VALIDATE,
+                unsafeHandler,
+                sync(
+                        () -> {
+                            completedBeforeCall.set(first.isDone());
+                            thread.set(Thread.currentThread());
+                        }));
+
+        // Then:
+        assertThat(completedBeforeCall.get(), is(true));
+        assertThat(thread.get(), is(sameInstance(Thread.currentThread())));
+    }
+
+    @Test
+    void shouldNotCallHandlerAgainAfterAsyncFailure() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("boom");
+        final AtomicBoolean called = new AtomicBoolean();
+        executor.execute(Phase.VALIDATE, unsafeHandler, () -> failedFuture(expected));
+
+        // When:
+        executor.execute(Phase.VALIDATE, unsafeHandler, sync(() -> called.set(true)));
+
+        // Then:
+        assertThat(called.get(), is(false));
+        final Exception e = assertThrows(RuntimeException.class, executor::awaitPhase);
+        assertThat(e, is(sameInstance(expected)));
+    }
+
+    @Test
+    void shouldWaitForAsyncCallsToCompleteBeforeStartingNextPhase() {
+        // Given:
+        final CompletableFuture<Void> validation = new CompletableFuture<>();
+        executor.execute(Phase.VALIDATE, unsafeHandler, () -> validation);
+        final Thread completer =
+                new Thread(
+                        () -> {
+                            sleep();
+                            validation.complete(null);
+                        });
+        completer.start();
+
+        // When:
+        final AtomicBoolean validatedBeforeEnsure = new AtomicBoolean();
+        executor.execute(
+                Phase.ENSURE,
+                unsafeHandler,
+                sync(() -> validatedBeforeEnsure.set(validation.isDone())));
+
+        // Then:
+        assertThat(validatedBeforeEnsure.get(), is(true));
+    }
+
+    @Test
+    void shouldThrowAsyncFailureFromAwait() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("boom");
+        executor.execute(Phase.VALIDATE, unsafeHandler, () -> failedFuture(expected));
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, executor::awaitPhase);
+
+        // Then:
+        assertThat(e, is(sameInstance(expected)));
+    }
+
+    private static Supplier<CompletionStage<Void>> sync(final Runnable call) {
+        return () -> {
+            call.run();
+            return completedFuture(null);
+        };
+    }
+
+    private static void await(final CyclicBarrier barrier) {
+        try {
+            barrier.await(30, TimeUnit.SECONDS);
+        } catch (final Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.creekservice.api.service.context.StartupReport;
+import org.creekservice.api.service.context.StartupReport.Phase;
+import org.creekservice.api.service.context.StartupReport.Timing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StartupTimerTest {
+
+    private AtomicLong nanos;
+    private StartupTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong(1_000);
+        timer = new StartupTimer(nanos::get);
+    }
+
+    @Test
+    void shouldTimePhase() {
+        // When:
+        timer.time(Phase.OPTION_CHECK, () -> nanos.addAndGet(50));
+
+        // Then:
+        final Timing timing = timer.report().timings().get(0);
+        assertThat(timing.phase(), is(Phase.OPTION_CHECK));
+        assertThat(timing.subject(), is(Optional.empty()));
+        assertThat(timing.duration(), is(Duration.ofNanos(50)));
+    }
+
+    @Test
+    void shouldReturnResultOfTimedPhase() {
+        // When:
+        final String result = timer.time(Phase.UNSUPPORTED_TYPE_CHECK, () -> "result");
+
+        // Then:
+        assertThat(result, is("result"));
+    }
+
+    @Test
+    void shouldRecordTimingIfPhaseThrows() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("boom");
+
+        // When:
+        assertThrows(
+                RuntimeException.class,
+                () ->
+                        timer.time(
+                                Phase.OPTION_CHECK,
+                                () -> {
+                                    nanos.addAndGet(10);
+                                    throw expected;
+                                }));
+
+        // Then:
+        assertThat(timer.report().timings().get(0).duration(), is(Duration.ofNanos(10)));
+    }
+
+    @Test
+    void shouldTimeAsyncCallUntilStageCompletes() {
+        // Given:
+        final CompletableFuture<Void> stage = new CompletableFuture<>();
+        timer.timeAsync(Phase.ENSURE, "type", () -> stage);
+        nanos.addAndGet(70);
+
+        // When:
+        stage.complete(null);
+
+        // Then:
+        final Timing timing = timer.report().timings().get(0);
+        assertThat(timing.phase(), is(Phase.ENSURE));
+        assertThat(timing.subject(), is(Optional.of("type")));
+        assertThat(timing.duration(), is(Duration.ofNanos(70)));
+    }
+
+    @Test
+    void shouldNotRecordIncompleteAsyncCalls() {
+        // When:
+        timer.timeAsync(Phase.ENSURE, "type", CompletableFuture::new);
+
+        // Then:
+        assertThat(timer.report().timings(), hasSize(0));
+    }
+
+    @Test
+    void shouldSumTimingsOfSamePhaseAndSubject() {
+        // Given:
+        timer.record(Phase.VALIDATE, "type", Duration.ofNanos(5));
+        timer.record(Phase.VALIDATE, "other", Duration.ofNanos(1));
+
+        // When:
+        timer.record(Phase.VALIDATE, "type", Duration.ofNanos(7));
+
+        // Then:
+        final StartupReport report = timer.report();
+        assertThat(report.timings(), hasSize(2));
+        assertThat(report.timings().get(0).duration(), is(Duration.ofNanos(12)));
+    }
+
+    @Test
+    void shouldReportTotalSinceCreation() {
+        // Given:
+        nanos.addAndGet(500);
+
+        // When:
+        final StartupReport report = timer.report();
+
+        // Then:
+        assertThat(report.total(), is(Duration.ofNanos(500)));
+    }
+
+    @Test
+    void shouldImplementToString() {
+        // Given:
+        timer.record(Phase.PREPARE, "handler", Duration.ofMillis(2));
+
+        // When:
+        final String text = timer.report().toString();
+
+        // Then:
+        assertThat(text, is("StartupReport{total=PT0S, timings=[PREPARE[handler]=PT0.002S]}"));
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.observability.logging.structured.StructuredLogger;
+import org.creekservice.api.service.context.CreekContext;
+import org.creekservice.api.service.context.TerminationPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TerminatingExceptionHandlerTest {
+
+    @Mock private CreekContext ctx;
+    @Mock private Runnable systemExit;
+    @Mock private StructuredLogger logger;
+
+    @Test
+    void shouldCloseContextThenExit() {
+        // Given:
+        final TerminatingExceptionHandler handler = handler(TerminationPolicy.drainAndExit());
+        handler.attach(ctx);
+
+        // When:
+        handler.uncaughtException(Thread.currentThread(), new RuntimeException());
+
+        // Then:
+        final InOrder inOrder = inOrder(ctx, systemExit);
+        inOrder.verify(ctx).close();
+        inOrder.verify(systemExit).run();
+    }
+
+    @Test
+    void shouldExitWithoutClosingIfPolicyExitsImmediately() {
+        // Given:
+        final TerminatingExceptionHandler handler = handler(TerminationPolicy.exitImmediately());
+        handler.attach(ctx);
+
+        // When:
+        handler.uncaughtException(Thread.currentThread(), new RuntimeException());
+
+        // Then:
+        verify(ctx, never()).close();
+        verify(systemExit).run();
+    }
+
+    @Test
+    void shouldExitWithoutClosingIfContextNotBuilt() {
+        // Given:
+        final TerminatingExceptionHandler handler = handler(TerminationPolicy.drainAndExit());
+
+        // When:
+        handler.uncaughtException(Thread.currentThread(), new RuntimeException());
+
+        // Then:
+        verify(systemExit).run();
+    }
+
+    @Test
+    void shouldExitIfCloseFails() {
+        // Given:
+        final TerminatingExceptionHandler handler = handler(TerminationPolicy.drainAndExit());
+        handler.attach(ctx);
+        doThrow(new RuntimeException("boom")).when(ctx).close();
+
+        // When:
+        handler.uncaughtException(Thread.currentThread(), new RuntimeException());
+
+        // Then:
+        verify(systemExit).run();
+    }
+
+    @Test
+    void shouldExitOnceDeadlineExpiresEvenIfCloseHangs() throws Exception {
+        // Given:
+        final CountDownLatch release = new CountDownLatch(1);
+        final TerminatingExceptionHandler handler =
+                handler(TerminationPolicy.drainAndExit(Duration.ofMillis(50)));
+        handler.attach(ctx);
+        doAnswer(
+                        inv -> {
+                            release.await(30, TimeUnit.SECONDS);
+                            return null;
+                        })
+                .when(ctx)
+                .close();
+
+        try {
+            // When:
+            handler.uncaughtException(Thread.currentThread(), new RuntimeException());
+
+            // Then:
+            verify(systemExit).run();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shouldLogBeforeExitingIfContextDoesNotCloseBeforeDeadline() throws Exception {
+        // Given:
+        final CountDownLatch release = new CountDownLatch(1);
+        final TerminatingExceptionHandler handler =
+                handler(TerminationPolicy.drainAndExit(Duration.ofMillis(50)));
+        handler.attach(ctx);
+        doAnswer(
+                        inv -> {
+                            release.await(30, TimeUnit.SECONDS);
+                            return null;
+                        })
+                .when(ctx)
+                .close();
+
+        try {
+            // When:
+            handler.uncaughtException(Thread.currentThread(), new RuntimeException());
+
+            // Then:
+            final InOrder inOrder = inOrder(logger, systemExit);
+            inOrder.verify(logger)
+                    .warn(eq("Creek context did not close before termination deadline"), any());
+            inOrder.verify(systemExit).run();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shouldNotLogTimeoutIfContextClosesBeforeDeadline() {
+        // Given:
+        final TerminatingExceptionHandler handler = handler(TerminationPolicy.drainAndExit());
+        handler.attach(ctx);
+
+        // When:
+        handler.uncaughtException(Thread.currentThread(), new RuntimeException());
+
+        // Then:
+        verify(logger, never())
+                .warn(eq("Creek context did not close before termination deadline"), any());
+    }
+
+    @Test
+    void shouldOnlyTerminateOnce() {
+        // Given:
+        final TerminatingExceptionHandler handler = handler(TerminationPolicy.drainAndExit());
+        handler.attach(ctx);
+
+        // When:
+        handler.uncaughtException(Thread.currentThread(), new RuntimeException());
+        handler.uncaughtException(Thread.currentThread(), new RuntimeException());
+
+        // Then:
+        verify(ctx, times(1)).close();
+        verify(systemExit, times(1)).run();
+    }
+
+    @Test
+    void shouldThrowOnNonPositiveDeadline() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> TerminationPolicy.drainAndExit(Duration.ZERO));
+
+        // Then:
+        assertThat(e.getMessage(), is("deadline must be positive: PT0S"));
+    }
+
+    private TerminatingExceptionHandler handler(final TerminationPolicy policy) {
+        return new TerminatingExceptionHandler(policy, systemExit, logger);
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.service.context;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.base.type.temporal.Clock;
+import org.creekservice.api.service.context.Scheduler.ScheduledTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TimerWheelTest {
+
+    private static final Duration TICK = Duration.ofMillis(10);
+
+    private final List<String> ran = new ArrayList<>();
+    private Instant now;
+    private TimerWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.ofEpochSecond(1000);
+        final Clock clock = () -> now;
+        wheel = new TimerWheel(clock, Runnable::run, TICK, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    @Test
+    void shouldThrowOnNonPositiveTick() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> new TimerWheel(() -> now, Runnable::run, Duration.ZERO));
+
+        // Then:
+        assertThat(e.getMessage(), is("tick must be positive: PT0S"));
+    }
+
+    @Test
+    void shouldThrowOnNonPositivePeriod() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> wheel.scheduleAtFixedRate(() -> {}, TICK, Duration.ZERO));
+
+        // Then:
+        assertThat(e.getMessage(), is("period must be positive: PT0S"));
+    }
+
+    @Test
+    void shouldNotRunTaskBeforeDeadline() {
+        // Given:
+        wheel.schedule(() -> ran.add("a"), Duration.ofMillis(25));
+
+        // When:
+        advanceBy(Duration.ofMillis(24));
+
+        // Then:
+        assertThat(ran, is(empty()));
+    }
+
+    @Test
+    void shouldRunTaskOnceDeadlinePassed() {
+        // Given:
+        final ScheduledTask task = wheel.schedule(() -> ran.add("a"), Duration.ofMillis(25));
+
+        // When:
+        advanceBy(Duration.ofMillis(30));
+
+        // Then:
+        assertThat(ran, contains("a"));
+        assertThat(task.isDone(), is(true));
+        assertThat(task.isCancelled(), is(false));
+    }
+
+    @Test
+    void shouldRunTaskWithZeroDelayOnNextAdvance() {
+        // Given:
+        wheel.schedule(() -> ran.add("a"), Duration.ZERO);
+
+        // When:
+        wheel.advance();
+
+        // Then:
+        assertThat(ran, contains("a"));
+    }
+
+    @Test
+    void shouldRunTasksInDeadlineOrder() {
+        // Given:
+        wheel.schedule(() -> ran.add("b"), Duration.ofMillis(50));
+        wheel.schedule(() -> ran.add("a"), Duration.ofMillis(20));
+
+        // When:
+        advanceBy(Duration.ofMillis(60));
+
+        // Then:
+        assertThat(ran, contains("a", "b"));
+    }
+
+    @Test
+    void shouldRunTaskDueAfterMoreThanOneRotation() {
+        // Given:
+        final Duration rotation = TICK.multipliedBy(512);
+        wheel.schedule(() -> ran.add("a"), rotation.plus(TICK.multipliedBy(3)));
+
+        // When:
+        advanceBy(rotation);
+
+        // Then:
+        assertThat(ran, is(empty()));
+
+        // When:
+        advanceBy(TICK.multipliedBy(3));
+
+        // Then:
+        assertThat(ran, contains("a"));
+    }
+
+    @Test
+    void shouldNotRunCancelledTask() {
+        // Given:
+        final ScheduledTask task = wheel.schedule(() -> ran.add("a"), Duration.ofMillis(20));
+
+        // When:
+        final boolean cancelled = task.cancel();
+        advanceBy(Duration.ofMillis(30));
+
+        // Then:
+        assertThat(cancelled, is(true));
+        assertThat(task.isCancelled(), is(true));
+        assertThat(task.isDone(), is(true));
+        assertThat(ran, is(empty()));
+    }
+
+    @Test
+    void shouldNotCancelCompletedTask() {
+        // Given:
+        final ScheduledTask task = wheel.schedule(() -> ran.add("a"), Duration.ZERO);
+        wheel.advance();
+
+        // When:
+        final boolean cancelled = task.cancel();
+
+        // Then:
+        assertThat(cancelled, is(false));
+        assertThat(task.isCancelled(), is(false));
+    }
+
+    @Test
+    void shouldRunPeriodicTaskRepeatedly() {
+        // Given:
+        wheel.scheduleAtFixedRate(() -> ran.add("a"), TICK, TICK.multipliedBy(2));
+
+        // When:
+        for (int i = 0; i < 7; i++) {
+            advanceBy(TICK);
+        }
+
+        // Then:
+        assertThat(ran, contains("a", "a", "a", "a"));
+    }
+
+    @Test
+    void shouldStopPeriodicTaskOnCancel() {
+        // Given:
+        final ScheduledTask task =
+                wheel.scheduleAtFixedRate(() -> ran.add("a"), Duration.ZERO, TICK);
+        wheel.advance();
+
+        // When:
+        task.cancel();
+        advanceBy(TICK.multipliedBy(5));
+
+        // Then:
+        assertThat(ran, contains("a"));
+    }
+
+    @Test
+    void shouldStopPeriodicTaskOnFailure() {
+        // Given:
+        final ScheduledTask task =
+                wheel.scheduleAtFixedRate(
+                        () -> {
+                            ran.add("a");
+                            throw new RuntimeException("boom");
+                        },
+                        Duration.ZERO,
+                        TICK);
+
+        // When:
+        advanceBy(TICK.multipliedBy(5));
+
+        // Then:
+        assertThat(ran, contains("a"));
+        assertThat(task.isDone(), is(true));
+    }
+
+    @Test
+    void shouldCancelPendingTasksOnClose() {
+        // Given:
+        final ScheduledTask task = wheel.schedule(() -> ran.add("a"), Duration.ofMillis(20));
+
+        // When:
+        wheel.close();
+
+        // Then:
+        assertThat(task.isCancelled(), is(true));
+    }
+
+    @Test
+    void shouldCancelTasksInWheelOnClose() {
+        // Given:
+        final ScheduledTask task = wheel.schedule(() -> ran.add("a"), Duration.ofMillis(50));
+        advanceBy(TICK);
+
+        // When:
+        wheel.close();
+
+        // Then:
+        assertThat(task.isCancelled(), is(true));
+    }
+
+    @Test
+    void shouldThrowIfScheduledAfterClose() {
+        // Given:
+        wheel.close();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalStateException.class,
+                        () -> wheel.schedule(() -> ran.add("a"), Duration.ZERO));
+
+        // Then:
+        assertThat(e.getMessage(), is("Scheduler is closed"));
+    }
+
+    @Test
+    void shouldRunTasksUsingWorkerThread() throws Exception {
+        // Given:
+        final CountDownLatch latch = new CountDownLatch(3);
+        try (TimerWheel real =
+                new TimerWheel(Instant::now, Runnable::run, Duration.ofMillis(1))) {
+
+            // When:
+            real.scheduleAtFixedRate(latch::countDown, Duration.ZERO, Duration.ofMillis(5));
+
+            // Then:
+            assertThat(latch.await(30, TimeUnit.SECONDS), is(true));
+        }
+    }
+
+    private void advanceBy(final Duration duration) {
+        now = now.plus(duration);
+        wheel.advance();
+    }
+}
@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD;
 
 import org.creekservice.api.base.type.temporal.Clock;
+import org.creekservice.api.service.context.temporal.CachedClock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -60,6 +61,19 @@ class SystemEnvClockLoaderTest {
         assertThat(loader.load(() -> defaultClock), is(instanceOf(TestClock.class)));
     }
 
+    @SetEnvironmentVariable(
+            key = SystemEnvClockLoader.ENV_VAR_NAME,
+            value = "org.creekservice.api.service.context.temporal.CachedClock")
+    @Test
+    void shouldSupportCachedClock() {
+        // When:
+        final Clock clock = loader.load(() -> defaultClock);
+
+        // Then:
+        assertThat(clock, is(instanceOf(CachedClock.class)));
+        ((CachedClock) clock).close();
+    }
+
     @SetEnvironmentVariable(
             key = SystemEnvClockLoader.ENV_VAR_NAME,
             value = "org.creekservice.api.service.context.temporal.UnknownClass")
@@ -25,6 +25,8 @@ module creek.service.extension {
     exports org.creekservice.api.service.extension.component.model;
     exports org.creekservice.api.service.extension.option;
     exports org.creekservice.api.service.extension.extension;
+    exports org.creekservice.api.service.extension.health;
+    exports org.creekservice.api.service.extension.metric;
 
     uses CreekExtensionProvider;
 }
@@ -16,6 +16,8 @@
 
 package org.creekservice.api.service.extension;
 
+import org.creekservice.api.service.extension.health.HealthListener;
+
 /**
  * Base type for extensions to Creek.
  *
@@ -28,6 +30,38 @@ public interface CreekExtension {
      */
     String name();
 
+    /**
+     * Register the listener the extension should report changes in its health to.
+     *
+     * <p>Called once, when the context is built. Extensions that track their health, e.g. the
+     * state of a connection, should hold on to the listener and {@link HealthListener#update push}
+     * changes to it. Creek aggregates the health of all extensions, so that probes are cheap.
+     *
+     * <p>Until an extension reports otherwise, it is assumed to be {@link
+     * org.creekservice.api.service.extension.health.HealthStatus#UP up}. Extensions that do not
+     * track their health need not override this method.
+     *
+     * @param listener the listener to report health changes to.
+     */
+    default void registerHealthListener(final HealthListener listener) {}
+
+    /**
+     * Flush any buffered work, e.g. records held by a producer, ahead of the extension being
+     * closed.
+     *
+     * <p>Called on all extensions before any extension is closed, so extensions can still rely on
+     * the extensions they depend on while draining. This includes when the service is terminating
+     * due to an unhandled exception, where draining avoids losing, and later reprocessing,
+     * in-flight work.
+     *
+     * <p>An extension is only drained once the extensions that depend on it have drained, so that
+     * it can flush any work they hand it while draining.
+     *
+     * <p>Implementations should return promptly: the service may terminate before draining
+     * completes.
+     */
+    default void drain() {}
+
     /** Close the extension, releasing any resources the extension holds. */
     default void close() {}
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.extension;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * An index of the extension providers available to an application.
+ *
+ * <p>Creek does not generate the index: it is intended to be generated by the application's build,
+ * though it can equally be written by hand.
+ *
+ * <p>Where an index is present, Creek loads extension providers from it, rather than scanning the
+ * class and module path using {@link java.util.ServiceLoader}, and creates providers using the
+ * factories it contains, rather than via reflection.
+ *
+ * <p>To be found, the index must:
+ *
+ * <ul>
+ *   <li>be a public class named {@link #CLASS_NAME},
+ *   <li>have a public no-args constructor, and
+ *   <li>if using JPMS, be in a package exported to {@code creek.service.extension}.
+ * </ul>
+ *
+ * <p>An index must list <i>all</i> providers the application should load: any provider not listed
+ * will not be found by {@link CreekExtensionProviders#load()}.
+ */
+public interface CreekExtensionIndex {
+
+    /** The name of the class Creek loads as the index, if present. */
+    String CLASS_NAME = "org.creekservice.generated.service.extension.GeneratedCreekExtensionIndex";
+
+    /**
+     * @return the indexed extension providers.
+     */
+    List<Entry> entries();
+
+    /** An entry in the index, describing a single extension provider. */
+    final class Entry {
+
+        private final Class<? extends CreekExtensionProvider<?>> providerType;
+        private final Supplier<? extends CreekExtensionProvider<?>> factory;
+
+        /**
+         * Create an entry.
+         *
+         * @param providerType the type of the provider.
+         * @param factory factory used to create instances of the provider, without reflection.
+         * @param <T> the type of the provider.
+         * @return the entry.
+         */
+        public static <T extends CreekExtensionProvider<?>> Entry entry(
+                final Class<T> providerType, final Supplier<? extends T> factory) {
+            return new Entry(providerType, factory);
+        }
+
+        private Entry(
+                final Class<? extends CreekExtensionProvider<?>> providerType,
+                final Supplier<? extends CreekExtensionProvider<?>> factory) {
+            this.providerType = requireNonNull(providerType, "providerType");
+            this.factory = requireNonNull(factory, "factory");
+        }
+
+        /**
+         * @return the type of the provider.
+         */
+        public Class<? extends CreekExtensionProvider<?>> providerType() {
+            return providerType;
+        }
+
+        /**
+         * Create a new instance of the provider.
+         *
+         * @return the new instance.
+         * @throws IllegalStateException if the factory returns an instance of the wrong type.
+         */
+        public CreekExtensionProvider<?> create() {
+            final CreekExtensionProvider<?> provider = factory.get();
+            if (provider == null || provider.getClass() != providerType) {
+                throw new IllegalStateException(
+                        "Index factory for "
+                                + providerType.getName()
+                                + " returned "
+                                + (provider == null ? "null" : provider.getClass().getName()));
+            }
+            return provider;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Entry that = (Entry) o;
+            return Objects.equals(providerType, that.providerType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(providerType);
+        }
+
+        @Override
+        public String toString() {
+            return "Entry{" + "providerType=" + providerType.getName() + '}';
+        }
+    }
+}
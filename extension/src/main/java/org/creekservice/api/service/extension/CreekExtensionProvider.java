@@ -16,6 +16,9 @@
 
 package org.creekservice.api.service.extension;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Provider of an extension to Creek.
  *
@@ -29,6 +32,9 @@ package org.creekservice.api.service.extension;
  *   <li>have a suitable entry in the {@code META-INFO.services} directory, or
  *   <li>both of the above
  * </ul>
+ *
+ * <p>Alternatively, providers can be listed in a {@link CreekExtensionIndex}, which avoids scanning
+ * the class and module paths.
  */
 public interface CreekExtensionProvider<T extends CreekExtension> {
 
@@ -51,4 +57,22 @@ public interface CreekExtensionProvider<T extends CreekExtension> {
      * @return the initialized extension.
      */
     T initialize(CreekService api);
+
+    /**
+     * The types of other extension providers this provider depends on.
+     *
+     * <p>Creek will ensure the extensions of any providers returned are initialized before this
+     * provider is initialized. Providers that do not depend on each other may be initialized
+     * concurrently.
+     *
+     * <p>Providers can still call {@link
+     * org.creekservice.api.service.extension.extension.ExtensionContainer#ensureExtension} from
+     * within {@link #initialize}. However, declaring dependencies allows Creek to schedule
+     * initialization more efficiently.
+     *
+     * @return the types of providers this provider depends on.
+     */
+    default Collection<Class<? extends CreekExtensionProvider<?>>> dependsOn() {
+        return List.of();
+    }
 }
@@ -16,11 +16,17 @@
 
 package org.creekservice.api.service.extension;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /** Util class for working with {@link CreekExtensionProvider}. */
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
 public final class CreekExtensionProviders {
 
     private CreekExtensionProviders() {}
@@ -28,12 +34,91 @@ public final class CreekExtensionProviders {
     /**
      * Instantiate any extensions available at runtime.
      *
+     * <p>If a {@link CreekExtensionIndex} is present, the providers it lists are returned.
+     * Otherwise, the class and module path are scanned using {@link ServiceLoader}.
+     *
      * @return all extension providers found on class and module path
      */
     public static List<CreekExtensionProvider<?>> load() {
+        return load(IndexHolder.INDEX);
+    }
+
+    /**
+     * Find the entry for a provider type in the extension index.
+     *
+     * @param providerType the type of provider to look up.
+     * @return the index entry, if an index is present and contains the provider type.
+     */
+    public static Optional<CreekExtensionIndex.Entry> indexed(final Class<?> providerType) {
+        requireNonNull(providerType, "providerType");
+        return Optional.ofNullable(IndexHolder.ENTRIES.get(providerType));
+    }
+
+    static List<CreekExtensionProvider<?>> load(final Optional<CreekExtensionIndex> index) {
+        return index.map(CreekExtensionProviders::fromIndex)
+                .orElseGet(CreekExtensionProviders::fromServiceLoader);
+    }
+
+    static Optional<CreekExtensionIndex> loadIndex(
+            final String className, final ClassLoader classLoader) {
+        final Class<?> type;
+        try {
+            type = Class.forName(className, true, classLoader);
+        } catch (final ClassNotFoundException e) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of((CreekExtensionIndex) type.getConstructor().newInstance());
+        } catch (final Exception | LinkageError e) {
+            throw new InvalidExtensionIndexException(className, e);
+        }
+    }
+
+    private static List<CreekExtensionProvider<?>> fromIndex(final CreekExtensionIndex index) {
+        return index.entries().stream()
+                .map(CreekExtensionIndex.Entry::create)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static Map<Class<?>, CreekExtensionIndex.Entry> byProviderType(
+            final CreekExtensionIndex index) {
+        return index.entries().stream()
+                .collect(
+                        Collectors.toUnmodifiableMap(
+                                CreekExtensionIndex.Entry::providerType, Function.identity()));
+    }
+
+    private static List<CreekExtensionProvider<?>> fromServiceLoader() {
         return ServiceLoader.load(CreekExtensionProvider.class).stream()
                 .map(ServiceLoader.Provider::get)
                 .map(p -> (CreekExtensionProvider<?>) p)
                 .collect(Collectors.toUnmodifiableList());
     }
+
+    private static ClassLoader classLoader() {
+        final ClassLoader context = Thread.currentThread().getContextClassLoader();
+        return context == null ? CreekExtensionProviders.class.getClassLoader() : context;
+    }
+
+    /** Lazily loads the index, once. */
+    private static final class IndexHolder {
+
+        static final Optional<CreekExtensionIndex> INDEX =
+                loadIndex(CreekExtensionIndex.CLASS_NAME, classLoader());
+
+        static final Map<Class<?>, CreekExtensionIndex.Entry> ENTRIES =
+                INDEX.map(CreekExtensionProviders::byProviderType).orElse(Map.of());
+    }
+
+    private static final class InvalidExtensionIndexException extends IllegalStateException {
+        InvalidExtensionIndexException(final String className, final Throwable cause) {
+            super(
+                    "Failed to load the extension index. It must implement "
+                            + CreekExtensionIndex.class.getName()
+                            + " and have a public no-args constructor. class: "
+                            + className,
+                    cause);
+        }
+    }
 }
@@ -23,6 +23,7 @@ import org.creekservice.api.platform.metadata.ServiceDescriptor;
 import org.creekservice.api.service.extension.component.ComponentDescriptorCollection;
 import org.creekservice.api.service.extension.component.model.ComponentModelContainer;
 import org.creekservice.api.service.extension.extension.ExtensionContainer;
+import org.creekservice.api.service.extension.metric.MetricRegistry;
 import org.creekservice.api.service.extension.option.OptionCollection;
 
 /** The entry point to the API Creek exposes to service extensions. */
@@ -57,6 +58,18 @@ public interface CreekService {
      */
     ExtensionContainer extensions();
 
+    /**
+     * The registry of metrics shared by Creek, extensions and the service.
+     *
+     * <p>Implementations that do not collect metrics return a {@link MetricRegistry#noOp()
+     * no-op} registry.
+     *
+     * @return the metric registry.
+     */
+    default MetricRegistry metrics() {
+        return MetricRegistry.noOp();
+    }
+
     /** Provides access to component metadata. */
     interface ComponentAccessor {
 
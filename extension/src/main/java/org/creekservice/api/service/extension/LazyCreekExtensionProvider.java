@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.service.extension;
+
+/**
+ * Provider of an extension to Creek that is initialized on first use.
+ *
+ * <p>When building a context, Creek calls {@link #register} on lazy providers, rather than {@link
+ * #initialize}. Providers should register the resource types they handle, and access any user
+ * provided options, from {@code register}. Resource handlers registered this way are called
+ * while building the context, as with any other provider.
+ *
+ * <p>The potentially expensive {@link #initialize} is deferred until the extension is first
+ * requested, e.g. via {@code CreekContext.extension}, or by another provider calling {@link
+ * org.creekservice.api.service.extension.extension.ExtensionContainer#ensureExtension}.
+ *
+ * @param <T> the type of the extension.
+ */
+public interface LazyCreekExtensionProvider<T extends CreekExtension>
+        extends CreekExtensionProvider<T> {
+
+    /**
+     * The type of the extension {@link #initialize} will return.
+     *
+     * <p>Used to find the provider when the extension is first requested.
+     *
+     * @return the extension type.
+     */
+    Class<T> extensionType();
+
+    /**
+     * Called to allow the provider to register the resource types it supports.
+     *
+     * <p>Called once, before {@link #initialize}, which may never be called if the extension is
+     * never used.
+     *
+     * @param api the API Creek exposes to extensions.
+     */
+    void register(CreekService api);
+}
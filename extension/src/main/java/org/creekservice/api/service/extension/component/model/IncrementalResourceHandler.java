@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.extension.component.model;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
+
+/**
+ * A resource handler that ensures resources by applying only the difference between their
+ * desired and actual state.
+ *
+ * <p>Rather than implementing {@link #ensure}, handlers implement {@link #describeAsync}, to fetch
+ * the current state of a batch of resources in one call, and {@link #applyAsync}, to create or
+ * update a batch of resources in one call. Creek computes the {@link ResourceDiff} between the two
+ * and only calls {@code applyAsync} if there are missing or conflicting resources.
+ *
+ * <p>Ensuring any number of resources therefore takes a constant number of round trips to the
+ * system hosting them.
+ *
+ * @param <T> the specific resource type the handler handles.
+ * @param <S> the type describing the actual state of a resource.
+ */
+public interface IncrementalResourceHandler<T extends ResourceDescriptor, S>
+        extends ResourceHandler<T> {
+
+    /**
+     * Fetch the actual state of the supplied {@code resources}, ideally in a single call.
+     *
+     * @param resources the resources to describe.
+     * @return a stage that completes with the state of the resources that exist, keyed on
+     *     resource id. Resources that do not exist should not have an entry.
+     */
+    CompletionStage<Map<URI, S>> describeAsync(Collection<? extends T> resources);
+
+    /**
+     * Test if an existing resource matches its descriptor.
+     *
+     * @param desired the resource descriptor.
+     * @param actual the actual state of the resource.
+     * @return {@code true} if the resource needs no changes.
+     */
+    boolean matches(T desired, S actual);
+
+    /**
+     * Apply the supplied {@code diff}, ideally in a single call.
+     *
+     * <p>Implementations should create {@link ResourceDiff#missing() missing} resources. How to
+     * handle {@link ResourceDiff#conflicting() conflicting} resources is up to the
+     * implementation, e.g. update them, log a warning, or fail, as per the contract of {@link
+     * #ensure}.
+     *
+     * <p>Only called if the diff {@link ResourceDiff#hasChanges() has changes}.
+     *
+     * @param diff the difference between the desired and actual state of the resources.
+     * @return a stage that completes once the diff has been applied.
+     */
+    CompletionStage<Void> applyAsync(ResourceDiff<T, S> diff);
+
+    /**
+     * Ensures resources by describing them, computing the diff, and applying any changes.
+     *
+     * @param creatableResources the resource instances to ensure exists and are initialized.
+     * @return a stage that completes when the resources exist and are initialized.
+     */
+    @Override
+    default CompletionStage<Void> ensureAsync(final Collection<? extends T> creatableResources) {
+        try {
+            return describeAsync(creatableResources)
+                    .thenCompose(
+                            actual -> {
+                                final ResourceDiff<T, S> diff =
+                                        ResourceDiff.diff(
+                                                creatableResources, actual, this::matches);
+                                return diff.hasChanges()
+                                        ? applyAsync(diff)
+                                        : CompletableFuture.completedFuture(null);
+                            });
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Blocking variant of {@link #ensureAsync}.
+     *
+     * @param creatableResources the resource instances to ensure exists and are initialized.
+     */
+    @Override
+    default void ensure(final Collection<? extends T> creatableResources) {
+        try {
+            ensureAsync(creatableResources).toCompletableFuture().join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
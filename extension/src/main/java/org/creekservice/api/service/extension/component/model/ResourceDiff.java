@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.extension.component.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
+
+/**
+ * The difference between the desired and actual state of a batch of resources.
+ *
+ * <p>Each desired resource is exactly one of:
+ *
+ * <ul>
+ *   <li><i>missing</i>: the resource does not exist,
+ *   <li><i>matching</i>: the resource exists and matches the descriptor, or
+ *   <li><i>conflicting</i>: the resource exists, but does not match the descriptor.
+ * </ul>
+ *
+ * @param <T> the resource descriptor type.
+ * @param <S> the type describing the actual state of a resource.
+ * @see IncrementalResourceHandler
+ */
+public final class ResourceDiff<T extends ResourceDescriptor, S> {
+
+    private final List<T> missing;
+    private final List<T> matching;
+    private final List<Conflict<T, S>> conflicting;
+
+    /**
+     * Compute the difference between desired and actual state.
+     *
+     * @param desired the desired resources.
+     * @param actual the actual state of the resources that exist, keyed by resource id.
+     * @param matches predicate used to test if an existing resource matches its descriptor.
+     * @param <T> the resource descriptor type.
+     * @param <S> the type describing the actual state of a resource.
+     * @return the diff, with resources in the order of {@code desired}.
+     */
+    public static <T extends ResourceDescriptor, S> ResourceDiff<T, S> diff(
+            final Collection<? extends T> desired,
+            final Map<URI, ? extends S> actual,
+            final BiPredicate<? super T, ? super S> matches) {
+        requireNonNull(actual, "actual");
+        requireNonNull(matches, "matches");
+
+        final List<T> missing = new ArrayList<>();
+        final List<T> matching = new ArrayList<>();
+        final List<Conflict<T, S>> conflicting = new ArrayList<>();
+
+        for (final T resource : requireNonNull(desired, "desired")) {
+            final S state = actual.get(resource.id());
+            if (state == null) {
+                missing.add(resource);
+            } else if (matches.test(resource, state)) {
+                matching.add(resource);
+            } else {
+                conflicting.add(new Conflict<>(resource, state));
+            }
+        }
+
+        return new ResourceDiff<>(missing, matching, conflicting);
+    }
+
+    private ResourceDiff(
+            final List<T> missing, final List<T> matching, final List<Conflict<T, S>> conflicting) {
+        this.missing = List.copyOf(missing);
+        this.matching = List.copyOf(matching);
+        this.conflicting = List.copyOf(conflicting);
+    }
+
+    /**
+     * @return the resources that do not exist.
+     */
+    public List<T> missing() {
+        return missing;
+    }
+
+    /**
+     * @return the resources that exist and match their descriptor.
+     */
+    public List<T> matching() {
+        return matching;
+    }
+
+    /**
+     * @return the resources that exist, but do not match their descriptor.
+     */
+    public List<Conflict<T, S>> conflicting() {
+        return conflicting;
+    }
+
+    /**
+     * @return {@code true} if any resources are missing or conflicting.
+     */
+    public boolean hasChanges() {
+        return !missing.isEmpty() || !conflicting.isEmpty();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ResourceDiff<?, ?> that = (ResourceDiff<?, ?>) o;
+        return Objects.equals(missing, that.missing)
+                && Objects.equals(matching, that.matching)
+                && Objects.equals(conflicting, that.conflicting);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(missing, matching, conflicting);
+    }
+
+    @Override
+    public String toString() {
+        return "ResourceDiff{"
+                + "missing="
+                + missing
+                + ", matching="
+                + matching
+                + ", conflicting="
+                + conflicting
+                + '}';
+    }
+
+    /**
+     * An existing resource that does not match its descriptor.
+     *
+     * @param <T> the resource descriptor type.
+     * @param <S> the type describing the actual state of a resource.
+     */
+    public static final class Conflict<T extends ResourceDescriptor, S> {
+
+        private final T desired;
+        private final S actual;
+
+        private Conflict(final T desired, final S actual) {
+            this.desired = requireNonNull(desired, "desired");
+            this.actual = requireNonNull(actual, "actual");
+        }
+
+        /**
+         * @return the descriptor of the resource.
+         */
+        public T desired() {
+            return desired;
+        }
+
+        /**
+         * @return the actual state of the resource.
+         */
+        public S actual() {
+            return actual;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Conflict<?, ?> that = (Conflict<?, ?>) o;
+            return Objects.equals(desired, that.desired) && Objects.equals(actual, that.actual);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(desired, actual);
+        }
+
+        @Override
+        public String toString() {
+            return "Conflict{desired=" + desired + ", actual=" + actual + '}';
+        }
+    }
+}
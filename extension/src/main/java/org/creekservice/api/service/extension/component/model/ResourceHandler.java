@@ -17,11 +17,18 @@
 package org.creekservice.api.service.extension.component.model;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import org.creekservice.api.platform.metadata.ResourceDescriptor;
 
 /**
  * A Callback that Creek extensions implement to handler the resource types they support.
  *
+ * <p>Each callback has a blocking and an asynchronous variant. Creek calls the asynchronous
+ * variants, which by default delegate to the blocking ones. Handlers that make remote calls can
+ * override the asynchronous variants to avoid blocking the thread building the context, allowing
+ * calls to different handlers, and for different resources, to overlap.
+ *
  * @param <T> the specific resource type the handler handles.
  */
 public interface ResourceHandler<T extends ResourceDescriptor> {
@@ -49,6 +56,9 @@ public interface ResourceHandler<T extends ResourceDescriptor> {
      * <p>Implementations should consider outputting a warning or failing if the resource already
      * exists, but does not match the expected configuration.
      *
+     * <p>Handlers that can fetch the state of many resources in one call should consider
+     * implementing {@link IncrementalResourceHandler} instead.
+     *
      * @param creatableResources the resource instances to ensure exists and are initialized.
      *     Resources passed will be {@link org.creekservice.api.platform.metadata.CreatableResource
      *     creatable}.
@@ -64,4 +74,72 @@ public interface ResourceHandler<T extends ResourceDescriptor> {
      * @param resources the resource descriptors to prepare for.
      */
     void prepare(Collection<? extends T> resources);
+
+    /**
+     * Asynchronous variant of {@link #validate}.
+     *
+     * <p>Creek never makes concurrent calls to the same handler instance, and waits for the stage
+     * returned by a previous call to complete before calling any method of the handler again. See
+     * {@link #isThreadSafe()}.
+     *
+     * @param resourceGroup the set of resources that all share the same {@link
+     *     ResourceDescriptor#id()}.
+     * @return a stage that completes when validation is complete, or completes exceptionally with
+     *     the details of any inconsistencies.
+     */
+    default CompletionStage<Void> validateAsync(Collection<? extends T> resourceGroup) {
+        try {
+            validate(resourceGroup);
+            return CompletableFuture.completedFuture(null);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #ensure}.
+     *
+     * <p>As with {@link #validateAsync}, Creek waits for the returned stage to complete before
+     * calling the handler again.
+     *
+     * @param creatableResources the resource instances to ensure exists and are initialized.
+     * @return a stage that completes when the resources exist and are initialized.
+     */
+    default CompletionStage<Void> ensureAsync(Collection<? extends T> creatableResources) {
+        try {
+            ensure(creatableResources);
+            return CompletableFuture.completedFuture(null);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #prepare}.
+     *
+     * @param resources the resource descriptors to prepare for.
+     * @return a stage that completes when the extension is prepared.
+     */
+    default CompletionStage<Void> prepareAsync(Collection<? extends T> resources) {
+        try {
+            prepare(resources);
+            return CompletableFuture.completedFuture(null);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Indicates if Creek can call this handler from a thread other than the one building the
+     * context, concurrently with calls to other handlers.
+     *
+     * <p>Creek will never make concurrent calls to the same handler instance, and will wait for the
+     * stage returned from one asynchronous call to complete before making the next. Calls are only
+     * made concurrently if the user opts in to concurrent resource handling.
+     *
+     * @return {@code true} if the handler is thread-safe.
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.extension.health;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/** Immutable health of a component, e.g. an extension. */
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+public final class Health {
+
+    private static final Health UP = new Health(HealthStatus.UP, Optional.empty());
+
+    private final HealthStatus status;
+    private final Optional<String> detail;
+
+    /**
+     * @return healthy.
+     */
+    public static Health up() {
+        return UP;
+    }
+
+    /**
+     * @param detail the reason the component is degraded.
+     * @return degraded health.
+     */
+    public static Health degraded(final String detail) {
+        return new Health(HealthStatus.DEGRADED, Optional.of(detail));
+    }
+
+    /**
+     * @param detail the reason the component is down.
+     * @return down.
+     */
+    public static Health down(final String detail) {
+        return new Health(HealthStatus.DOWN, Optional.of(detail));
+    }
+
+    private Health(final HealthStatus status, final Optional<String> detail) {
+        this.status = requireNonNull(status, "status");
+        this.detail = requireNonNull(detail, "detail");
+    }
+
+    /**
+     * @return the status.
+     */
+    public HealthStatus status() {
+        return status;
+    }
+
+    /**
+     * @return the reason for the status, if not {@link HealthStatus#UP}.
+     */
+    public Optional<String> detail() {
+        return detail;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final Health that = (Health) o;
+        return status == that.status && Objects.equals(detail, that.detail);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(status, detail);
+    }
+
+    @Override
+    public String toString() {
+        return detail.map(d -> status + " (" + d + ")").orElse(status.toString());
+    }
+}
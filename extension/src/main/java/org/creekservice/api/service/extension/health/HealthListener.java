@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.extension.health;
+
+/**
+ * Listener extensions push changes in their health to.
+ *
+ * @see org.creekservice.api.service.extension.CreekExtension#registerHealthListener
+ */
+@FunctionalInterface
+public interface HealthListener {
+
+    /**
+     * Report the current health of the extension.
+     *
+     * <p>Can be called from any thread. Calls should only be made when the health changes, not
+     * periodically.
+     *
+     * @param health the current health.
+     */
+    void update(Health health);
+}
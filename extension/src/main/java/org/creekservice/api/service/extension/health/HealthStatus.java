@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.extension.health;
+
+/** The health status of an extension, or service. */
+public enum HealthStatus {
+
+    /** Fully functional: live, and ready to receive traffic. */
+    UP,
+
+    /**
+     * Functional, but should not currently receive traffic, e.g. while reconnecting to a remote
+     * service: live, but not ready.
+     */
+    DEGRADED,
+
+    /** Not functional, and not expected to recover without a restart: neither live nor ready. */
+    DOWN;
+
+    /**
+     * @param other the other status.
+     * @return the worse of this and the {@code other} status.
+     */
+    public HealthStatus worst(final HealthStatus other) {
+        return compareTo(other) >= 0 ? this : other;
+    }
+}
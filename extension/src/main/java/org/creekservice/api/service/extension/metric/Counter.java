@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.extension.metric;
+
+/**
+ * A monotonically increasing count.
+ *
+ * <p>Increments are striped across cells to avoid contention between threads, so are safe to use
+ * on hot paths.
+ */
+public interface Counter {
+
+    /** Increment the count by one. */
+    default void increment() {
+        add(1);
+    }
+
+    /**
+     * Increment the count.
+     *
+     * @param delta the amount to add.
+     * @throws IllegalArgumentException if {@code delta} is negative.
+     */
+    void add(long delta);
+
+    /**
+     * @return the current count.
+     */
+    long count();
+}
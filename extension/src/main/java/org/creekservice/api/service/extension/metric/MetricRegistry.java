@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.extension.metric;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Registry of the metrics of a service and its extensions.
+ *
+ * <p>A single registry is shared by Creek, extensions and the service, avoiding each bringing its
+ * own metrics library. Extensions can access it from {@link
+ * org.creekservice.api.service.extension.CreekService#metrics()} during initialization, and
+ * services from the context.
+ *
+ * <p>Metrics are identified by name, which is unique across all metric types. Names should be
+ * prefixed with the name of the extension or service registering them, e.g. {@code
+ * kafka.producer.sends}, to avoid clashes.
+ *
+ * <p>Looking up a metric is relatively expensive. Callers on hot paths should look the metric up
+ * once and hold on to it. Recording to the returned metrics is thread-safe, lock-free and does not
+ * allocate in the steady state.
+ *
+ * <p>Implementations are thread-safe.
+ */
+public interface MetricRegistry {
+
+    /**
+     * @return a registry that records nothing: its metrics always read zero, and its snapshot is
+     *     empty.
+     */
+    static MetricRegistry noOp() {
+        return NoOpMetricRegistry.INSTANCE;
+    }
+
+    /**
+     * Get or create a counter.
+     *
+     * @param name the name of the counter.
+     * @return the counter.
+     * @throws IllegalArgumentException if the name is blank or is already used by a different type
+     *     of metric.
+     */
+    Counter counter(String name);
+
+    /**
+     * Get or create a timer.
+     *
+     * @param name the name of the timer.
+     * @return the timer.
+     * @throws IllegalArgumentException if the name is blank or is already used by a different type
+     *     of metric.
+     */
+    Timer timer(String name);
+
+    /**
+     * Register a gauge.
+     *
+     * <p>The supplied {@code value} is called each time a {@link #snapshot()} is taken, from the
+     * thread taking the snapshot, so must be thread-safe and cheap. If it throws, the gauge is
+     * omitted from that snapshot.
+     *
+     * @param name the name of the gauge.
+     * @param value supplier of the current value of the gauge.
+     * @throws IllegalArgumentException if the name is blank or already registered.
+     */
+    void gauge(String name, LongSupplier value);
+
+    /**
+     * Take a snapshot of the current value of all metrics.
+     *
+     * @return the immutable snapshot.
+     */
+    MetricsSnapshot snapshot();
+}
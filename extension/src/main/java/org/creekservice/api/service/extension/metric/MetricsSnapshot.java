@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.extension.metric;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/** Immutable snapshot of the metrics in a {@link MetricRegistry}, keyed and ordered by name. */
+public final class MetricsSnapshot {
+
+    private final Map<String, Long> counters;
+    private final Map<String, Long> gauges;
+    private final Map<String, TimerSnapshot> timers;
+
+    /**
+     * Create a snapshot.
+     *
+     * @param counters the counts of counters, by name.
+     * @param gauges the values of gauges, by name.
+     * @param timers the snapshots of timers, by name.
+     * @return the snapshot.
+     */
+    public static MetricsSnapshot of(
+            final Map<String, Long> counters,
+            final Map<String, Long> gauges,
+            final Map<String, TimerSnapshot> timers) {
+        return new MetricsSnapshot(counters, gauges, timers);
+    }
+
+    private MetricsSnapshot(
+            final Map<String, Long> counters,
+            final Map<String, Long> gauges,
+            final Map<String, TimerSnapshot> timers) {
+        this.counters = sorted(requireNonNull(counters, "counters"));
+        this.gauges = sorted(requireNonNull(gauges, "gauges"));
+        this.timers = sorted(requireNonNull(timers, "timers"));
+    }
+
+    /**
+     * @return the counts of counters, by name.
+     */
+    public Map<String, Long> counters() {
+        return counters;
+    }
+
+    /**
+     * @return the values of gauges, by name.
+     */
+    public Map<String, Long> gauges() {
+        return gauges;
+    }
+
+    /**
+     * @return the snapshots of timers, by name.
+     */
+    public Map<String, TimerSnapshot> timers() {
+        return timers;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final MetricsSnapshot that = (MetricsSnapshot) o;
+        return Objects.equals(counters, that.counters)
+                && Objects.equals(gauges, that.gauges)
+                && Objects.equals(timers, that.timers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(counters, gauges, timers);
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsSnapshot{"
+                + "counters="
+                + counters
+                + ", gauges="
+                + gauges
+                + ", timers="
+                + timers
+                + '}';
+    }
+
+    private static <V> Map<String, V> sorted(final Map<String, V> map) {
+        return Collections.unmodifiableMap(new TreeMap<>(map));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.extension.metric;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/** A registry that records nothing, for implementations that do not collect metrics. */
+final class NoOpMetricRegistry implements MetricRegistry {
+
+    static final NoOpMetricRegistry INSTANCE = new NoOpMetricRegistry();
+
+    private static final Counter COUNTER =
+            new Counter() {
+                @Override
+                public void add(final long delta) {}
+
+                @Override
+                public long count() {
+                    return 0;
+                }
+            };
+
+    private static final Timer TIMER =
+            new Timer() {
+                @Override
+                public void recordNanos(final long nanos) {}
+
+                @Override
+                public TimerSnapshot snapshot() {
+                    return TimerSnapshot.empty();
+                }
+            };
+
+    private static final MetricsSnapshot SNAPSHOT =
+            MetricsSnapshot.of(Map.of(), Map.of(), Map.of());
+
+    private NoOpMetricRegistry() {}
+
+    @Override
+    public Counter counter(final String name) {
+        requireNonNull(name, "name");
+        return COUNTER;
+    }
+
+    @Override
+    public Timer timer(final String name) {
+        requireNonNull(name, "name");
+        return TIMER;
+    }
+
+    @Override
+    public void gauge(final String name, final LongSupplier value) {
+        requireNonNull(name, "name");
+        requireNonNull(value, "value");
+    }
+
+    @Override
+    public MetricsSnapshot snapshot() {
+        return SNAPSHOT;
+    }
+}
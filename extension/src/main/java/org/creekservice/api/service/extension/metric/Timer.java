@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.extension.metric;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Records the distribution of durations, e.g. the latency of a call.
+ *
+ * <p>Durations are recorded into a fixed set of power-of-two buckets. Recording is striped across
+ * cells to avoid contention between threads and does not allocate, so is safe to use on hot paths.
+ */
+public interface Timer {
+
+    /**
+     * Record a duration.
+     *
+     * @param duration the duration to record. Negative durations are recorded as zero.
+     */
+    default void record(final Duration duration) {
+        recordNanos(duration.toNanos());
+    }
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos the duration to record, in nanoseconds. Negative durations are recorded as
+     *     zero.
+     */
+    void recordNanos(long nanos);
+
+    /**
+     * Time a call.
+     *
+     * <p>The duration of the call is recorded whether it returns or throws.
+     *
+     * @param call the call to time.
+     * @param <T> the result type.
+     * @return the result of the call.
+     */
+    default <T> T time(final Supplier<T> call) {
+        final long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            recordNanos(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return a snapshot of the recorded durations.
+     */
+    TimerSnapshot snapshot();
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.extension.metric;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of a {@link Timer}.
+ *
+ * <p>Durations are counted in {@link #BUCKETS} power-of-two buckets: bucket {@code 0} holds zero
+ * durations, and bucket {@code i} holds durations from {@code 2^(i-1)} to {@code 2^i - 1}
+ * nanoseconds. Hence, {@link #percentile percentiles} are accurate to within a factor of two.
+ *
+ * <p>The {@link #count()} and percentiles are derived from the same bucket counts, so are always
+ * consistent with each other. The {@link #total()} and {@link #max()} are read separately, so may
+ * include durations recorded while the snapshot was being taken.
+ */
+public final class TimerSnapshot {
+
+    /** The number of buckets durations are counted in. */
+    public static final int BUCKETS = Long.SIZE;
+
+    private static final TimerSnapshot EMPTY = new TimerSnapshot(new long[BUCKETS], 0, 0);
+
+    private final long[] buckets;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    /**
+     * @return a snapshot with no recorded durations.
+     */
+    public static TimerSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Create a snapshot.
+     *
+     * @param buckets the number of durations recorded in each bucket.
+     * @param totalNanos the sum of all recorded durations, in nanoseconds.
+     * @param maxNanos the maximum recorded duration, in nanoseconds.
+     * @return the snapshot.
+     * @throws IllegalArgumentException if {@code buckets} does not have {@link #BUCKETS} elements.
+     */
+    public static TimerSnapshot of(
+            final long[] buckets, final long totalNanos, final long maxNanos) {
+        if (requireNonNull(buckets, "buckets").length != BUCKETS) {
+            throw new IllegalArgumentException(
+                    "buckets must have " + BUCKETS + " elements: " + buckets.length);
+        }
+        return new TimerSnapshot(buckets.clone(), totalNanos, maxNanos);
+    }
+
+    /**
+     * Get the index of the bucket a duration is counted in.
+     *
+     * @param nanos the duration, in nanoseconds.
+     * @return the bucket index.
+     */
+    public static int bucketIndex(final long nanos) {
+        return nanos <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(nanos);
+    }
+
+    private TimerSnapshot(final long[] buckets, final long totalNanos, final long maxNanos) {
+        this.buckets = buckets;
+        this.count = Arrays.stream(buckets).sum();
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * @return the number of recorded durations.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return the sum of all recorded durations.
+     */
+    public Duration total() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    /**
+     * @return the maximum recorded duration, or zero if none recorded.
+     */
+    public Duration max() {
+        return Duration.ofNanos(maxNanos);
+    }
+
+    /**
+     * @return the mean recorded duration, or zero if none recorded.
+     */
+    public Duration mean() {
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+    }
+
+    /**
+     * Get an approximate percentile.
+     *
+     * <p>Returns the upper bound of the bucket containing the percentile, capped at the {@link
+     * #max()}.
+     *
+     * @param quantile the quantile, between {@code 0.0} and {@code 1.0}, e.g. {@code 0.99} for the
+     *     99th percentile.
+     * @return the percentile, or zero if none recorded.
+     * @throws IllegalArgumentException if {@code quantile} is out of range.
+     */
+    public Duration percentile(final double quantile) {
+        if (!(quantile >= 0.0 && quantile <= 1.0)) {
+            throw new IllegalArgumentException("quantile must be between 0 and 1: " + quantile);
+        }
+
+        if (count == 0) {
+            return Duration.ZERO;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Duration.ofNanos(Math.min(upperBound(i), maxNanos));
+            }
+        }
+        return max();
+    }
+
+    /**
+     * @return the number of durations recorded in each bucket.
+     */
+    public long[] buckets() {
+        return buckets.clone();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final TimerSnapshot that = (TimerSnapshot) o;
+        return totalNanos == that.totalNanos
+                && maxNanos == that.maxNanos
+                && Arrays.equals(buckets, that.buckets);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(buckets), totalNanos, maxNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "TimerSnapshot{"
+                + "count="
+                + count
+                + ", total="
+                + total()
+                + ", max="
+                + max()
+                + ", p50="
+                + percentile(0.5)
+                + ", p99="
+                + percentile(0.99)
+                + '}';
+    }
+
+    private static long upperBound(final int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
@@ -17,15 +17,98 @@
 package org.creekservice.api.service.extension;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 class CreekExtensionProvidersTest {
 
+    private static final ClassLoader CLASS_LOADER =
+            CreekExtensionProvidersTest.class.getClassLoader();
+
     @Test
     void shouldFindNoExtensionsByDefault() {
         assertThat(CreekExtensionProviders.load(), is(empty()));
     }
+
+    @Test
+    void shouldFindNoIndexByDefault() {
+        assertThat(CreekExtensionProviders.indexed(TestProvider.class), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldReturnEmptyIfIndexClassNotFound() {
+        assertThat(
+                CreekExtensionProviders.loadIndex("not.a.RealClass", CLASS_LOADER),
+                is(Optional.empty()));
+    }
+
+    @Test
+    void shouldLoadIndex() {
+        // When:
+        final Optional<CreekExtensionIndex> result =
+                CreekExtensionProviders.loadIndex(TestIndex.class.getName(), CLASS_LOADER);
+
+        // Then:
+        assertThat(result.map(Object::getClass), is(Optional.of(TestIndex.class)));
+    }
+
+    @Test
+    void shouldThrowIfIndexOfWrongType() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalStateException.class,
+                        () -> CreekExtensionProviders.loadIndex("java.lang.String", CLASS_LOADER));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Failed to load the extension index."));
+        assertThat(e.getMessage(), containsString("class: java.lang.String"));
+    }
+
+    @Test
+    void shouldLoadProvidersFromIndex() {
+        // When:
+        final List<CreekExtensionProvider<?>> result =
+                CreekExtensionProviders.load(Optional.of(new TestIndex()));
+
+        // Then:
+        assertThat(result, contains(instanceOf(TestProvider.class)));
+    }
+
+    @Test
+    void shouldThrowIfIndexFactoryReturnsWrongType() {
+        // Given:
+        final CreekExtensionIndex.Entry entry =
+                CreekExtensionIndex.Entry.entry(TestProvider.class, () -> null);
+
+        // When:
+        final Exception e = assertThrows(IllegalStateException.class, entry::create);
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                is("Index factory for " + TestProvider.class.getName() + " returned null"));
+    }
+
+    public static final class TestIndex implements CreekExtensionIndex {
+        @Override
+        public List<Entry> entries() {
+            return List.of(Entry.entry(TestProvider.class, TestProvider::new));
+        }
+    }
+
+    public static final class TestProvider implements CreekExtensionProvider<CreekExtension> {
+        @Override
+        public CreekExtension initialize(final CreekService api) {
+            return () -> "test";
+        }
+    }
 }
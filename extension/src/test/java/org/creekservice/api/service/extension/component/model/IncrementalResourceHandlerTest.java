@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.extension.component.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class IncrementalResourceHandlerTest {
+
+    private static final URI RES0_ID = URI.create("res://0");
+    private static final URI RES1_ID = URI.create("res://1");
+
+    @Mock private TestResource res0;
+    @Mock private TestResource res1;
+    private TestHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        when(res0.id()).thenReturn(RES0_ID);
+        when(res1.id()).thenReturn(RES1_ID);
+
+        handler = new TestHandler();
+    }
+
+    @Test
+    void shouldDescribeAllResourcesInOneCall() {
+        // When:
+        handler.ensureAsync(List.of(res0, res1)).toCompletableFuture().join();
+
+        // Then:
+        assertThat(handler.described, contains(List.of(res0, res1)));
+    }
+
+    @Test
+    void shouldApplyOnlyTheDelta() {
+        // Given:
+        handler.state.put(RES0_ID, "match");
+
+        // When:
+        handler.ensureAsync(List.of(res0, res1)).toCompletableFuture().join();
+
+        // Then:
+        assertThat(handler.applied.size(), is(1));
+        assertThat(handler.applied.get(0).missing(), contains(res1));
+        assertThat(handler.applied.get(0).matching(), contains(res0));
+    }
+
+    @Test
+    void shouldPassConflictsToApply() {
+        // Given:
+        handler.state.put(RES0_ID, "match");
+        handler.state.put(RES1_ID, "conflict");
+
+        // When:
+        handler.ensureAsync(List.of(res0, res1)).toCompletableFuture().join();
+
+        // Then:
+        assertThat(handler.applied.size(), is(1));
+        assertThat(handler.applied.get(0).conflicting().get(0).desired(), is(res1));
+        assertThat(handler.applied.get(0).conflicting().get(0).actual(), is("conflict"));
+    }
+
+    @Test
+    void shouldNotApplyIfNothingChanged() {
+        // Given:
+        handler.state.put(RES0_ID, "match");
+
+        // When:
+        final Void result = handler.ensureAsync(List.of(res0)).toCompletableFuture().join();
+
+        // Then:
+        assertThat(result, is(nullValue()));
+        assertThat(handler.applied, is(List.of()));
+    }
+
+    @Test
+    void shouldReturnFailedStageIfDescribeThrows() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("boom");
+        handler.describeFailure = expected;
+
+        // When:
+        final CompletableFuture<Void> result =
+                handler.ensureAsync(List.of(res0)).toCompletableFuture();
+
+        // Then:
+        final Exception e = assertThrows(CompletionException.class, result::join);
+        assertThat(e.getCause(), is(sameInstance(expected)));
+    }
+
+    @Test
+    void shouldEnsureBlockingViaEnsureAsync() {
+        // When:
+        handler.ensure(List.of(res0));
+
+        // Then:
+        assertThat(handler.applied.get(0).missing(), contains(res0));
+    }
+
+    @Test
+    void shouldThrowFailureFromBlockingEnsure() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("boom");
+        handler.describeFailure = expected;
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, () -> handler.ensure(List.of()));
+
+        // Then:
+        assertThat(e, is(sameInstance(expected)));
+    }
+
+    private interface TestResource extends ResourceDescriptor {}
+
+    private static final class TestHandler
+            implements IncrementalResourceHandler<TestResource, String> {
+
+        private final Map<URI, String> state = new HashMap<>();
+        private final List<Collection<? extends TestResource>> described = new ArrayList<>();
+        private final List<ResourceDiff<TestResource, String>> applied = new ArrayList<>();
+        private RuntimeException describeFailure;
+
+        @Override
+        public CompletionStage<Map<URI, String>> describeAsync(
+                final Collection<? extends TestResource> resources) {
+            if (describeFailure != null) {
+                throw describeFailure;
+            }
+            described.add(resources);
+            return CompletableFuture.completedFuture(Map.copyOf(state));
+        }
+
+        @Override
+        public boolean matches(final TestResource desired, final String actual) {
+            return actual.equals("match");
+        }
+
+        @Override
+        public CompletionStage<Void> applyAsync(final ResourceDiff<TestResource, String> diff) {
+            applied.add(diff);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void validate(final Collection<? extends TestResource> resourceGroup) {}
+
+        @Override
+        public void prepare(final Collection<? extends TestResource> resources) {}
+    }
+}
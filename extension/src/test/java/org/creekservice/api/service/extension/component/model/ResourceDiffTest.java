@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.extension.component.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+import com.google.common.testing.EqualsTester;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ResourceDiffTest {
+
+    private static final URI RES0_ID = URI.create("res://0");
+    private static final URI RES1_ID = URI.create("res://1");
+    private static final URI RES2_ID = URI.create("res://2");
+
+    @Mock private TestResource res0;
+    @Mock private TestResource res1;
+    @Mock private TestResource res2;
+
+    @BeforeEach
+    void setUp() {
+        when(res0.id()).thenReturn(RES0_ID);
+        when(res1.id()).thenReturn(RES1_ID);
+        when(res2.id()).thenReturn(RES2_ID);
+    }
+
+    @Test
+    void shouldClassifyResources() {
+        // When:
+        final ResourceDiff<TestResource, String> diff =
+                ResourceDiff.diff(
+                        List.of(res0, res1, res2),
+                        Map.of(RES1_ID, "match", RES2_ID, "other"),
+                        (desired, actual) -> actual.equals("match"));
+
+        // Then:
+        assertThat(diff.missing(), contains(res0));
+        assertThat(diff.matching(), contains(res1));
+        assertThat(diff.conflicting().size(), is(1));
+        assertThat(diff.conflicting().get(0).desired(), is(res2));
+        assertThat(diff.conflicting().get(0).actual(), is("other"));
+        assertThat(diff.hasChanges(), is(true));
+    }
+
+    @Test
+    void shouldHaveNoChangesIfAllMatch() {
+        // When:
+        final ResourceDiff<TestResource, String> diff =
+                ResourceDiff.diff(List.of(res0), Map.of(RES0_ID, "a"), (desired, actual) -> true);
+
+        // Then:
+        assertThat(diff.missing(), is(empty()));
+        assertThat(diff.conflicting(), is(empty()));
+        assertThat(diff.hasChanges(), is(false));
+    }
+
+    @Test
+    void shouldIgnoreStateOfUnrequestedResources() {
+        // When:
+        final ResourceDiff<TestResource, String> diff =
+                ResourceDiff.diff(List.of(res0), Map.of(RES1_ID, "a"), (desired, actual) -> true);
+
+        // Then:
+        assertThat(diff.missing(), contains(res0));
+        assertThat(diff.matching(), is(empty()));
+    }
+
+    @Test
+    void shouldImplementHashCodeAndEquals() {
+        new EqualsTester()
+                .addEqualityGroup(
+                        ResourceDiff.diff(List.of(res0), Map.of(), (d, a) -> true),
+                        ResourceDiff.diff(List.of(res0), Map.of(), (d, a) -> false))
+                .addEqualityGroup(ResourceDiff.diff(List.of(res1), Map.of(), (d, a) -> true))
+                .addEqualityGroup(
+                        ResourceDiff.diff(List.of(res0), Map.of(RES0_ID, "a"), (d, a) -> true))
+                .addEqualityGroup(
+                        ResourceDiff.diff(List.of(res0), Map.of(RES0_ID, "a"), (d, a) -> false))
+                .testEquals();
+    }
+
+    private interface TestResource extends ResourceDescriptor {}
+}
@@ -17,11 +17,16 @@
 package org.creekservice.api.service.extension.component.model;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.creekservice.api.platform.metadata.ResourceDescriptor;
 import org.junit.jupiter.api.Test;
 
@@ -40,14 +45,84 @@ class ResourceHandlerTest {
         assertThat(e.getMessage(), is("Not a handler of owned resources"));
     }
 
+    @Test
+    void shouldReturnFailedStageFromEnsureAsyncByDefault() {
+        // Given:
+        final TestResourceHandler handler = new TestResourceHandler();
+
+        // When:
+        final CompletableFuture<Void> result = handler.ensureAsync(List.of()).toCompletableFuture();
+
+        // Then:
+        final Exception e = assertThrows(CompletionException.class, result::join);
+        assertThat(e.getCause(), is(instanceOf(UnsupportedOperationException.class)));
+    }
+
+    @Test
+    void shouldDelegateValidateAsyncToValidate() {
+        // Given:
+        final TestResourceHandler handler = new TestResourceHandler();
+        final List<TestResource> resources = List.of(mock(TestResource.class));
+
+        // When:
+        final CompletableFuture<Void> result =
+                handler.validateAsync(resources).toCompletableFuture();
+
+        // Then:
+        assertThat(result.isDone(), is(true));
+        assertThat(handler.validated, is(resources));
+    }
+
+    @Test
+    void shouldReturnFailedStageIfValidateThrows() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("boom");
+        final TestResourceHandler handler = new TestResourceHandler();
+        handler.failure = expected;
+
+        // When:
+        final CompletableFuture<Void> result =
+                handler.validateAsync(List.of()).toCompletableFuture();
+
+        // Then:
+        final Exception e = assertThrows(CompletionException.class, result::join);
+        assertThat(e.getCause(), is(sameInstance(expected)));
+    }
+
+    @Test
+    void shouldDelegatePrepareAsyncToPrepare() {
+        // Given:
+        final TestResourceHandler handler = new TestResourceHandler();
+        final List<TestResource> resources = List.of(mock(TestResource.class));
+
+        // When:
+        final CompletableFuture<Void> result =
+                handler.prepareAsync(resources).toCompletableFuture();
+
+        // Then:
+        assertThat(result.isDone(), is(true));
+        assertThat(handler.prepared, is(resources));
+    }
+
     private interface TestResource extends ResourceDescriptor {}
 
     private static final class TestResourceHandler implements ResourceHandler<TestResource> {
 
+        private Collection<? extends TestResource> validated;
+        private Collection<? extends TestResource> prepared;
+        private RuntimeException failure;
+
         @Override
-        public void validate(final Collection<? extends TestResource> resourceGroup) {}
+        public void validate(final Collection<? extends TestResource> resourceGroup) {
+            if (failure != null) {
+                throw failure;
+            }
+            validated = resourceGroup;
+        }
 
         @Override
-        public void prepare(final Collection<? extends TestResource> resources) {}
+        public void prepare(final Collection<? extends TestResource> resources) {
+            prepared = resources;
+        }
     }
 }
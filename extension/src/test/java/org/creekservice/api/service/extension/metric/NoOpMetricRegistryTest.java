@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.extension.metric;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class NoOpMetricRegistryTest {
+
+    private final MetricRegistry registry = MetricRegistry.noOp();
+
+    @Test
+    void shouldNotCount() {
+        // Given:
+        final Counter counter = registry.counter("c");
+
+        // When:
+        counter.add(5);
+
+        // Then:
+        assertThat(counter.count(), is(0L));
+    }
+
+    @Test
+    void shouldNotTime() {
+        // Given:
+        final Timer timer = registry.timer("t");
+
+        // When:
+        timer.record(Duration.ofMillis(5));
+
+        // Then:
+        assertThat(timer.snapshot(), is(TimerSnapshot.empty()));
+    }
+
+    @Test
+    void shouldHaveEmptySnapshot() {
+        // Given:
+        registry.counter("c").increment();
+        registry.gauge("g", () -> 1);
+
+        // When:
+        final MetricsSnapshot snapshot = registry.snapshot();
+
+        // Then:
+        assertThat(snapshot, is(MetricsSnapshot.of(Map.of(), Map.of(), Map.of())));
+    }
+}
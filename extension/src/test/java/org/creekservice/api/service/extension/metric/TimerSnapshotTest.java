@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.service.extension.metric;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.testing.EqualsTester;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class TimerSnapshotTest {
+
+    @Test
+    void shouldImplementHashCodeAndEquals() {
+        new EqualsTester()
+                .addEqualityGroup(
+                        snapshot(0, 0, 1), snapshot(0, 0, 1), TimerSnapshot.of(buckets(1), 2, 2))
+                .addEqualityGroup(snapshot(0, 0, 2))
+                .addEqualityGroup(TimerSnapshot.of(buckets(1), 3, 2))
+                .addEqualityGroup(TimerSnapshot.of(buckets(1), 2, 3))
+                .addEqualityGroup(TimerSnapshot.empty())
+                .testEquals();
+    }
+
+    @Test
+    void shouldThrowOnWrongNumberOfBuckets() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> TimerSnapshot.of(new long[2], 0, 0));
+
+        // Then:
+        assertThat(e.getMessage(), is("buckets must have 64 elements: 2"));
+    }
+
+    @Test
+    void shouldCalculateBucketIndex() {
+        assertThat(TimerSnapshot.bucketIndex(-1), is(0));
+        assertThat(TimerSnapshot.bucketIndex(0), is(0));
+        assertThat(TimerSnapshot.bucketIndex(1), is(1));
+        assertThat(TimerSnapshot.bucketIndex(2), is(2));
+        assertThat(TimerSnapshot.bucketIndex(3), is(2));
+        assertThat(TimerSnapshot.bucketIndex(4), is(3));
+        assertThat(TimerSnapshot.bucketIndex(Long.MAX_VALUE), is(63));
+    }
+
+    @Test
+    void shouldReturnZerosIfEmpty() {
+        // Given:
+        final TimerSnapshot snapshot = TimerSnapshot.empty();
+
+        // Then:
+        assertThat(snapshot.count(), is(0L));
+        assertThat(snapshot.total(), is(Duration.ZERO));
+        assertThat(snapshot.max(), is(Duration.ZERO));
+        assertThat(snapshot.mean(), is(Duration.ZERO));
+        assertThat(snapshot.percentile(0.99), is(Duration.ZERO));
+    }
+
+    @Test
+    void shouldDeriveCountFromBuckets() {
+        assertThat(snapshot(1, 2, 3).count(), is(6L));
+    }
+
+    @Test
+    void shouldCalculateMean() {
+        assertThat(TimerSnapshot.of(buckets(4), 40, 20).mean(), is(Duration.ofNanos(10)));
+    }
+
+    @Test
+    void shouldReturnBucketUpperBoundAsPercentile() {
+        // Given: 90 durations in [4, 7] and 10 in [64, 127]:
+        final long[] buckets = new long[TimerSnapshot.BUCKETS];
+        buckets[3] = 90;
+        buckets[7] = 10;
+        final TimerSnapshot snapshot = TimerSnapshot.of(buckets, 1_000, 1_000);
+
+        // Then:
+        assertThat(snapshot.percentile(0.0), is(Duration.ofNanos(7)));
+        assertThat(snapshot.percentile(0.5), is(Duration.ofNanos(7)));
+        assertThat(snapshot.percentile(0.9), is(Duration.ofNanos(7)));
+        assertThat(snapshot.percentile(0.91), is(Duration.ofNanos(127)));
+        assertThat(snapshot.percentile(1.0), is(Duration.ofNanos(127)));
+    }
+
+    @Test
+    void shouldCapPercentileAtMax() {
+        // Given:
+        final long[] buckets = new long[TimerSnapshot.BUCKETS];
+        buckets[7] = 1;
+        final TimerSnapshot snapshot = TimerSnapshot.of(buckets, 65, 65);
+
+        // Then:
+        assertThat(snapshot.percentile(0.99), is(Duration.ofNanos(65)));
+    }
+
+    @Test
+    void shouldThrowOnInvalidQuantile() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> TimerSnapshot.empty().percentile(1.5));
+
+        // Then:
+        assertThat(e.getMessage(), is("quantile must be between 0 and 1: 1.5"));
+    }
+
+    @Test
+    void shouldNotExposeInternalBuckets() {
+        // Given:
+        final long[] buckets = buckets(1);
+        final TimerSnapshot snapshot = TimerSnapshot.of(buckets, 1, 1);
+
+        // When:
+        buckets[1] = 100;
+        snapshot.buckets()[1] = 100;
+
+        // Then:
+        assertThat(snapshot.count(), is(1L));
+    }
+
+    private static TimerSnapshot snapshot(final long... counts) {
+        final long[] buckets = new long[TimerSnapshot.BUCKETS];
+        System.arraycopy(counts, 0, buckets, 0, counts.length);
+        return TimerSnapshot.of(buckets, 2, 2);
+    }
+
+    private static long[] buckets(final long countInBucketTwo) {
+        final long[] buckets = new long[TimerSnapshot.BUCKETS];
+        buckets[2] = countInBucketTwo;
+        return buckets;
+    }
+}
@@ -23,5 +23,6 @@ include(
     "test-java-eight",
     "test-java-nine",
     "test-java-eight-extension",
-    "test-java-nine-extension"
+    "test-java-nine-extension",
+    "benchmarks"
 )